@@ -4,6 +4,7 @@ import asciiPanel.AsciiPanel;
 import maugrift.apwt.glyphs.ColorString;
 import maugrift.apwt.util.FileManager;
 import maugrift.apwt.util.Utility;
+import maugrift.eversector.ships.CoarseSimulation;
 
 import java.awt.*;
 import java.util.Properties;
@@ -59,6 +60,12 @@ public enum Option {
 	 */
 	HEIGHT("Display Height", 50, true),
 
+	/**
+	 * The distance in sectors from the player within which ships are fully
+	 * simulated. Ships further away follow a simpler model.
+	 */
+	SIMULATION_RADIUS("Simulation Radius", CoarseSimulation.RADIUS, true),
+
 	/**
 	 * The volume of the game's soundtrack.
 	 */
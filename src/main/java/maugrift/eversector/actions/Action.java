@@ -17,6 +17,21 @@ public interface Action
 	 */
 	String canExecute(Ship actor);
 
+	/**
+	 * Checks if the given ship can execute the action without creating a
+	 * message describing why it cannot. Actions checked frequently by AI ships
+	 * override this, and describe the result only in
+	 * {@link #canExecute(Ship)}.
+	 *
+	 * @param actor the ship executing the action
+	 * @return the result of the check, {@link Validation#VALID} if successful
+	 */
+	default Validation validate(Ship actor) {
+		return canExecute(actor) == null
+			? Validation.VALID
+			: Validation.NOT_ALLOWED;
+	}
+
 	/**
 	 * Returns true if the given ship can execute the action.
 	 *
@@ -24,7 +39,7 @@ public interface Action
 	 * @return true if the ship can execute the action
 	 */
 	default boolean canExecuteBool(Ship actor) {
-		return canExecute(actor) == null;
+		return validate(actor).isValid();
 	}
 
 	/**
@@ -42,6 +57,6 @@ public interface Action
 	 * @return true if the execution was successful
 	 */
 	default boolean executeBool(Ship actor) {
-		return execute(actor) == null;
+		return canExecuteBool(actor) && execute(actor) == null;
 	}
 }
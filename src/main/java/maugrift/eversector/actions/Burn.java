@@ -15,6 +15,19 @@ public class Burn implements Action
 	public static final int COST = 4;
 	public static final String SOUND_EFFECT = Paths.ENGINE;
 
+	/**
+	 * The shared burn in each direction, indexed by ordinal.
+	 */
+	private static final Burn[] DIRECTIONS;
+
+	static
+	{
+		DIRECTIONS = new Burn[Direction.values().length];
+		for (Direction direction : Direction.values()) {
+			DIRECTIONS[direction.ordinal()] = new Burn(direction);
+		}
+	}
+
 	private final Direction direction;
 
 	public Burn(Direction direction)
@@ -22,26 +35,57 @@ public class Burn implements Action
 		this.direction = direction;
 	}
 
+	/**
+	 * Gets the shared burn in the given direction.
+	 *
+	 * @param direction the direction of the burn
+	 * @return the burn in the direction
+	 */
+	public static Burn get(Direction direction)
+	{
+		return DIRECTIONS[direction.ordinal()];
+	}
+
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (actor.isInSector()) {
-			return "You must escape the sector before performing an interstellar burn.";
+			return Validation.IN_SECTOR;
 		}
 
 		if (direction.isDiagonal()) {
-			return "Diagonal burns are not allowed.";
+			return Validation.DIAGONAL;
 		}
 
 		if (getDestination(actor) == null) {
-			return "Invalid burn destination.";
+			return Validation.INVALID_DESTINATION;
 		}
 
-		return actor.validateResources(RESOURCE, COST, "initiate a burn");
+		return actor.checkResources(RESOURCE, COST);
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case IN_SECTOR:
+			return "You must escape the sector before performing an interstellar burn.";
+		case DIAGONAL:
+			return "Diagonal burns are not allowed.";
+		case INVALID_DESTINATION:
+			return "Invalid burn destination.";
+		case INSUFFICIENT_RESOURCES:
+			return actor.validateResources(RESOURCE, COST, "initiate a burn");
+		default:
+			return validation.getMessage();
+		}
 	}
 
 	@Override
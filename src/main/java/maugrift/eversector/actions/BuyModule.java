@@ -1,6 +1,7 @@
 package maugrift.eversector.actions;
 
 import maugrift.eversector.Paths;
+import maugrift.eversector.faction.Ledger;
 import maugrift.eversector.items.Module;
 import maugrift.eversector.items.Weapon;
 import maugrift.eversector.map.Station;
@@ -20,15 +21,14 @@ public class BuyModule implements Action
 	}
 
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
-		String validateDocking = actor.validateDocking();
-		if (validateDocking != null) {
-			return validateDocking;
+		if (!actor.isDocked()) {
+			return Validation.NOT_DOCKED;
 		}
 
 		// Module must be retrieved after it is known that the ship is docked
@@ -36,24 +36,47 @@ public class BuyModule implements Action
 		Module moduleObj = station.getModule(module);
 
 		if (moduleObj == null || moduleObj.getName() == null) {
-			if (Station.hasBaseModule(module)) {
-				return station + " does not sell modules of this type.";
-			}
-
-			return "The specified module does not exist.";
+			return Station.hasBaseModule(module)
+				? Validation.NOT_ALLOWED
+				: Validation.NO_ITEM;
 		}
 
 		if (!station.sells(moduleObj)) {
-			return station + " does not sell modules of this type.";
+			return Validation.NOT_ALLOWED;
 		}
 
 		if (moduleObj instanceof Weapon && actor.isPirate()) {
-			return station + " refuses to sell weaponry to pirates.";
+			return Validation.HOSTILE;
 		}
 
-		int price = moduleObj.getPrice();
+		return actor.checkFunds(station.getPrice(moduleObj));
+	}
 
-		return actor.validateFunds(price);
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case NOT_DOCKED:
+			return actor.validateDocking();
+		case NO_ITEM:
+			return "The specified module does not exist.";
+		case NOT_ALLOWED:
+			return actor.getSectorLocation().getStation()
+				+ " does not sell modules of this type.";
+		case HOSTILE:
+			return actor.getSectorLocation().getStation()
+				+ " refuses to sell weaponry to pirates.";
+		case INSUFFICIENT_CREDITS:
+			Station station = actor.getSectorLocation().getStation();
+			return actor.validateFunds(
+				station.getPrice(station.getModule(module))
+			);
+		default:
+			return validation.getMessage();
+		}
 	}
 
 	@Override
@@ -66,9 +89,18 @@ public class BuyModule implements Action
 
 		Station station = actor.getSectorLocation().getStation();
 		Module moduleObj = station.getModule(module);
+		int price = station.getPrice(moduleObj);
 
-		actor.addModule(moduleObj);
-		actor.changeCredits(station.getFaction(), -moduleObj.getPrice());
+		// The station's module is shared, so the ship receives its own copy
+		Module bought = moduleObj.copy();
+		bought.setPrice(price);
+		actor.addModule(bought);
+		actor.changeCredits(
+			station.getFaction(),
+			-price,
+			Ledger.Category.TRADES
+		);
+		station.recordTrade(moduleObj, 1);
 		actor.playPlayerSound(SOUND_EFFECT);
 		return null;
 	}
@@ -2,6 +2,7 @@ package maugrift.eversector.actions;
 
 import maugrift.eversector.Paths;
 import maugrift.eversector.faction.Faction;
+import maugrift.eversector.faction.Ledger;
 import maugrift.eversector.map.Planet;
 import maugrift.eversector.map.Region;
 import maugrift.eversector.map.Station;
@@ -16,37 +17,109 @@ import static maugrift.eversector.faction.Relationship.RelationshipType.ALLIANCE
 public class Claim implements Action
 {
 	public static final String SOUND_EFFECT = Paths.CLAIM;
+	public static final Claim INSTANCE = new Claim();
 
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (!actor.isAligned()) {
-			return "You must be part of a faction to claim territory.";
+			return Validation.NOT_ALIGNED;
 		}
 
-		Faction faction = actor.getFaction();
-
 		if (actor.isLanded()) {
-			return canExecute(actor, actor.getPlanetLocation().getRegion());
+			return validate(actor, actor.getPlanetLocation().getRegion());
 		}
 
 		if (actor.isDocked()) {
-			return canExecute(actor, actor.getSectorLocation().getStation());
+			return validate(actor, actor.getSectorLocation().getStation());
 		}
 
-		return "You must be landed or docked to claim territory.";
+		return Validation.WRONG_LOCATION;
 	}
 
-	public String canExecute(Ship actor, Region region)
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case NOT_ALIGNED:
+			return "You must be part of a faction to claim territory.";
+		case WRONG_LOCATION:
+			return "You must be landed or docked to claim territory.";
+		case NO_SHIP:
+			return validation.getMessage();
+		default:
+			return actor.isLanded()
+				? describe(validation, actor, actor.getPlanetLocation().getRegion())
+				: describe(validation, actor, actor.getSectorLocation().getStation());
+		}
+	}
+
+	/**
+	 * Checks if the given ship can claim the given region.
+	 *
+	 * @param actor  the ship claiming the region
+	 * @param region the region to claim
+	 * @return the result of the check, {@link Validation#VALID} if successful
+	 */
+	public Validation validate(Ship actor, Region region)
 	{
 		Faction faction = actor.getFaction();
 		Planet planet = region.getLocation().getPlanet();
 
 		if (actor.getCredits() < planet.getClaimCost()) {
+			return Validation.INSUFFICIENT_CREDITS;
+		}
+
+		if (!region.getType().isLand()) {
+			return Validation.CANNOT_CLAIM;
+		}
+
+		if (region.getFaction() == faction) {
+			return Validation.ALREADY_CLAIMED;
+		}
+
+		if (region.getNShips(region.getFaction()) > 0) {
+			return Validation.GUARDED;
+		}
+
+		return Validation.VALID;
+	}
+
+	/**
+	 * Checks if the given ship can claim the given region.
+	 *
+	 * @param actor  the ship claiming the region
+	 * @param region the region to claim
+	 * @return the error message created if the check fails, null if
+	 *         successful
+	 */
+	public String canExecute(Ship actor, Region region)
+	{
+		return describe(validate(actor, region), actor, region);
+	}
+
+	/**
+	 * Describes the result of checking if a ship can claim a region.
+	 *
+	 * @param validation the result of the check
+	 * @param actor      the ship claiming the region
+	 * @param region     the region to claim
+	 * @return the error message for the result, null if successful
+	 */
+	private String describe(Validation validation, Ship actor, Region region)
+	{
+		Planet planet = region.getLocation().getPlanet();
+		switch (validation) {
+		case VALID:
+			return null;
+		case INSUFFICIENT_CREDITS:
 			return (
 				"You cannot afford the "
 				+ planet.getClaimCost()
@@ -54,27 +127,21 @@ public class Claim implements Action
 				+ planet
 				+ "."
 			);
-		}
-
-		if (!region.getType().isLand()) {
+		case CANNOT_CLAIM:
 			return (
 				"The "
 				+ region.toString().toLowerCase()
 				+ " cannot be claimed."
 			);
-		}
-
-		if (region.getFaction() == faction) {
+		case ALREADY_CLAIMED:
 			return (
 				"The "
 				+ region.toString().toLowerCase()
 				+ " is already claimed by the "
-				+ faction
+				+ actor.getFaction()
 				+ "."
 			);
-		}
-
-		if (region.getNShips(region.getFaction()) > 0) {
+		case GUARDED:
 			return (
 				"There are currently ships of the "
 				+ region.getFaction()
@@ -82,31 +149,75 @@ public class Claim implements Action
 				+ region.toString().toLowerCase()
 				+ "."
 			);
+		default:
+			return validation.getMessage();
 		}
-
-		return null;
 	}
 
-	public String canExecute(Ship actor, Station station)
+	/**
+	 * Checks if the given ship can claim the given station.
+	 *
+	 * @param actor   the ship claiming the station
+	 * @param station the station to claim
+	 * @return the result of the check, {@link Validation#VALID} if successful
+	 */
+	public Validation validate(Ship actor, Station station)
 	{
 		Faction faction = actor.getFaction();
 
 		if (actor.getCredits() < Station.CLAIM_COST) {
-			return (
-				"You cannot afford the "
-				+ Station.CLAIM_COST
-				+ " credit cost to claim "
-				+ station
-				+ "."
-			);
+			return Validation.INSUFFICIENT_CREDITS;
 		}
 
 		// If the body is already claimed by solely your faction, return false
 		if (station.getFaction() == faction) {
-			return station + " is already claimed by the " + faction + ".";
+			return Validation.ALREADY_CLAIMED;
 		}
 
 		if (station.getNShips(station.getFaction()) > 0) {
+			return Validation.GUARDED;
+		}
+
+		return Validation.VALID;
+	}
+
+	/**
+	 * Checks if the given ship can claim the given station.
+	 *
+	 * @param actor   the ship claiming the station
+	 * @param station the station to claim
+	 * @return the error message created if the check fails, null if
+	 *         successful
+	 */
+	public String canExecute(Ship actor, Station station)
+	{
+		return describe(validate(actor, station), actor, station);
+	}
+
+	/**
+	 * Describes the result of checking if a ship can claim a station.
+	 *
+	 * @param validation the result of the check
+	 * @param actor      the ship claiming the station
+	 * @param station    the station to claim
+	 * @return the error message for the result, null if successful
+	 */
+	private String describe(Validation validation, Ship actor, Station station)
+	{
+		switch (validation) {
+		case VALID:
+			return null;
+		case INSUFFICIENT_CREDITS:
+			return (
+				"You cannot afford the "
+				+ Station.CLAIM_COST
+				+ " credit cost to claim "
+				+ station
+				+ "."
+			);
+		case ALREADY_CLAIMED:
+			return station + " is already claimed by the " + actor.getFaction() + ".";
+		case GUARDED:
 			return (
 				"There are currently ships of the "
 				+ station.getFaction()
@@ -114,9 +225,9 @@ public class Claim implements Action
 				+ station
 				+ "."
 			);
+		default:
+			return validation.getMessage();
 		}
-
-		return null;
 	}
 
 	@Override
@@ -133,7 +244,11 @@ public class Claim implements Action
 			Region region = actor.getPlanetLocation().getRegion();
 			Planet planet = actor.getSectorLocation().getPlanet();
 			int nRegions = planet.getNRegions();
-			actor.changeCredits(region.getFaction(), -planet.getClaimCost());
+			actor.changeCredits(
+				region.getFaction(),
+				-planet.getClaimCost(),
+				Ledger.Category.CLAIMS
+			);
 
 			if (ALLIANCE == faction.getRelationship(region.getFaction())) {
 				actor.changeReputation(faction, Reputation.CLAIM_ALLY / nRegions);
@@ -153,7 +268,11 @@ public class Claim implements Action
 		}
 
 		Station station = actor.getSectorLocation().getStation();
-		actor.changeCredits(station.getFaction(), -Station.CLAIM_COST);
+		actor.changeCredits(
+			station.getFaction(),
+			-Station.CLAIM_COST,
+			Ledger.Category.CLAIMS
+		);
 
 		if (ALLIANCE.equals(faction.getRelationship(station.getFaction()))) {
 			actor.changeReputation(faction, Reputation.CLAIM_ALLY);
@@ -71,7 +71,7 @@ public class Convert implements Action
 		converting.changeReputation(actorFaction, Reputation.CONVERT);
 		converting.changeReputation(oldFaction, -Reputation.CONVERT);
 
-		converting.addPlayerColorMessage(actor.toColorString()
+		converting.addPlayerColorMessage(() -> actor.toColorString()
 			.add(" has converted you to the ")
 			.add(actorFaction)
 			.add(".")
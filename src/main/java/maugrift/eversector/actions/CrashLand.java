@@ -16,40 +16,64 @@ public class CrashLand implements Action
 	 */
 	public static final int CRASH_THRESHOLD = 1;
 
+	public static final CrashLand INSTANCE = new CrashLand();
+
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (!actor.isInSector()) {
-			return "You must be at a planet's orbit to land.";
+			return Validation.NOT_IN_SECTOR;
 		}
 
 		if (actor.isDocked()) {
-			return "You cannot land while docked.";
+			return Validation.DOCKED;
 		}
 
 		if (actor.isLanded()) {
-			return "You are already landed.";
+			return Validation.LANDED;
 		}
 
 		Planet planet = actor.getSectorLocation().getPlanet();
 
 		if (planet == null) {
-			return "There is no planet at this orbit.";
+			return Validation.NO_PLANET;
 		}
 
 		if (!planet.getType().canLandOn()) {
+			return Validation.CANNOT_LAND;
+		}
+
+		return Validation.VALID;
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case NOT_IN_SECTOR:
+			return "You must be at a planet's orbit to land.";
+		case DOCKED:
+			return "You cannot land while docked.";
+		case LANDED:
+			return "You are already landed.";
+		case CANNOT_LAND:
 			return (
 				"You cannot land on "
-				+ Utility.addArticle(planet.getType().toString())
+				+ Utility.addArticle(
+					actor.getSectorLocation().getPlanet().getType().toString()
+				)
 				+ "."
 			);
+		default:
+			return validation.getMessage();
 		}
-
-		return null;
 	}
 
 	@Override
@@ -3,6 +3,7 @@ package maugrift.eversector.actions;
 import maugrift.apwt.glyphs.ColorString;
 import maugrift.eversector.Paths;
 import maugrift.eversector.faction.Faction;
+import maugrift.eversector.faction.Ledger;
 import maugrift.eversector.ships.Reputation;
 import maugrift.eversector.ships.Ship;
 
@@ -27,18 +28,37 @@ public class Distress implements Action
 		this.responder = null;
 	}
 
+	/**
+	 * Gets the faction being called for help.
+	 *
+	 * @return the faction being called for help, null if any faction may respond
+	 */
+	public Faction getResponder()
+	{
+		return responder;
+	}
+
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (responder == null) {
-			return "No factions have agreed to help you.";
+			return Validation.NO_TARGET;
 		}
 
-		return null;
+		return Validation.VALID;
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		return validation == Validation.NO_TARGET
+			? "No factions have agreed to help you."
+			: validation.getMessage();
 	}
 
 	@Override
@@ -54,12 +74,16 @@ public class Distress implements Action
 		}
 
 		actor.addPlayerColorMessage(
-			new ColorString("The ")
+			() -> new ColorString("The ")
 			.add(responder)
 			.add(" responds and warps supplies to your location.")
 		);
-		actor.changeCredits(responder, DISTRESS_CREDITS);
-		responder.changeEconomy(-actor.refill());
+		actor.changeCredits(
+			responder,
+			DISTRESS_CREDITS,
+			Ledger.Category.DISTRESS
+		);
+		responder.changeEconomy(-actor.refill(), Ledger.Category.DISTRESS);
 		actor.changeReputation(responder, Reputation.DISTRESS);
 		actor.playPlayerSound(SOUND_EFFECT);
 		return null;
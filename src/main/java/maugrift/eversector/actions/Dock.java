@@ -10,51 +10,72 @@ import maugrift.eversector.ships.Ship;
 public class Dock implements Action
 {
 	public static final String SOUND_EFFECT = Paths.DOCK;
+	public static final Dock INSTANCE = new Dock();
 
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (!actor.isInSector()) {
-			return "Ship must be in orbit to dock.";
+			return Validation.NOT_IN_SECTOR;
 		}
 
 		Station station = actor.getSectorLocation().getStation();
 
 		if (station == null) {
-			return "There is no station at this orbit.";
+			return Validation.NO_STATION;
 		}
 
 		if (actor.isLanded()) {
-			return "The ship cannot dock while landed.";
+			return Validation.LANDED;
 		}
 
 		if (actor.isDocked()) {
-			return "The ship is already docked with " + station + ".";
+			return Validation.DOCKED;
 		}
 
-		if (actor.isHostile(station.getFaction()) && actor.isAligned()) {
-			actor.setLocation(actor.getSectorLocation().dock());
+		if (
+			actor.isHostile(station.getFaction())
+			&& actor.isAligned()
+			&& !Claim.INSTANCE.validate(actor, station).isValid()
+		) {
+			return Validation.HOSTILE;
+		}
 
-			String claimExecution = new Claim().canExecute(actor);
-			if (claimExecution != null) {
-				actor.setLocation(actor.getStationLocation().undock());
-				return (
-					station
-					+ " is controlled by the hostile "
-					+ station.getFaction()
-					+ ", who deny you entry."
-				);
-			}
+		return Validation.VALID;
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
 			return null;
-		} else {
-			actor.setLocation(actor.getSectorLocation().dock());
+		case NOT_IN_SECTOR:
+			return "Ship must be in orbit to dock.";
+		case LANDED:
+			return "The ship cannot dock while landed.";
+		case DOCKED:
+			return (
+				"The ship is already docked with "
+				+ actor.getSectorLocation().getStation()
+				+ "."
+			);
+		case HOSTILE:
+			Station station = actor.getSectorLocation().getStation();
+			return (
+				station
+				+ " is controlled by the hostile "
+				+ station.getFaction()
+				+ ", who deny you entry."
+			);
+		default:
+			return validation.getMessage();
 		}
-
-		return null;
 	}
 
 	@Override
@@ -67,7 +88,7 @@ public class Dock implements Action
 
 		actor.setLocation(actor.getSectorLocation().dock());
 		if (actor.isHostile(actor.getStationLocation().getStation().getFaction())) {
-			new Claim().execute(actor);
+			Claim.INSTANCE.execute(actor);
 		}
 
 		actor.repairModules();
@@ -13,29 +13,46 @@ public class Enter implements Action
 	public static final String RESOURCE = Resource.FUEL;
 	public static final int COST = 1;
 	public static final String SOUND_EFFECT = Paths.ENGINE;
+	public static final Enter INSTANCE = new Enter();
 
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
-		Sector sector = actor.getLocation().getSector();
-
 		if (actor.isInSector()) {
-			return "You are already in " + sector + ".";
+			return Validation.IN_SECTOR;
 		}
 
-		if (sector.isEmpty()) {
-			return "There is nothing in " + sector + ".";
+		if (actor.getLocation().getSector().isEmpty()) {
+			return Validation.EMPTY_SECTOR;
 		}
 
-		return actor.validateResources(
-				RESOURCE,
-				COST,
-				"enter into orbit around " + sector
-			);
+		return actor.checkResources(RESOURCE, COST);
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case IN_SECTOR:
+			return "You are already in " + actor.getLocation().getSector() + ".";
+		case EMPTY_SECTOR:
+			return "There is nothing in " + actor.getLocation().getSector() + ".";
+		case INSUFFICIENT_RESOURCES:
+			return actor.validateResources(
+					RESOURCE,
+					COST,
+					"enter into orbit around " + actor.getLocation().getSector()
+				);
+		default:
+			return validation.getMessage();
+		}
 	}
 
 	@Override
@@ -12,39 +12,62 @@ public class Escape implements Action
 	public static final String RESOURCE = Resource.FUEL;
 	public static final int COST = 1;
 	public static final String SOUND_EFFECT = Paths.ENGINE;
+	public static final Escape INSTANCE = new Escape();
 
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (actor.isLanded()) {
-			return "You must be orbital before attempting an escape.";
+			return Validation.LANDED;
 		}
 
 		if (actor.isDocked()) {
-			return "You must undock before attempting an escape.";
+			return Validation.DOCKED;
 		}
 
 		if (!actor.isInSector()) {
-			return "You must be in a sector to escape from one.";
+			return Validation.NOT_IN_SECTOR;
 		}
 
 		if (actor.getSectorLocation().getOrbit() < actor.getLocation().getSector().getOrbits()) {
+			return Validation.INVALID_ORBIT;
+		}
+
+		return actor.checkResources(RESOURCE, COST);
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case LANDED:
+			return "You must be orbital before attempting an escape.";
+		case DOCKED:
+			return "You must undock before attempting an escape.";
+		case NOT_IN_SECTOR:
+			return "You must be in a sector to escape from one.";
+		case INVALID_ORBIT:
 			return (
 				"You must be at the furthest orbit of "
 				+ actor.getLocation().getSector()
 				+ " to attempt an escape."
 			);
+		case INSUFFICIENT_RESOURCES:
+			return actor.validateResources(
+					RESOURCE,
+					COST,
+					"escape the gravity of " + actor.getLocation().getSector()
+				);
+		default:
+			return validation.getMessage();
 		}
-
-		return actor.validateResources(
-				RESOURCE,
-				COST,
-				"escape the gravity of " + actor.getLocation().getSector()
-			);
 	}
 
 	@Override
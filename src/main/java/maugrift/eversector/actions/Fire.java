@@ -23,46 +23,87 @@ public class Fire implements Action
 		this.target = target;
 	}
 
+	/**
+	 * Gets the name of the weapon being fired.
+	 *
+	 * @return the name of the weapon being fired
+	 */
+	public String getWeapon()
+	{
+		return weapon;
+	}
+
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (actor == target) {
-			return "You cannot attack yourself.";
+			return Validation.SAME_SHIP;
 		}
 
 		if (weapon == null || !Station.hasBaseWeapon(weapon)) {
-			return "The specified weapon does not exist.";
+			return Validation.NO_ITEM;
 		}
 
 		if (target == null) {
-			return "The specified ship was not found.";
+			return Validation.NO_TARGET;
 		}
 
 		if (!actor.isInBattle()) {
-			return "You must be in a battle to fire a weapon.";
+			return Validation.NOT_IN_BATTLE;
 		}
 
-		if (actor.getBattleLocation().getBattle().getSurrendered().contains(actor)) {
-			return "You may not attack after surrendering";
+		if (actor.getBattleLocation().getBattle().isSurrendered(actor)) {
+			return Validation.SURRENDERED;
 		}
 
-		String validateModule = actor.validateModule(weapon, "fire");
-		if (validateModule != null) {
+		Validation validateModule = actor.checkModule(weapon);
+		if (!validateModule.isValid()) {
 			return validateModule;
 		}
 
 		Weapon weaponObj = actor.getWeapon(weapon);
-		return actor.validateResources(
+		return actor.checkResources(
 				weaponObj.getActionResource(),
-				weaponObj.getActionCost(),
-				"fire"
+				weaponObj.getActionCost()
 			);
 	}
 
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case SAME_SHIP:
+			return "You cannot attack yourself.";
+		case NO_ITEM:
+			return "The specified weapon does not exist.";
+		case NO_TARGET:
+			return "The specified ship was not found.";
+		case NOT_IN_BATTLE:
+			return "You must be in a battle to fire a weapon.";
+		case SURRENDERED:
+			return "You may not attack after surrendering";
+		case MODULE_MISSING:
+		case MODULE_DAMAGED:
+			return actor.validateModule(weapon, "fire");
+		case INSUFFICIENT_RESOURCES:
+			Weapon weaponObj = actor.getWeapon(weapon);
+			return actor.validateResources(
+					weaponObj.getActionResource(),
+					weaponObj.getActionCost(),
+					"fire"
+				);
+		default:
+			return validation.getMessage();
+		}
+	}
+
 	@Override
 	public String execute(Ship actor)
 	{
@@ -85,7 +126,7 @@ public class Fire implements Action
 		} else {
 			Battle battle = actor.getBattleLocation().getBattle();
 			Ship player = actor.getLocation().getGalaxy().getPlayer();
-			if (player != null && battle.getShips().contains(player)) {
+			if (player != null && battle.contains(player)) {
 				addColorMessage(
 					actor.toColorString()
 					.add(
@@ -15,23 +15,42 @@ public class Flee implements Action
 	public static final String RESOURCE = Resource.FUEL;
 	public static final int COST = 1;
 	public static final String SOUND_EFFECT = Paths.ENGINE;
+	public static final Flee INSTANCE = new Flee();
 
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (!actor.isInBattle()) {
-			return "You must be in a battle to flee.";
+			return Validation.NOT_IN_BATTLE;
 		}
 
-		if (actor.getBattleLocation().getBattle().getSurrendered().contains(actor)) {
-			return "You may not flee after surrendering";
+		if (actor.getBattleLocation().getBattle().isSurrendered(actor)) {
+			return Validation.SURRENDERED;
 		}
 
-		return actor.validateResources(RESOURCE, COST, "flee");
+		return actor.checkResources(RESOURCE, COST);
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case NOT_IN_BATTLE:
+			return "You must be in a battle to flee.";
+		case SURRENDERED:
+			return "You may not flee after surrendering";
+		case INSUFFICIENT_RESOURCES:
+			return actor.validateResources(RESOURCE, COST, "flee");
+		default:
+			return validation.getMessage();
+		}
 	}
 
 	@Override
@@ -44,12 +63,12 @@ public class Flee implements Action
 
 		Battle battle = actor.getBattleLocation().getBattle();
 		Ship player = actor.getLocation().getGalaxy().getPlayer();
-		if (player != null && actor != player && battle.getShips().contains(player)) {
+		if (player != null && actor != player && battle.contains(player)) {
 			addMessage(actor + " flees the battle.");
 		}
 
 		actor.getResource(RESOURCE).changeAmount(-COST);
-		actor.getBattleLocation().getBattle().getFleeing().add(actor);
+		battle.flee(actor);
 		actor.playPlayerSound(SOUND_EFFECT);
 		return null;
 	}
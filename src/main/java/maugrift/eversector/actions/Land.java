@@ -22,29 +22,53 @@ public class Land implements Action
 		this.coord = coord;
 	}
 
-	@Override
-	public String canExecute(Ship actor)
+	/**
+	 * Gets the coordinates of the region being landed in.
+	 *
+	 * @return the coordinates of the region being landed in
+	 */
+	public Coord getCoord()
 	{
-		if (actor == null) {
-			return "Ship not found.";
-		}
+		return coord;
+	}
 
-		String crashLandCheck = new CrashLand().canExecute(actor);
-		if (crashLandCheck != null) {
+	@Override
+	public Validation validate(Ship actor)
+	{
+		Validation crashLandCheck = CrashLand.INSTANCE.validate(actor);
+		if (!crashLandCheck.isValid()) {
 			return crashLandCheck;
 		}
 
-		Planet planet = actor.getSectorLocation().getPlanet();
-
-		if (!planet.contains(coord)) {
-			return "The specified region was not found on " + planet + ".";
+		if (!actor.getSectorLocation().getPlanet().contains(coord)) {
+			return Validation.INVALID_DESTINATION;
 		}
 
-		return actor.validateResources(
-				RESOURCE,
-				COST,
-				"land on " + actor.getSectorLocation().getPlanet()
+		return actor.checkResources(RESOURCE, COST);
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case INVALID_DESTINATION:
+			return (
+				"The specified region was not found on "
+				+ actor.getSectorLocation().getPlanet()
+				+ "."
 			);
+		case INSUFFICIENT_RESOURCES:
+			return actor.validateResources(
+					RESOURCE,
+					COST,
+					"land on " + actor.getSectorLocation().getPlanet()
+				);
+		default:
+			return CrashLand.INSTANCE.canExecute(actor);
+		}
 	}
 
 	@Override
@@ -4,6 +4,7 @@ import maugrift.eversector.items.Module;
 import maugrift.eversector.items.Resource;
 import maugrift.eversector.ships.Ship;
 import maugrift.apwt.util.Utility;
+import squidpony.squidmath.RNG;
 
 import static maugrift.eversector.Main.rng;
 import static maugrift.eversector.ships.Ship.LOOT_MODIFIER;
@@ -47,17 +48,20 @@ public class Loot implements Action
 		if (salvagedCredits > 0) {
 			actor.changeCredits(salvagedCredits);
 			actor.addPlayerMessage(
-				"Salvaged "
+				() -> "Salvaged "
 				+ salvagedCredits
 				+ " credits."
 			);
 		}
 
+		RNG random = actor.isInBattle()
+			? actor.getBattleLocation().getBattle().getRNG()
+			: rng;
 		for (Module module : looting.getModules()) {
-			if (module != null && rng.nextDouble() <= (1.0 / (double) LOOT_MODIFIER)) {
+			if (module != null && random.nextDouble() <= (1.0 / (double) LOOT_MODIFIER)) {
 				actor.addModule(module);
 				actor.addPlayerMessage(
-					"Salvaged "
+					() -> "Salvaged "
 					+ Utility.addArticle(module.getName())
 					+ "."
 				);
@@ -77,7 +81,7 @@ public class Loot implements Action
 
 				if (nExpanders > 0) {
 					actor.addPlayerMessage(
-						"Salvaged "
+						() -> "Salvaged "
 						+ nExpanders
 						+ " "
 						+ Utility.makePlural(
@@ -97,7 +101,7 @@ public class Loot implements Action
 
 				if (amountIncrease > 0) {
 					actor.addPlayerMessage(
-						"Salvaged "
+						() -> "Salvaged "
 						+ amountIncrease
 						+ " "
 						+ resource.getName().toLowerCase()
@@ -107,6 +111,7 @@ public class Loot implements Action
 			}
 		}
 
+		actor.updateOrbit();
 		return null;
 	}
 }
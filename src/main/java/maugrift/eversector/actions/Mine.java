@@ -19,50 +19,70 @@ public class Mine implements Action
 	public static final String RESOURCE = Resource.ENERGY;
 	public static final int COST = 3;
 	public static final String SOUND_EFFECT = Paths.MINE;
+	public static final Mine INSTANCE = new Mine();
 
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (!actor.isInSector()) {
-			return "You must be in a sector to mine.";
+			return Validation.NOT_IN_SECTOR;
 		}
 
 		Planet planet = actor.getSectorLocation().getPlanet();
 
 		if (planet == null) {
-			return "There is no planet here to mine from.";
+			return Validation.NO_PLANET;
 		}
 
 		if (!actor.isLanded() && !planet.getType().canMineFromOrbit()) {
-			return "You must be landed here to mine for ore.";
+			return Validation.NOT_LANDED;
 		}
 
-		if (actor.isLanded()) {
-			Region region = actor.getPlanetLocation().getRegion();
-			if (!region.hasOre()) {
-				return (
-					"There is no ore to mine in the "
-					+ region.toString().toLowerCase()
-					+ "."
-				);
-			}
+		if (actor.isLanded() && !actor.getPlanetLocation().getRegion().hasOre()) {
+			return Validation.NO_ORE;
 		}
 
-		Resource ore = actor.getResource(Resource.ORE);
-
-		if (ore.isFull()) {
-			return "Ore storage full; cannot acquire more.";
+		if (actor.getResource(Resource.ORE).isFull()) {
+			return Validation.STORAGE_FULL;
 		}
 
-		return actor.validateResources(
-				RESOURCE,
-				COST,
-				"initiate mining operation"
+		return actor.checkResources(RESOURCE, COST);
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case NOT_IN_SECTOR:
+			return "You must be in a sector to mine.";
+		case NO_PLANET:
+			return "There is no planet here to mine from.";
+		case NOT_LANDED:
+			return "You must be landed here to mine for ore.";
+		case NO_ORE:
+			return (
+				"There is no ore to mine in the "
+				+ actor.getPlanetLocation().getRegion().toString().toLowerCase()
+				+ "."
 			);
+		case STORAGE_FULL:
+			return "Ore storage full; cannot acquire more.";
+		case INSUFFICIENT_RESOURCES:
+			return actor.validateResources(
+					RESOURCE,
+					COST,
+					"initiate mining operation"
+				);
+		default:
+			return validation.getMessage();
+		}
 	}
 
 	@Override
@@ -85,7 +105,7 @@ public class Mine implements Action
 			region.extractOre(1);
 			if (!region.hasOre()) {
 				actor.addPlayerMessage(
-					"You have mined the "
+					() -> "You have mined the "
 					+ region
 					+ " dry."
 				);
@@ -95,7 +115,7 @@ public class Mine implements Action
 			// Chance of taking damage if mining from an asteroid belt
 			actor.damage(Planet.ASTEROID_DAMAGE, false);
 			actor.addPlayerMessage(
-				"Collided with an asteroid, dealing "
+				() -> "Collided with an asteroid, dealing "
 				+ Planet.ASTEROID_DAMAGE
 				+ " damage."
 			);
@@ -12,6 +12,8 @@ public class Orbit implements Action
 	public static final String RESOURCE = Resource.FUEL;
 	public static final int COST = 1;
 	public static final String SOUND_EFFECT = Paths.ENGINE;
+	public static final Orbit UP = new Orbit(true);
+	public static final Orbit DOWN = new Orbit(false);
 
 	private final boolean increase;
 
@@ -20,54 +22,103 @@ public class Orbit implements Action
 		this.increase = increase;
 	}
 
-	public String canExecute(Ship actor)
+	/**
+	 * Gets the shared orbital maneuver in the given direction.
+	 *
+	 * @param increase true if the orbit should increase
+	 * @return the orbital maneuver in the direction
+	 */
+	public static Orbit get(boolean increase)
+	{
+		return increase ? UP : DOWN;
+	}
+
+	@Override
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (!actor.isInSector()) {
-			return "You must be in a sector to orbit it.";
+			return Validation.NOT_IN_SECTOR;
 		}
 
 		if (actor.getLocation().getSector().isEmpty()) {
-			return "There is nothing to orbit in this sector.";
+			return Validation.EMPTY_SECTOR;
 		}
 
 		if (actor.isLanded()) {
-			return "You must be orbital before attempting a maneuver.";
+			return Validation.LANDED;
 		}
 
 		if (actor.isDocked()) {
-			return "You must undock before attempting an orbital maneuver.";
+			return Validation.DOCKED;
 		}
 
-		int orbit = actor.getSectorLocation().getOrbit();
-		int target = increase ? orbit + 1 : orbit - 1;
-
-		if (!actor.getLocation().getSector().isValidOrbit(target)) {
+		if (!actor.getLocation().getSector().isValidOrbit(getTarget(actor))) {
 			if (increase) {
-				return new Escape().canExecute(actor);
+				return Escape.INSTANCE.validate(actor);
 			}
 
+			return Validation.INVALID_ORBIT;
+		}
+
+		if (actor.getResource(RESOURCE) == null) {
+			return Validation.NO_ITEM;
+		}
+
+		return actor.checkResources(RESOURCE, COST);
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case NOT_IN_SECTOR:
+			return "You must be in a sector to orbit it.";
+		case EMPTY_SECTOR:
+			return "There is nothing to orbit in this sector.";
+		case LANDED:
+			return "You must be orbital before attempting a maneuver.";
+		case DOCKED:
+			return "You must undock before attempting an orbital maneuver.";
+		case INVALID_ORBIT:
 			return (
 				"Invalid orbit. Must be between 1 and "
 				+ actor.getLocation().getSector().getOrbits()
 				+ "."
 			);
-		}
-
-		Resource resource = actor.getResource(RESOURCE);
-
-		if (resource == null) {
+		case NO_ITEM:
 			return "Resource not found.";
+		case INSUFFICIENT_RESOURCES:
+			if (!actor.getLocation().getSector().isValidOrbit(getTarget(actor))) {
+				return Escape.INSTANCE.canExecute(actor);
+			}
+
+			return actor.validateResources(
+					RESOURCE,
+					COST,
+					"perform an orbital maneuver"
+				);
+		default:
+			return validation.getMessage();
 		}
+	}
 
-		return actor.validateResources(
-				resource,
-				COST,
-				"perform an orbital maneuver"
-			);
+	/**
+	 * Gets the orbit the actor is attempting to move to.
+	 *
+	 * @param actor the actor
+	 * @return the orbit the actor is attempting to move to
+	 */
+	private int getTarget(Ship actor)
+	{
+		int orbit = actor.getSectorLocation().getOrbit();
+		return increase ? orbit + 1 : orbit - 1;
 	}
 
 	@Override
@@ -78,12 +129,11 @@ public class Orbit implements Action
 			return canExecute;
 		}
 
-		int orbit = actor.getSectorLocation().getOrbit();
-		int target = increase ? orbit + 1 : orbit - 1;
+		int target = getTarget(actor);
 
 		if (!actor.getLocation().getSector().isValidOrbit(target)) {
 			// All other cases are ruled out by canExecute()
-			return new Escape().execute(actor);
+			return Escape.INSTANCE.execute(actor);
 		}
 
 		actor.setLocation(actor.getSectorLocation().setOrbit(target));
@@ -12,6 +12,7 @@ public class Pursue implements Action
 	public static final String RESOURCE = Resource.FUEL;
 	public static final int COST = 1;
 	public static final String SOUND_EFFECT = Paths.ENGINE;
+	public static final Pursue INSTANCE = new Pursue();
 
 	@Override
 	public String canExecute(Ship actor)
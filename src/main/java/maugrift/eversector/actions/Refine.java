@@ -12,23 +12,43 @@ public class Refine implements Action
 {
 	public static final String MODULE = Module.REFINERY;
 	public static final String SOUND_EFFECT = Paths.REFINE;
+	public static final Refine INSTANCE = new Refine();
 
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (!actor.getResource(Resource.ORE).canHold(-1)) {
-			return "Ship has no ore to refine.";
+			return Validation.NO_ORE;
 		}
 
 		if (!actor.getResource(Resource.FUEL).canHold(1)) {
-			return "Insufficient fuel storage.";
+			return Validation.STORAGE_FULL;
 		}
 
-		return actor.validateModule(MODULE, "refine ore");
+		return actor.checkModule(MODULE);
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case NO_ORE:
+			return "Ship has no ore to refine.";
+		case STORAGE_FULL:
+			return "Insufficient fuel storage.";
+		case MODULE_MISSING:
+		case MODULE_DAMAGED:
+			return actor.validateModule(MODULE, "refine ore");
+		default:
+			return validation.getMessage();
+		}
 	}
 
 	@Override
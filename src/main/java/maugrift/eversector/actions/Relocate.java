@@ -15,6 +15,19 @@ public class Relocate implements Action
 	public static final int COST = 1;
 	public static final String SOUND_EFFECT = Paths.ENGINE;
 
+	/**
+	 * The shared relocate in each direction, indexed by ordinal.
+	 */
+	private static final Relocate[] DIRECTIONS;
+
+	static
+	{
+		DIRECTIONS = new Relocate[Direction.values().length];
+		for (Direction direction : Direction.values()) {
+			DIRECTIONS[direction.ordinal()] = new Relocate(direction);
+		}
+	}
+
 	private final Direction direction;
 
 	public Relocate(Direction direction)
@@ -22,26 +35,57 @@ public class Relocate implements Action
 		this.direction = direction;
 	}
 
+	/**
+	 * Gets the shared relocate in the given direction.
+	 *
+	 * @param direction the direction of the relocate
+	 * @return the relocate in the direction
+	 */
+	public static Relocate get(Direction direction)
+	{
+		return DIRECTIONS[direction.ordinal()];
+	}
+
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (!actor.isLanded()) {
-			return "You must already be landed on a planet to relocate.";
+			return Validation.NOT_LANDED;
 		}
 
 		if (direction.isDiagonal()) {
-			return "Diagonal relocation is not allowed.";
+			return Validation.DIAGONAL;
 		}
 
 		if (getDestination(actor) == null) {
-			return "Invalid region specified.";
+			return Validation.INVALID_DESTINATION;
 		}
 
-		return actor.validateResources(RESOURCE, COST, "relocate");
+		return actor.checkResources(RESOURCE, COST);
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case NOT_LANDED:
+			return "You must already be landed on a planet to relocate.";
+		case DIAGONAL:
+			return "Diagonal relocation is not allowed.";
+		case INVALID_DESTINATION:
+			return "Invalid region specified.";
+		case INSUFFICIENT_RESOURCES:
+			return actor.validateResources(RESOURCE, COST, "relocate");
+		default:
+			return validation.getMessage();
+		}
 	}
 
 	@Override
@@ -1,6 +1,7 @@
 package maugrift.eversector.actions;
 
 import maugrift.eversector.Paths;
+import maugrift.eversector.faction.Ledger;
 import maugrift.eversector.items.Module;
 import maugrift.eversector.map.Station;
 import maugrift.eversector.ships.Ship;
@@ -20,19 +21,18 @@ public class SellModule implements Action
 	}
 
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
-		String validateDocking = actor.validateDocking();
-		if (validateDocking != null) {
-			return validateDocking;
+		if (!actor.isDocked()) {
+			return Validation.NOT_DOCKED;
 		}
 
 		if (!actor.hasModule(module)) {
-			return "You do not have the specified module installed.";
+			return Validation.MODULE_MISSING;
 		}
 
 		// Module must be retrieved after it is known that the ship is docked
@@ -40,18 +40,37 @@ public class SellModule implements Action
 		Module moduleObj = station.getModule(module);
 
 		if (moduleObj == null) {
-			return (
-				Station.hasBaseModule(module)
-				? station + " will not accept a module of this type."
-				: "The specified module does not exist."
-			);
+			return Station.hasBaseModule(module)
+				? Validation.NOT_ALLOWED
+				: Validation.NO_ITEM;
 		}
 
 		if (!station.sells(moduleObj)) {
-			return station + " will not accept a module of this type.";
+			return Validation.NOT_ALLOWED;
 		}
 
-		return null;
+		return Validation.VALID;
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case NOT_DOCKED:
+			return actor.validateDocking();
+		case MODULE_MISSING:
+			return "You do not have the specified module installed.";
+		case NO_ITEM:
+			return "The specified module does not exist.";
+		case NOT_ALLOWED:
+			return actor.getSectorLocation().getStation()
+				+ " will not accept a module of this type.";
+		default:
+			return validation.getMessage();
+		}
 	}
 
 	@Override
@@ -66,7 +85,12 @@ public class SellModule implements Action
 		Module moduleObj = station.getModule(module);
 
 		actor.removeModule(moduleObj);
-		actor.changeCredits(station.getFaction(), moduleObj.getPrice());
+		actor.changeCredits(
+			station.getFaction(),
+			station.getPrice(moduleObj),
+			Ledger.Category.TRADES
+		);
+		station.recordTrade(moduleObj, -1);
 		actor.playPlayerSound(SOUND_EFFECT);
 		return null;
 	}
@@ -9,7 +9,8 @@ import java.util.List;
 
 /**
  * Starts a battle with the given ship. Prompts other ships to join the battle.
- * Processes the battle if the player does not participate in it.
+ * Queues the battle to be processed at the end of the turn if the player does
+ * not participate in it.
  *
  * @author Aaron Friesen
  */
@@ -22,22 +23,57 @@ public class StartBattle implements Action
 		this.opponent = opponent;
 	}
 
+	/**
+	 * Gets the ship being attacked.
+	 *
+	 * @return the ship being attacked
+	 */
+	public Ship getOpponent()
+	{
+		return opponent;
+	}
+
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (actor == opponent) {
-			return "You cannot attack yourself.";
+			return Validation.SAME_SHIP;
+		}
+
+		if (actor.isInBattle()) {
+			return Validation.IN_BATTLE;
+		}
+
+		// Ships in a queued battle are still in their sector's orbit
+		if (opponent.isInBattle()) {
+			return Validation.TARGET_IN_BATTLE;
 		}
 
 		if (!actor.getLocation().equals(opponent.getLocation())) {
-			return "You must be at the same location as the chosen ship.";
+			return Validation.NOT_PRESENT;
 		}
 
-		return null;
+		return Validation.VALID;
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case SAME_SHIP:
+			return "You cannot attack yourself.";
+		case NOT_PRESENT:
+			return "You must be at the same location as the chosen ship.";
+		case TARGET_IN_BATTLE:
+			return "The chosen ship is already in a battle.";
+		default:
+			return validation.getMessage();
+		}
 	}
 
 	@Override
@@ -62,7 +98,7 @@ public class StartBattle implements Action
 		if (opponent.isPlayer()) {
 			Main.pendingBattle = battle;
 			opponent.addPlayerColorMessage(
-				new ColorString("You are under attack from ")
+				() -> new ColorString("You are under attack from ")
 				.add(actor)
 				.add("!")
 			);
@@ -70,7 +106,7 @@ public class StartBattle implements Action
 		}
 
 		if (!actor.isPlayer()) {
-			battle.processBattle();
+			actor.getLocation().getGalaxy().queueBattle(battle);
 		}
 
 		return null;
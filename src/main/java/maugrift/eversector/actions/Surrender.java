@@ -10,6 +10,8 @@ import static maugrift.eversector.Main.addMessage;
  */
 public class Surrender implements Action
 {
+	public static final Surrender INSTANCE = new Surrender();
+
 	@Override
 	public String canExecute(Ship actor)
 	{
@@ -34,7 +36,7 @@ public class Surrender implements Action
 
 		Battle battle = actor.getBattleLocation().getBattle();
 		Ship player = actor.getLocation().getGalaxy().getPlayer();
-		if (player != null && battle.getShips().contains(player)) {
+		if (player != null && battle.contains(player)) {
 			addMessage(
 				actor == player
 				? "You surrender."
@@ -42,7 +44,7 @@ public class Surrender implements Action
 			);
 		}
 
-		actor.getBattleLocation().getBattle().getSurrendered().add(actor);
+		battle.surrender(actor);
 		return null;
 	}
 }
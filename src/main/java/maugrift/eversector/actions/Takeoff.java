@@ -12,23 +12,35 @@ public class Takeoff implements Action
 	public static final String RESOURCE = Resource.FUEL;
 	public static final int COST = 2;
 	public static final String SOUND_EFFECT = Paths.ENGINE;
+	public static final Takeoff INSTANCE = new Takeoff();
 
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (!actor.isLanded()) {
-			return "You are not landed.";
+			return Validation.NOT_LANDED;
+		}
+
+		return actor.checkResources(RESOURCE, COST);
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		if (validation == Validation.INSUFFICIENT_RESOURCES) {
+			return actor.validateResources(
+					RESOURCE,
+					COST,
+					"takeoff from the " + actor.getPlanetLocation().getRegion()
+				);
 		}
 
-		return actor.validateResources(
-				RESOURCE,
-				COST,
-				"takeoff from the " + actor.getPlanetLocation().getRegion()
-			);
+		return validation.getMessage();
 	}
 
 	@Override
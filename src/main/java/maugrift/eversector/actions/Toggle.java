@@ -16,6 +16,8 @@ public class Toggle implements Action
 {
 	public static final String SOUND_EFFECT_ENABLE = Paths.ON;
 	public static final String SOUND_EFFECT_DISABLE = Paths.OFF;
+	public static final Toggle SHIELD = new Toggle(Module.SHIELD);
+	public static final Toggle CLOAKING_DEVICE = new Toggle(Module.CLOAKING_DEVICE);
 
 	private final String module;
 
@@ -25,41 +27,66 @@ public class Toggle implements Action
 	}
 
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		Module moduleObj = actor.getModule(module);
 
 		if (moduleObj == null) {
-			return "The specified module was not found on the ship.";
+			return Validation.NO_ITEM;
 		}
 
-		String validateModule = actor.validateModule(module);
-		if (validateModule != null) {
+		Validation validateModule = actor.checkModule(module);
+		if (!validateModule.isValid()) {
 			return validateModule;
 		}
 
 		String effect = moduleObj.getEffect();
 
 		if (effect == null) {
-			return (
-				Utility.addCapitalizedArticle(moduleObj.getName())
-				+ " cannot be activated."
-			);
+			return Validation.NOT_ALLOWED;
 		}
 
 		if (actor.hasFlag(effect)) {
-			return null;
+			return Validation.VALID;
 		}
 
-		return actor.validateResources(
+		return actor.checkResources(
 				moduleObj.getActionResource(),
-				moduleObj.getActionCost(),
-				"activate " + moduleObj
+				moduleObj.getActionCost()
+			);
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case NO_ITEM:
+			return "The specified module was not found on the ship.";
+		case MODULE_MISSING:
+		case MODULE_DAMAGED:
+			return actor.validateModule(module);
+		case NOT_ALLOWED:
+			return (
+				Utility.addCapitalizedArticle(actor.getModule(module).getName())
+				+ " cannot be activated."
 			);
+		case INSUFFICIENT_RESOURCES:
+			Module moduleObj = actor.getModule(module);
+			return actor.validateResources(
+					moduleObj.getActionResource(),
+					moduleObj.getActionCost(),
+					"activate " + moduleObj
+				);
+		default:
+			return validation.getMessage();
+		}
 	}
 
 	@Override
@@ -102,7 +129,7 @@ public class Toggle implements Action
 		} else if (actor.isInBattle()) {
 			Battle battle = actor.getBattleLocation().getBattle();
 			Ship player = actor.getLocation().getGalaxy().getPlayer();
-			if (player != null && battle.getShips().contains(player)) {
+			if (player != null && battle.contains(player)) {
 				addMessage(
 					actor
 					+ " "
@@ -1,6 +1,7 @@
 package maugrift.eversector.actions;
 
 import maugrift.eversector.Paths;
+import maugrift.eversector.faction.Ledger;
 import maugrift.eversector.items.Expander;
 import maugrift.eversector.items.Resource;
 import maugrift.eversector.map.Station;
@@ -32,19 +33,18 @@ public class TransactResource implements Action
 	}
 
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
-		String validateDocking = actor.validateDocking();
-		if (validateDocking != null) {
-			return validateDocking;
+		if (!actor.isDocked()) {
+			return Validation.NOT_DOCKED;
 		}
 
 		if (quantity == 0) {
-			return "Quantity of items in transaction must be positive.";
+			return Validation.INVALID_QUANTITY;
 		}
 
 		Resource resourceObj = actor.getResource(resource);
@@ -55,66 +55,102 @@ public class TransactResource implements Action
 			Expander expander = station.getExpander(resource);
 
 			if (expander == null) {
-				return "The specified item does not exist.";
+				return Validation.NO_ITEM;
 			}
 
 			resourceObj = actor.getResourceFromExpander(expander.getName());
-			int price = expander.getPrice() * quantity;
+			int price = station.getPrice(expander) * quantity;
 
-			String validateFunds = actor.validateFunds(price);
-			if (validateFunds != null) {
+			Validation validateFunds = actor.checkFunds(price);
+			if (!validateFunds.isValid()) {
 				return validateFunds;
 			}
 
 			if (quantity > 0 && resourceObj.getNExpanders() + 1 > Ship.MAX_EXPANDERS) {
-				return (
-					"The ship cannot store over "
-					+ Ship.MAX_EXPANDERS
-					+ " "
-					+ expander.getName().toLowerCase()
-					+ "s."
-				);
+				return Validation.STORAGE_FULL;
 			} else if (quantity < 0 && !resourceObj.canExpand(-1)) {
-				return "No expanders to sell.";
+				return Validation.NOTHING_TO_SELL;
 			}
 
-			return null;
+			return Validation.VALID;
 		}
 
 		if (!resourceObj.canSell() && quantity < 0) {
-			return resourceObj + " cannot be sold.";
+			return Validation.NOT_ALLOWED;
 		}
 
-		int price = station.getResource(resource).getPrice() * quantity;
+		int price = station.getPrice(resourceObj) * quantity;
 
-		String validateFunds = actor.validateFunds(price);
-		if (validateFunds != null) {
+		Validation validateFunds = actor.checkFunds(price);
+		if (!validateFunds.isValid()) {
 			return validateFunds;
 		}
 
-		if (!resourceObj.canHold(quantity)) {
-			if (actor.isPlayer()) {
-				if (quantity > 0) {
-					return (
-						"Inadequate storage; have "
-						+ resourceObj.getCapacity()
-						+ ", need"
-						+ (resourceObj.getAmount() + quantity)
-						+ "."
-					);
-				}
+		if (!resourceObj.canHold(quantity) && actor.isPlayer()) {
+			return quantity > 0
+				? Validation.STORAGE_FULL
+				: Validation.NOTHING_TO_SELL;
+		}
 
+		return Validation.VALID;
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		if (validation == Validation.VALID || validation == Validation.NO_SHIP) {
+			return validation.getMessage();
+		}
+
+		Resource resourceObj = actor.getResource(resource);
+		Station station = actor.getSectorLocation().getStation();
+		switch (validation) {
+		case NOT_DOCKED:
+			return actor.validateDocking();
+		case INVALID_QUANTITY:
+			return "Quantity of items in transaction must be positive.";
+		case INSUFFICIENT_CREDITS:
+			return actor.validateFunds(
+				resourceObj == null
+				? station.getPrice(station.getExpander(resource)) * quantity
+				: station.getPrice(resourceObj) * quantity
+			);
+		case STORAGE_FULL:
+			if (resourceObj == null) {
 				return (
-					"Inadequate resources to sell; have "
-					+ resourceObj.getAmount()
-					+ ", need "
-					+ Math.abs(quantity)
-					+ "."
+					"The ship cannot store over "
+					+ Ship.MAX_EXPANDERS
+					+ " "
+					+ station.getExpander(resource).getName().toLowerCase()
+					+ "s."
 				);
 			}
-		}
 
-		return null;
+			return (
+				"Inadequate storage; have "
+				+ resourceObj.getCapacity()
+				+ ", need"
+				+ (resourceObj.getAmount() + quantity)
+				+ "."
+			);
+		case NOTHING_TO_SELL:
+			if (resourceObj == null) {
+				return "No expanders to sell.";
+			}
+
+			return (
+				"Inadequate resources to sell; have "
+				+ resourceObj.getAmount()
+				+ ", need "
+				+ Math.abs(quantity)
+				+ "."
+			);
+		case NOT_ALLOWED:
+			return resourceObj + " cannot be sold.";
+		default:
+			return validation.getMessage();
+		}
 	}
 
 	@Override
@@ -133,21 +169,32 @@ public class TransactResource implements Action
 		if (resourceObj == null) {
 			Expander expander = station.getExpander(resource);
 			resourceObj = actor.getResourceFromExpander(expander.getName());
-			int price = expander.getPrice() * quantity;
+			int price = station.getPrice(expander) * quantity;
 
 			actor.changeCredits(
 				station.getFaction(),
-				resourceObj.getPrice() * Math.max(
+				station.getPrice(resourceObj) * Math.max(
 					0,
 					resourceObj.getAmount() - resourceObj.getCapacity()
-				)
+				),
+				Ledger.Category.TRADES
 			);
 			resourceObj.expand(quantity);
-			actor.changeCredits(station.getFaction(), -price);
+			actor.changeCredits(
+				station.getFaction(),
+				-price,
+				Ledger.Category.TRADES
+			);
+			station.recordTrade(expander, quantity);
 		} else {
-			int price = station.getResource(resource).getPrice() * quantity;
+			int price = station.getPrice(resourceObj) * quantity;
 			resourceObj.changeAmount(quantity);
-			actor.changeCredits(station.getFaction(), -price);
+			actor.changeCredits(
+				station.getFaction(),
+				-price,
+				Ledger.Category.TRADES
+			);
+			station.recordTrade(resourceObj, quantity);
 		}
 
 		if (sound) {
@@ -9,19 +9,26 @@ import maugrift.eversector.ships.Ship;
 public class Undock implements Action
 {
 	public static final String SOUND_EFFECT = Paths.DOCK;
+	public static final Undock INSTANCE = new Undock();
 
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (!actor.isDocked()) {
-			return "You are not docked.";
+			return Validation.NOT_DOCKED;
 		}
 
-		return null;
+		return Validation.VALID;
+	}
+
+	@Override
+	public String canExecute(Ship actor)
+	{
+		return validate(actor).getMessage();
 	}
 
 	@Override
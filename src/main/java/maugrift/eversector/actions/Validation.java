@@ -0,0 +1,241 @@
+package maugrift.eversector.actions;
+
+/**
+ * The result of checking whether a ship can execute an action. Checking an
+ * action only produces one of these codes, and the message describing a
+ * failure is only created when it is requested, since most checks are made
+ * by AI ships that never read the message.
+ *
+ * @author Aaron Friesen
+ * @see Action#validate(maugrift.eversector.ships.Ship)
+ */
+public enum Validation
+{
+	/**
+	 * The action can be executed.
+	 */
+	VALID(null),
+
+	/**
+	 * The ship executing the action does not exist.
+	 */
+	NO_SHIP("Ship not found."),
+
+	/**
+	 * The ship must be part of a faction.
+	 */
+	NOT_ALIGNED("You must be part of a faction to do that."),
+
+	/**
+	 * The ship must be in a sector.
+	 */
+	NOT_IN_SECTOR("You must be in a sector to do that."),
+
+	/**
+	 * The ship must not be in a sector.
+	 */
+	IN_SECTOR("You must not be in a sector to do that."),
+
+	/**
+	 * There is nothing in the sector.
+	 */
+	EMPTY_SECTOR("There is nothing in this sector."),
+
+	/**
+	 * The ship must be landed.
+	 */
+	NOT_LANDED("You are not landed."),
+
+	/**
+	 * The ship must not be landed.
+	 */
+	LANDED("You must be orbital to do that."),
+
+	/**
+	 * The ship must be docked.
+	 */
+	NOT_DOCKED("You are not docked."),
+
+	/**
+	 * The ship must not be docked.
+	 */
+	DOCKED("You must undock to do that."),
+
+	/**
+	 * The ship is not at a location where the action can be executed.
+	 */
+	WRONG_LOCATION("You cannot do that here."),
+
+	/**
+	 * The ship must be in a battle.
+	 */
+	NOT_IN_BATTLE("You must be in a battle to do that."),
+
+	/**
+	 * The ship must not be in a battle.
+	 */
+	IN_BATTLE("You must not be in a battle to do that."),
+
+	/**
+	 * The target is already in a battle.
+	 */
+	TARGET_IN_BATTLE("The target is already in a battle."),
+
+	/**
+	 * The ship has surrendered in its battle.
+	 */
+	SURRENDERED("You may not do that after surrendering."),
+
+	/**
+	 * There is no planet at the ship's orbit.
+	 */
+	NO_PLANET("There is no planet at this orbit."),
+
+	/**
+	 * There is no station at the ship's orbit.
+	 */
+	NO_STATION("There is no station at this orbit."),
+
+	/**
+	 * There is no ore to use.
+	 */
+	NO_ORE("There is no ore here."),
+
+	/**
+	 * The item specified does not exist.
+	 */
+	NO_ITEM("The specified item does not exist."),
+
+	/**
+	 * The target of the action does not exist.
+	 */
+	NO_TARGET("The target was not found."),
+
+	/**
+	 * The target of the action is the ship executing it.
+	 */
+	SAME_SHIP("You cannot target yourself."),
+
+	/**
+	 * The target of the action is not at the ship's location.
+	 */
+	NOT_PRESENT("You must be at the same location as the target."),
+
+	/**
+	 * The destination of the action does not exist.
+	 */
+	INVALID_DESTINATION("Invalid destination."),
+
+	/**
+	 * The action would move the ship to an orbit that does not exist.
+	 */
+	INVALID_ORBIT("Invalid orbit."),
+
+	/**
+	 * The quantity given for the action is not allowed.
+	 */
+	INVALID_QUANTITY("Invalid quantity."),
+
+	/**
+	 * The action was given a diagonal direction.
+	 */
+	DIAGONAL("Diagonal movement is not allowed."),
+
+	/**
+	 * The planet at the ship's orbit cannot be landed on.
+	 */
+	CANNOT_LAND("You cannot land here."),
+
+	/**
+	 * The territory cannot be claimed.
+	 */
+	CANNOT_CLAIM("This territory cannot be claimed."),
+
+	/**
+	 * The territory is already claimed by the ship's faction.
+	 */
+	ALREADY_CLAIMED("This territory is already claimed."),
+
+	/**
+	 * Ships of the territory's owner are guarding it.
+	 */
+	GUARDED("This territory is guarded."),
+
+	/**
+	 * The owner of the location is hostile to the ship.
+	 */
+	HOSTILE("You are denied entry."),
+
+	/**
+	 * The action is not allowed for another reason.
+	 */
+	NOT_ALLOWED("You cannot do that."),
+
+	/**
+	 * The ship does not have a module required for the action.
+	 */
+	MODULE_MISSING("A required module is missing."),
+
+	/**
+	 * A module required for the action is too damaged to function.
+	 */
+	MODULE_DAMAGED("A required module is too damaged to function."),
+
+	/**
+	 * The ship does not have enough of a resource for the action.
+	 */
+	INSUFFICIENT_RESOURCES("Insufficient resources."),
+
+	/**
+	 * The ship does not have enough credits for the action.
+	 */
+	INSUFFICIENT_CREDITS("Insufficient funds."),
+
+	/**
+	 * The ship does not have enough storage for the result of the action.
+	 */
+	STORAGE_FULL("Insufficient storage."),
+
+	/**
+	 * The ship does not have enough of an item to sell.
+	 */
+	NOTHING_TO_SELL("Nothing to sell.");
+
+	/**
+	 * A general description of the result, used when an action does not
+	 * describe it more specifically.
+	 */
+	private final String message;
+
+	/**
+	 * Creates a validation result with a general description.
+	 *
+	 * @param message the general description of the result, null if the
+	 *                action can be executed
+	 */
+	Validation(String message)
+	{
+		this.message = message;
+	}
+
+	/**
+	 * Returns true if the action can be executed.
+	 *
+	 * @return true if the action can be executed
+	 */
+	public boolean isValid()
+	{
+		return this == VALID;
+	}
+
+	/**
+	 * Gets a general description of the result.
+	 *
+	 * @return a general description of the result, null if the action can be
+	 *         executed
+	 */
+	public String getMessage()
+	{
+		return message;
+	}
+}
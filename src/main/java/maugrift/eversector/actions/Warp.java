@@ -21,30 +21,63 @@ public class Warp implements Action
 		this.coord = coord;
 	}
 
+	/**
+	 * Gets the coordinates being warped to.
+	 *
+	 * @return the coordinates being warped to
+	 */
+	public Coord getCoord()
+	{
+		return coord;
+	}
+
 	@Override
-	public String canExecute(Ship actor)
+	public Validation validate(Ship actor)
 	{
 		if (actor == null) {
-			return "Ship not found.";
+			return Validation.NO_SHIP;
 		}
 
 		if (coord == null || getDestination(actor) == null) {
-			return "The target location was not found.";
+			return Validation.INVALID_DESTINATION;
 		}
 
-		String validateModule = actor.validateModule(MODULE, "warp");
-		if (validateModule != null) {
+		Validation validateModule = actor.checkModule(MODULE);
+		if (!validateModule.isValid()) {
 			return validateModule;
 		}
 
 		Module module = actor.getModule(MODULE);
-		return actor.validateResources(
+		return actor.checkResources(
 				module.getActionResource(),
-				module.getActionCost(),
-				"charge warp drive"
+				module.getActionCost()
 			);
 	}
 
+	@Override
+	public String canExecute(Ship actor)
+	{
+		Validation validation = validate(actor);
+		switch (validation) {
+		case VALID:
+			return null;
+		case INVALID_DESTINATION:
+			return "The target location was not found.";
+		case MODULE_MISSING:
+		case MODULE_DAMAGED:
+			return actor.validateModule(MODULE, "warp");
+		case INSUFFICIENT_RESOURCES:
+			Module module = actor.getModule(MODULE);
+			return actor.validateResources(
+					module.getActionResource(),
+					module.getActionCost(),
+					"charge warp drive"
+				);
+		default:
+			return validation.getMessage();
+		}
+	}
+
 	@Override
 	public String execute(Ship actor)
 	{
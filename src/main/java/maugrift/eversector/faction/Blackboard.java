@@ -0,0 +1,344 @@
+package maugrift.eversector.faction;
+
+import maugrift.eversector.locations.Location;
+import maugrift.eversector.locations.PlanetLocation;
+import maugrift.eversector.locations.SectorLocation;
+import maugrift.eversector.locations.StationLocation;
+import maugrift.eversector.map.Galaxy;
+import maugrift.eversector.map.Planet;
+import maugrift.eversector.map.RegionIndex;
+import maugrift.eversector.map.Sector;
+import maugrift.eversector.map.Station;
+import squidpony.squidmath.Coord;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * A strategic plan shared by the ships of a faction, listing the targets in
+ * each sector that its ships may invade, claim, or mine, along with how many
+ * ships are headed for each target. Each sector's targets are found when
+ * first requested, and found again when territory in the sector changes
+ * owners, when a relationship changes, or after a number of turns.
+ *
+ * @author Aaron Friesen
+ */
+public class Blackboard
+{
+	/**
+	 * The number of turns after which the targets in a sector will be found
+	 * again, even if none of its territory has changed owners.
+	 */
+	public static final int PLAN_FREQ = 25;
+
+	/**
+	 * The most ships that should head for the same station to invade it.
+	 */
+	public static final int MAX_INVADERS = 4;
+
+	/**
+	 * The most ships that should head for the same region to claim it.
+	 */
+	public static final int MAX_CLAIMERS = 1;
+
+	/**
+	 * The most ships that should head for the same location to mine it.
+	 */
+	public static final int MAX_MINERS = 2;
+
+	/**
+	 * The galaxy the plan is for.
+	 */
+	private final Galaxy galaxy;
+
+	/**
+	 * The faction the plan is for, null if the plan is for unaligned ships.
+	 */
+	private final Faction faction;
+
+	/**
+	 * The targets in each sector, indexed by the sector's coordinates. Null
+	 * until the first sector is planned, and null for each sector until it is
+	 * planned.
+	 */
+	private SectorPlan[] plans;
+
+	/**
+	 * The number of ships headed for each target.
+	 */
+	private final HashMap<Location, Integer> reservations;
+
+	/**
+	 * Creates an empty plan for a faction.
+	 *
+	 * @param galaxy  the galaxy the plan is for
+	 * @param faction the faction the plan is for, null if the plan is for
+	 *                unaligned ships
+	 */
+	public Blackboard(Galaxy galaxy, Faction faction)
+	{
+		this.galaxy = galaxy;
+		this.faction = faction;
+		plans = null;
+		reservations = new HashMap<>();
+	}
+
+	/**
+	 * Gets the faction the plan is for.
+	 *
+	 * @return the faction the plan is for, null if the plan is for unaligned
+	 *         ships
+	 */
+	public Faction getFaction()
+	{
+		return faction;
+	}
+
+	/**
+	 * Gets the hostile stations in a sector, from the outermost orbit inward.
+	 *
+	 * @param sector the sector to find stations in
+	 * @return the docked locations of the hostile stations in the sector
+	 */
+	public List<StationLocation> getInvasionTargets(Sector sector)
+	{
+		return getPlan(sector).invasionTargets;
+	}
+
+	/**
+	 * Gets the regions in a sector that the faction can claim, from the
+	 * cheapest to claim to the most expensive.
+	 *
+	 * @param sector the sector to find regions in
+	 * @return the locations of the claimable regions in the sector
+	 */
+	public List<PlanetLocation> getClaimTargets(Sector sector)
+	{
+		return getPlan(sector).claimTargets;
+	}
+
+	/**
+	 * Gets the locations in a sector where ore can be mined, from the
+	 * outermost orbit inward.
+	 *
+	 * @param sector the sector to find mining sites in
+	 * @return the mining sites in the sector
+	 */
+	public List<SectorLocation> getMiningSites(Sector sector)
+	{
+		return getPlan(sector).miningSites;
+	}
+
+	/**
+	 * Gets the number of ships headed for a target.
+	 *
+	 * @param target the target
+	 * @return the number of ships headed for the target
+	 */
+	public int getReservations(Location target)
+	{
+		Integer count = reservations.get(target);
+		return count == null ? 0 : count;
+	}
+
+	/**
+	 * Records that a ship is headed for a target.
+	 *
+	 * @param target the target
+	 */
+	public void reserve(Location target)
+	{
+		reservations.merge(target, 1, Integer::sum);
+	}
+
+	/**
+	 * Records that a ship is no longer headed for a target.
+	 *
+	 * @param target the target
+	 */
+	public void release(Location target)
+	{
+		Integer count = reservations.get(target);
+		if (count == null) {
+			return;
+		}
+
+		if (count <= 1) {
+			reservations.remove(target);
+		} else {
+			reservations.put(target, count - 1);
+		}
+	}
+
+	/**
+	 * Gets the plan for a sector, finding its targets if it has not been
+	 * planned or if its plan is out of date.
+	 *
+	 * @param sector the sector to get the plan for
+	 * @return the plan for the sector
+	 */
+	private SectorPlan getPlan(Sector sector)
+	{
+		if (plans == null) {
+			plans = new SectorPlan[galaxy.getWidth() * galaxy.getHeight()];
+		}
+
+		Coord coord = sector.getLocation().getCoord();
+		int index = coord.y * galaxy.getWidth() + coord.x;
+		SectorPlan plan = plans[index];
+		if (plan == null || plan.isOutdated()) {
+			plan = new SectorPlan(sector);
+			plans[index] = plan;
+		}
+
+		return plan;
+	}
+
+	/**
+	 * Returns true if ships of the faction are hostile to the given faction.
+	 *
+	 * @param owner the faction to check
+	 * @return true if ships of the faction are hostile to the given faction
+	 * @see maugrift.eversector.ships.Ship#isHostile(Faction)
+	 */
+	private boolean isHostile(Faction owner)
+	{
+		return (
+			faction != owner
+			&& (
+				faction == null
+				|| faction.isRelationship(Relationship.RelationshipType.WAR, owner)
+			)
+		);
+	}
+
+	/**
+	 * The targets in a single sector, along with the state of the galaxy when
+	 * they were found.
+	 *
+	 * @author Aaron Friesen
+	 */
+	private class SectorPlan
+	{
+		/**
+		 * The sector the targets are in.
+		 */
+		private final Sector sector;
+
+		/**
+		 * The turn on which the targets were found.
+		 */
+		private final int turn;
+
+		/**
+		 * The number of territory changes in the sector when the targets were
+		 * found.
+		 */
+		private final int territoryChanges;
+
+		/**
+		 * The number of relationship changes in the galaxy when the targets
+		 * were found.
+		 */
+		private final int relationshipChanges;
+
+		/**
+		 * The docked locations of the hostile stations in the sector.
+		 */
+		private final List<StationLocation> invasionTargets;
+
+		/**
+		 * The locations of the claimable regions in the sector.
+		 */
+		private final List<PlanetLocation> claimTargets;
+
+		/**
+		 * The locations in the sector where ore can be mined.
+		 */
+		private final List<SectorLocation> miningSites;
+
+		/**
+		 * Finds the targets in a sector.
+		 *
+		 * @param sector the sector to find targets in
+		 */
+		public SectorPlan(Sector sector)
+		{
+			this.sector = sector;
+			turn = galaxy.getTurn();
+			territoryChanges = sector.getTerritoryChanges();
+			relationshipChanges = galaxy.getRelationshipChanges();
+			invasionTargets = new ArrayList<>();
+			claimTargets = new ArrayList<>();
+			miningSites = new ArrayList<>();
+
+			for (int orbit = sector.getOrbits(); orbit > 0; orbit--) {
+				Station station = sector.getStationAt(orbit);
+				if (station != null && isHostile(station.getFaction())) {
+					invasionTargets.add(station.getLocation().dock());
+				}
+
+				Planet planet = sector.getPlanetAt(orbit);
+				if (planet != null) {
+					addPlanetTargets(planet);
+				}
+			}
+
+			claimTargets.sort(
+				(a, b) -> Integer.compare(
+					a.getPlanet().getClaimCost(),
+					b.getPlanet().getClaimCost()
+				)
+			);
+		}
+
+		/**
+		 * Adds the regions of a planet that can be claimed or mined, or the
+		 * planet's orbit if it can be mined from orbit.
+		 *
+		 * @param planet the planet to add the targets of
+		 */
+		private void addPlanetTargets(Planet planet)
+		{
+			if (planet.getType().canMineFromOrbit()) {
+				miningSites.add(planet.getLocation());
+			}
+
+			if (!planet.getType().canLandOn()) {
+				return;
+			}
+
+			RegionIndex claimable = planet.getUnownedLand(faction);
+			for (int i = 0; i < claimable.size(); i++) {
+				claimTargets.add(claimable.get(i).getLocation());
+			}
+
+			if (
+				planet.getType().canMine()
+				&& !planet.getType().canMineFromOrbit()
+			) {
+				RegionIndex oreRegions = planet.getOreRegions();
+				for (int i = 0; i < oreRegions.size(); i++) {
+					miningSites.add(oreRegions.get(i).getLocation());
+				}
+			}
+		}
+
+		/**
+		 * Returns true if territory in the sector has changed owners, a
+		 * relationship has changed, or too many turns have passed since the
+		 * targets were found.
+		 *
+		 * @return true if the targets must be found again
+		 */
+		public boolean isOutdated()
+		{
+			return (
+				galaxy.getTurn() - turn >= PLAN_FREQ
+				|| sector.getTerritoryChanges() != territoryChanges
+				|| galaxy.getRelationshipChanges() != relationshipChanges
+			);
+		}
+	}
+}
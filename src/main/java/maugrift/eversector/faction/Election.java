@@ -3,10 +3,14 @@ package maugrift.eversector.faction;
 import maugrift.apwt.glyphs.ColorString;
 import maugrift.eversector.ships.Reputation;
 import maugrift.eversector.ships.Ship;
+import squidpony.squidmath.Coord;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
 
 import static maugrift.eversector.Main.player;
 
@@ -44,6 +48,24 @@ public class Election
 	 */
 	private final boolean emergency;
 
+	/**
+	 * The higher level of each candidate, found once when votes are gathered.
+	 * Indices in this array correlate directly to the candidates list.
+	 */
+	private String[] candidateLevels;
+
+	/**
+	 * The coordinates of each candidate, found once when votes are gathered.
+	 * Indices in this array correlate directly to the candidates list.
+	 */
+	private Coord[] candidateCoords;
+
+	/**
+	 * The value of each candidate's ship, found once when votes are gathered.
+	 * Indices in this array correlate directly to the candidates list.
+	 */
+	private int[] candidateValues;
+
 	/**
 	 * Creates an election for the given faction.
 	 *
@@ -88,6 +110,47 @@ public class Election
 		return votes;
 	}
 
+	/**
+	 * Gets the higher level of a candidate.
+	 *
+	 * @param index the index of the candidate
+	 * @return the candidate's higher level
+	 * @throws IllegalStateException if called before gatherVotes()
+	 * @see Ship#getHigherLevel()
+	 */
+	public String getCandidateLevel(int index)
+	{
+		checkFeatures("getCandidateLevel()");
+		return candidateLevels[index];
+	}
+
+	/**
+	 * Gets the coordinates of a candidate.
+	 *
+	 * @param index the index of the candidate
+	 * @return the coordinates of the candidate's sector
+	 * @throws IllegalStateException if called before gatherVotes()
+	 */
+	public Coord getCandidateCoord(int index)
+	{
+		checkFeatures("getCandidateCoord()");
+		return candidateCoords[index];
+	}
+
+	/**
+	 * Gets the value of a candidate's ship.
+	 *
+	 * @param index the index of the candidate
+	 * @return the value of the candidate's ship
+	 * @throws IllegalStateException if called before gatherVotes()
+	 * @see Ship#calculateShipValue()
+	 */
+	public int getCandidateValue(int index)
+	{
+		checkFeatures("getCandidateValue()");
+		return candidateValues[index];
+	}
+
 	/**
 	 * Returns true if the election is an emergency.
 	 *
@@ -159,33 +222,30 @@ public class Election
 	 */
 	public void findCandidates()
 	{
-		int minRep = 0;
-
-		for (Ship ship : faction.getGalaxy().getShips()) {
-			if (
-				faction == ship.getFaction()
-				&& (ship.getReputation(faction).get() > minRep)
-				|| candidates.size() < CANDIDATES
-			) {
-				candidates.add(ship);
-
-				if (candidates.size() > CANDIDATES) {
-					candidates.sort(Comparator.naturalOrder());
-					candidates.remove(0);
-				}
-
-				int lowestRep = ship.getReputation(faction).get();
+		// The candidate with the lowest reputation is always at the head, so
+		// it can be replaced by a ship with a higher reputation
+		PriorityQueue<Ship> lowest = new PriorityQueue<>(
+				CANDIDATES + 1,
+				Comparator.comparingInt(ship -> ship.getReputation(faction).get())
+			);
 
-				for (Ship candidate : candidates) {
-					if (candidate.getReputation(faction).get() < lowestRep) {
-						lowestRep = candidate.getReputation(faction).get();
-					}
-				}
+		for (Ship ship : faction.getMembers()) {
+			if (ship.isPlayer() || ship.getAI() == null) {
+				continue;
+			}
 
-				minRep = lowestRep;
+			if (lowest.size() < CANDIDATES) {
+				lowest.add(ship);
+			} else if (
+				ship.getReputation(faction).get()
+				> lowest.peek().getReputation(faction).get()
+			) {
+				lowest.poll();
+				lowest.add(ship);
 			}
 		}
 
+		candidates.addAll(lowest);
 		candidates.sort(Comparator.reverseOrder());
 	}
 
@@ -203,18 +263,45 @@ public class Election
 			);
 		}
 
-		// Fill the vote list with 0s as a starting point
-		for (Ship candidate : candidates) {
+		// Fill the vote list with 0s as a starting point, and find what voters
+		// consider about each candidate once rather than for every voter
+		candidateLevels = new String[candidates.size()];
+		candidateCoords = new Coord[candidates.size()];
+		candidateValues = new int[candidates.size()];
+		for (int i = 0; i < candidates.size(); i++) {
+			Ship candidate = candidates.get(i);
 			votes.add(0);
+			candidateLevels[i] = candidate.getHigherLevel();
+			candidateCoords[i] = candidate.getLocation().getCoord();
+			candidateValues[i] = candidate.calculateShipValue();
 		}
 
-		for (Ship ship : faction.getGalaxy().getShips()) {
-			if (faction == ship.getFaction() && !candidates.contains(ship)) {
-				Ship vote = ship.getAI().vote(candidates);
-				int index = candidates.indexOf(vote);
-				votes.set(index, votes.get(index) + 1);
+		int[] tally = new int[candidates.size()];
+		Set<Ship> running = new HashSet<>(candidates);
+		for (Ship ship : faction.getMembers()) {
+			if (ship.getAI() != null && !running.contains(ship)) {
+				tally[ship.getAI().vote(this)]++;
 			}
 		}
+
+		for (int i = 0; i < tally.length; i++) {
+			votes.set(i, tally[i]);
+		}
+	}
+
+	/**
+	 * Checks that the features of the candidates have been found.
+	 *
+	 * @param method the name of the method requiring the features
+	 * @throws IllegalStateException if called before gatherVotes()
+	 */
+	private void checkFeatures(String method)
+	{
+		if (candidateValues == null) {
+			throw new IllegalStateException(
+				method + " called before gatherVotes()"
+			);
+		}
 	}
 
 	/**
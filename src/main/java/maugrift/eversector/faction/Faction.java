@@ -8,6 +8,10 @@ import maugrift.eversector.map.Sector;
 import maugrift.eversector.ships.Ship;
 
 import java.awt.*;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static maugrift.eversector.Main.pendingElection;
 import static maugrift.eversector.Main.rng;
@@ -148,6 +152,11 @@ public class Faction implements ColorStringObject
 	 */
 	private final Galaxy galaxy;
 
+	/**
+	 * The index of the faction in the galaxy's array of factions.
+	 */
+	private final int index;
+
 	/**
 	 * All relationships this faction has with others.
 	 */
@@ -173,13 +182,29 @@ public class Faction implements ColorStringObject
 	 */
 	private int averageReputation;
 
+	/**
+	 * The strategic plan shared by the faction's ships.
+	 */
+	private final Blackboard blackboard;
+
+	/**
+	 * The ships in the faction, in the order they joined.
+	 */
+	private final Set<Ship> members;
+
+	/**
+	 * The changes in the faction's economy over the last turns.
+	 */
+	private final Ledger ledger;
+
 	/**
 	 * Generates a faction in the galaxy with the given color.
 	 *
 	 * @param galaxy the galaxy that the faction will be in
+	 * @param index  the index of the faction in the galaxy's array of factions
 	 * @param color  the faction's color
 	 */
-	public Faction(Galaxy galaxy, Color color)
+	public Faction(Galaxy galaxy, int index, Color color)
 	{
 		this.name = (
 			rng.getRandomElement(NAME_PREFIX)
@@ -189,10 +214,14 @@ public class Faction implements ColorStringObject
 		);
 		this.color = color;
 		this.galaxy = galaxy;
+		this.index = index;
 		relationships = new Relationship[galaxy.getFactions().length - 1];
 		leader = null;
 		economy = 0;
 		lastElection = -Galaxy.SIMULATED_TURNS;
+		blackboard = new Blackboard(galaxy, this);
+		members = new LinkedHashSet<>();
+		ledger = new Ledger(galaxy.getTurn());
 	}
 
 	@Override
@@ -237,6 +266,48 @@ public class Faction implements ColorStringObject
 		return galaxy;
 	}
 
+	/**
+	 * Gets the strategic plan shared by the faction's ships.
+	 *
+	 * @return the faction's blackboard
+	 */
+	public Blackboard getBlackboard()
+	{
+		return blackboard;
+	}
+
+	/**
+	 * Gets the ships in the faction, including the player if they are in it.
+	 *
+	 * @return the ships in the faction, in the order they joined
+	 */
+	public Set<Ship> getMembers()
+	{
+		return Collections.unmodifiableSet(members);
+	}
+
+	/**
+	 * Adds a ship to the faction's members. Only to be called by the ship when
+	 * its faction changes.
+	 *
+	 * @param ship the ship that joined the faction
+	 */
+	public void addMember(Ship ship)
+	{
+		members.add(ship);
+	}
+
+	/**
+	 * Removes a ship from the faction's members. Only to be called by the ship
+	 * when its faction changes or it is destroyed.
+	 *
+	 * @param ship the ship that left the faction
+	 */
+	public void removeMember(Ship ship)
+	{
+		members.remove(ship);
+	}
+
 	/**
 	 * Gets the leader of the faction.
 	 *
@@ -257,6 +328,26 @@ public class Faction implements ColorStringObject
 		return economy;
 	}
 
+	/**
+	 * Gets the index of the faction in the galaxy's array of factions.
+	 *
+	 * @return the faction's index
+	 */
+	public int getIndex()
+	{
+		return index;
+	}
+
+	/**
+	 * Gets the changes in the faction's economy over the last turns.
+	 *
+	 * @return the faction's ledger
+	 */
+	public Ledger getLedger()
+	{
+		return ledger;
+	}
+
 	/**
 	 * Gets the turn on which the last election took place.
 	 *
@@ -308,9 +399,23 @@ public class Faction implements ColorStringObject
 	 * @return true if the credit change occurs
 	 */
 	public boolean changeEconomy(int credits)
+	{
+		return changeEconomy(credits, Ledger.Category.OTHER);
+	}
+
+	/**
+	 * Changes the number of credits in the faction's economy, recording the
+	 * change in the faction's ledger if it occurs.
+	 *
+	 * @param credits  the number of credits to add to the economy
+	 * @param category the source of the change
+	 * @return true if the credit change occurs
+	 */
+	public boolean changeEconomy(int credits, Ledger.Category category)
 	{
 		if (economy + credits >= 0) {
 			economy += credits;
+			ledger.record(category, credits, galaxy.getTurn());
 			return true;
 		}
 
@@ -426,8 +531,8 @@ public class Faction implements ColorStringObject
 	{
 		int nShips = 0;
 
-		for (Ship ship : galaxy.getShips()) {
-			if (ship.getFaction() == this) {
+		for (Ship ship : members) {
+			if (!ship.isPlayer()) {
 				nShips++;
 			}
 		}
@@ -447,8 +552,8 @@ public class Faction implements ColorStringObject
 		int mining = 0;
 		int battle = 0;
 
-		for (Ship ship : galaxy.getShips()) {
-			if (ship.getFaction() == this) {
+		for (Ship ship : members) {
+			if (!ship.isPlayer()) {
 				total++;
 
 				if ("mining".equals(ship.getHigherLevel())) {
@@ -719,7 +824,9 @@ public class Faction implements ColorStringObject
 	 */
 	public void addNews(String news)
 	{
-		addNews(new ColorString(news));
+		if (isPlayerFaction()) {
+			Main.addColorMessage(new ColorString(news));
+		}
 	}
 
 	/**
@@ -729,11 +836,33 @@ public class Faction implements ColorStringObject
 	 */
 	public void addNews(ColorString news)
 	{
-		if (
-			galaxy.getPlayer() != null
-			&& galaxy.getPlayer().getFaction() == this
-		) {
+		if (isPlayerFaction()) {
 			Main.addColorMessage(news);
 		}
 	}
+
+	/**
+	 * Adds the ColorString created by the given supplier to the display as
+	 * news. The ColorString is only created if the player is in the faction.
+	 *
+	 * @param news the supplier of the news to add
+	 */
+	public void addNews(Supplier<ColorString> news)
+	{
+		if (isPlayerFaction()) {
+			Main.addColorMessage(news.get());
+		}
+	}
+
+	/**
+	 * Returns true if the player is a member of the faction, meaning that its
+	 * news will be displayed.
+	 *
+	 * @return true if the player is in the faction
+	 */
+	public boolean isPlayerFaction()
+	{
+		Ship player = galaxy.getPlayer();
+		return player != null && player.getFaction() == this;
+	}
 }
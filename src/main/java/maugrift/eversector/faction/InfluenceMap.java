@@ -0,0 +1,310 @@
+package maugrift.eversector.faction;
+
+import maugrift.eversector.map.Galaxy;
+import maugrift.eversector.map.Ore;
+import maugrift.eversector.map.Planet;
+import maugrift.eversector.map.Region;
+import maugrift.eversector.map.Sector;
+import maugrift.eversector.ships.Ship;
+import squidpony.squidmath.Coord;
+
+/**
+ * The strength of each faction's ships, the territory each faction may claim,
+ * and the ore that can be mined, in each sector of a galaxy. Values are
+ * changed as ships move, are destroyed, and claim territory, rather than
+ * being found again, so reading any of them is a single array lookup.
+ *
+ * @author Aaron Friesen
+ */
+public class InfluenceMap
+{
+	/**
+	 * The strength of a ship with no weapons.
+	 */
+	public static final float BASE_STRENGTH = 1.0f;
+
+	/**
+	 * The galaxy the map is of.
+	 */
+	private final Galaxy galaxy;
+
+	/**
+	 * The width of the galaxy, used to index the arrays.
+	 */
+	private final int width;
+
+	/**
+	 * The total strength of the ships of each faction in each sector, indexed
+	 * by the faction's index and then by the sector's coordinates. The last
+	 * row is for unaligned ships.
+	 */
+	private final float[][] strength;
+
+	/**
+	 * The number of land regions in each sector, indexed by the sector's
+	 * coordinates. Null until the territory is counted.
+	 */
+	private float[] land;
+
+	/**
+	 * The number of regions each faction has claimed in each sector, indexed
+	 * by the faction's index and then by the sector's coordinates. Null until
+	 * the territory is counted.
+	 */
+	private float[][] claimed;
+
+	/**
+	 * The value of the ore that can be mined in each sector, indexed by the
+	 * sector's coordinates. Null until the territory is counted.
+	 */
+	private float[] ore;
+
+	/**
+	 * Creates an empty map of a galaxy whose factions have been created.
+	 *
+	 * @param galaxy the galaxy the map is of
+	 */
+	public InfluenceMap(Galaxy galaxy)
+	{
+		this.galaxy = galaxy;
+		width = galaxy.getWidth();
+		strength = new float[galaxy.getFactions().length + 1]
+			[width * galaxy.getHeight()];
+		land = null;
+		claimed = null;
+		ore = null;
+	}
+
+	/**
+	 * Gets the strength that a ship adds to its faction in its sector.
+	 *
+	 * @param ship the ship
+	 * @return the strength of the ship
+	 */
+	public static float getStrength(Ship ship)
+	{
+		return BASE_STRENGTH + ship.getAbsoluteBattleLevel();
+	}
+
+	/**
+	 * Gets the total strength of a faction's ships in a sector.
+	 *
+	 * @param faction the faction, null for unaligned ships
+	 * @param coord   the coordinates of the sector
+	 * @return the strength of the faction in the sector
+	 */
+	public float getStrength(Faction faction, Coord coord)
+	{
+		return strength[getFactionIndex(faction)][getIndex(coord)];
+	}
+
+	/**
+	 * Gets the total strength of the ships in a sector that ships of a faction
+	 * are hostile to.
+	 *
+	 * @param faction the faction, null for unaligned ships
+	 * @param coord   the coordinates of the sector
+	 * @return the strength of the faction's enemies in the sector
+	 * @see Ship#isHostile(Faction)
+	 */
+	public float getHostileStrength(Faction faction, Coord coord)
+	{
+		int index = getIndex(coord);
+		Faction[] factions = galaxy.getFactions();
+		float hostileStrength = 0.0f;
+		for (int i = 0; i < factions.length; i++) {
+			if (
+				factions[i] != faction
+				&& (
+					faction == null
+					|| faction.isRelationship(
+						Relationship.RelationshipType.WAR,
+						factions[i]
+					)
+				)
+			) {
+				hostileStrength += strength[i][index];
+			}
+		}
+
+		return hostileStrength;
+	}
+
+	/**
+	 * Gets the number of land regions in a sector that a faction has not
+	 * claimed.
+	 *
+	 * @param faction the faction, null for unaligned ships
+	 * @param coord   the coordinates of the sector
+	 * @return the number of regions the faction can claim in the sector
+	 */
+	public float getClaimableValue(Faction faction, Coord coord)
+	{
+		if (land == null) {
+			return 0.0f;
+		}
+
+		int index = getIndex(coord);
+		return land[index] - claimed[getFactionIndex(faction)][index];
+	}
+
+	/**
+	 * Gets the value of the ore that can be mined in a sector.
+	 *
+	 * @param coord the coordinates of the sector
+	 * @return the value of the ore in the sector
+	 */
+	public float getOreValue(Coord coord)
+	{
+		return ore == null ? 0.0f : ore[getIndex(coord)];
+	}
+
+	/**
+	 * Changes the strength of a faction in a sector.
+	 *
+	 * @param faction the faction, null for unaligned ships
+	 * @param coord   the coordinates of the sector
+	 * @param change  the amount to change the strength by
+	 */
+	public void changeStrength(Faction faction, Coord coord, float change)
+	{
+		strength[getFactionIndex(faction)][getIndex(coord)] += change;
+	}
+
+	/**
+	 * Records that a region in a sector has changed owners.
+	 *
+	 * @param coord      the coordinates of the sector
+	 * @param oldFaction the previous owner of the region, null if it was
+	 *                   unclaimed
+	 * @param newFaction the new owner of the region, null if it is unclaimed
+	 */
+	public void changeRegionOwner(
+		Coord coord,
+		Faction oldFaction,
+		Faction newFaction
+	)
+	{
+		if (claimed == null) {
+			return;
+		}
+
+		int index = getIndex(coord);
+		claimed[getFactionIndex(oldFaction)][index]--;
+		claimed[getFactionIndex(newFaction)][index]++;
+	}
+
+	/**
+	 * Changes the value of the ore in a sector.
+	 *
+	 * @param coord  the coordinates of the sector
+	 * @param change the amount to change the value by
+	 */
+	public void changeOreValue(Coord coord, float change)
+	{
+		if (ore != null) {
+			ore[getIndex(coord)] += change;
+		}
+	}
+
+	/**
+	 * Counts the territory and ore in every sector of the galaxy. Must be
+	 * called once, after the galaxy's sectors have been generated.
+	 */
+	public void countTerritory()
+	{
+		land = new float[strength[0].length];
+		claimed = new float[strength.length][strength[0].length];
+		ore = new float[strength[0].length];
+		float orbitOreValue = getAverageDensity();
+
+		for (Sector[] row : galaxy.getSectors()) {
+			for (Sector sector : row) {
+				int index = getIndex(sector.getLocation().getCoord());
+				for (int orbit = 1; orbit <= sector.getOrbits(); orbit++) {
+					Planet planet = sector.getPlanetAt(orbit);
+					if (planet == null) {
+						continue;
+					}
+
+					if (planet.getType().canMineFromOrbit()) {
+						ore[index] += orbitOreValue;
+					}
+
+					if (planet.getType().canLandOn()) {
+						countRegions(planet, index);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Counts the land, claimed regions, and ore on a planet.
+	 *
+	 * @param planet the planet to count the regions of
+	 * @param index  the index of the planet's sector
+	 */
+	private void countRegions(Planet planet, int index)
+	{
+		boolean canMine = planet.getType().canMine()
+			&& !planet.getType().canMineFromOrbit();
+		for (Region[] row : planet.getRegions()) {
+			for (Region region : row) {
+				if (region.getType().isLand()) {
+					land[index]++;
+				}
+
+				if (region.isClaimed()) {
+					claimed[getFactionIndex(region.getFaction())][index]++;
+				}
+
+				if (canMine && region.hasOre()) {
+					ore[index] += region.getOre().getDensity();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the average density of the types of ore in the galaxy, which is
+	 * the expected value of mining from orbit.
+	 *
+	 * @return the average density of ore in the galaxy
+	 */
+	private float getAverageDensity()
+	{
+		Ore[] oreTypes = galaxy.getOreTypes();
+		if (oreTypes.length == 0) {
+			return 0.0f;
+		}
+
+		float total = 0.0f;
+		for (Ore oreType : oreTypes) {
+			total += oreType.getDensity();
+		}
+		return total / oreTypes.length;
+	}
+
+	/**
+	 * Gets the row of the strength and claimed arrays for a faction.
+	 *
+	 * @param faction the faction, null for unaligned ships
+	 * @return the row for the faction
+	 */
+	private int getFactionIndex(Faction faction)
+	{
+		return faction == null ? strength.length - 1 : galaxy.getIndex(faction);
+	}
+
+	/**
+	 * Gets the index in the arrays of the given coordinates.
+	 *
+	 * @param coord the coordinates
+	 * @return the index of the coordinates
+	 */
+	private int getIndex(Coord coord)
+	{
+		return coord.y * width + coord.x;
+	}
+}
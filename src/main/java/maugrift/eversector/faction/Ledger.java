@@ -0,0 +1,174 @@
+package maugrift.eversector.faction;
+
+/**
+ * A record of the credits that have entered and left a faction's economy
+ * over the last turns, totaled by category for each turn. The totals are kept
+ * in a ring buffer of turns, so recording a change never allocates and only
+ * clears the turns that have passed since the last change.
+ *
+ * @author Aaron Friesen
+ */
+public class Ledger
+{
+	/**
+	 * The number of turns that are remembered.
+	 */
+	public static final int HISTORY = 100;
+
+	/**
+	 * The sources of changes in a faction's economy.
+	 */
+	public enum Category
+	{
+		/**
+		 * Payments for claiming territory.
+		 */
+		CLAIMS("Claims"),
+
+		/**
+		 * Purchases and sales at the faction's stations.
+		 */
+		TRADES("Trades"),
+
+		/**
+		 * Credits and supplies given to ships in distress.
+		 */
+		DISTRESS("Distress"),
+
+		/**
+		 * Changes without a recorded source.
+		 */
+		OTHER("Other");
+
+		/**
+		 * The name of the category.
+		 */
+		private final String name;
+
+		/**
+		 * Creates a category.
+		 *
+		 * @param name the name of the category
+		 */
+		Category(String name)
+		{
+			this.name = name;
+		}
+
+		@Override
+		public String toString()
+		{
+			return name;
+		}
+	}
+
+	/**
+	 * The categories, cached so they are not copied for every record.
+	 */
+	private static final Category[] CATEGORIES = Category.values();
+
+	/**
+	 * The total change from each category on each remembered turn, indexed by
+	 * the turn's position in the ring and then by the category.
+	 */
+	private final int[] totals;
+
+	/**
+	 * The last turn for which a change was recorded.
+	 */
+	private int lastTurn;
+
+	/**
+	 * Creates an empty ledger.
+	 *
+	 * @param turn the current turn
+	 */
+	public Ledger(int turn)
+	{
+		totals = new int[HISTORY * CATEGORIES.length];
+		lastTurn = turn;
+	}
+
+	/**
+	 * Records a change in the faction's economy.
+	 *
+	 * @param category the source of the change
+	 * @param change   the number of credits added to the economy, negative if
+	 *                 they were taken from it
+	 * @param turn     the current turn
+	 */
+	public void record(Category category, int change, int turn)
+	{
+		advance(turn);
+		totals[getIndex(turn, category)] += change;
+	}
+
+	/**
+	 * Gets the total change from a category on a single turn.
+	 *
+	 * @param category the source of the changes
+	 * @param turn     the turn
+	 * @return the total change on the turn, 0 if it is no longer remembered
+	 */
+	public int getAmount(Category category, int turn)
+	{
+		if (turn > lastTurn || lastTurn - turn >= HISTORY) {
+			return 0;
+		}
+
+		return totals[getIndex(turn, category)];
+	}
+
+	/**
+	 * Gets the total change from a category over the last turns, including
+	 * the current turn.
+	 *
+	 * @param category the source of the changes
+	 * @param turns    the number of turns to total, at most {@link #HISTORY}
+	 * @param current  the current turn
+	 * @return the total change over the turns
+	 */
+	public int getTotal(Category category, int turns, int current)
+	{
+		int total = 0;
+		int first = current - Math.min(turns, HISTORY) + 1;
+		for (int turn = first; turn <= current; turn++) {
+			total += getAmount(category, turn);
+		}
+		return total;
+	}
+
+	/**
+	 * Clears the turns that have passed since the last change, so that their
+	 * places in the ring can be reused.
+	 *
+	 * @param turn the current turn
+	 */
+	private void advance(int turn)
+	{
+		if (turn <= lastTurn) {
+			return;
+		}
+
+		int cleared = Math.min(turn - lastTurn, HISTORY);
+		for (int i = 1; i <= cleared; i++) {
+			for (Category category : CATEGORIES) {
+				totals[getIndex(lastTurn + i, category)] = 0;
+			}
+		}
+		lastTurn = turn;
+	}
+
+	/**
+	 * Gets the index in the ring of a category on a turn.
+	 *
+	 * @param turn     the turn
+	 * @param category the category
+	 * @return the index of the category's total on the turn
+	 */
+	private static int getIndex(int turn, Category category)
+	{
+		return Math.floorMod(turn, HISTORY) * CATEGORIES.length
+			+ category.ordinal();
+	}
+}
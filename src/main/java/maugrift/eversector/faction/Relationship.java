@@ -176,6 +176,10 @@ public class Relationship
 	 */
 	public void setRelationship(RelationshipType type)
 	{
+		if (this.type != type) {
+			faction1.getGalaxy().countRelationshipChange();
+		}
+
 		this.type = type;
 	}
 
@@ -269,17 +273,17 @@ public class Relationship
 		// something other than none, they may have been set by hibernation
 		if (!player.isLeader() || !playerInvolved) {
 			if (chooser.requestRelationship(receiver, newRelationship)) {
-				chooser.addNews(new ColorString("We " + actingVerb + " the ")
+				chooser.addNews(() -> new ColorString("We " + actingVerb + " the ")
 					.add(receiver)
 					.add("."));
-				receiver.addNews(new ColorString("The ")
+				receiver.addNews(() -> new ColorString("The ")
 					.add(chooser)
 					.add(" " + verb + " us."));
 			} else {
-				chooser.addNews(new ColorString("We " + requestVerb + " the ")
+				chooser.addNews(() -> new ColorString("We " + requestVerb + " the ")
 					.add(receiver)
 					.add(", but they refused it."));
-				receiver.addNews(new ColorString("The ")
+				receiver.addNews(() -> new ColorString("The ")
 					.add(chooser)
 					.add(" " + requestVerb + " us, but we refused it."));
 			}
@@ -289,10 +293,10 @@ public class Relationship
 
 		if (!changeable) {
 			type = newRelationship;
-			chooser.addNews(new ColorString("We " + actingVerb + " the ")
+			chooser.addNews(() -> new ColorString("We " + actingVerb + " the ")
 				.add(receiver)
 				.add("."));
-			receiver.addNews(new ColorString("The ")
+			receiver.addNews(() -> new ColorString("The ")
 				.add(chooser)
 				.add(" " + verb + " us."));
 			return true;
@@ -58,6 +58,7 @@ public class BaseResource extends Item
 			copying.canSell,
 			new Expander(copying.expander)
 		);
+		setId(copying.getId());
 	}
 
 	/**
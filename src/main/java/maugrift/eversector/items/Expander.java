@@ -68,6 +68,7 @@ public class Expander extends Item
 			copying.getValue(),
 			copying.expansion
 		);
+		setId(copying.getId());
 	}
 
 	/**
@@ -36,6 +36,12 @@ public abstract class Item
 	 */
 	private int price;
 
+	/**
+	 * The index of the item in the shared station catalog, -1 if the item is
+	 * not in the catalog.
+	 */
+	private int id;
+
 	/**
 	 * Creates a new item with a name, description, and value.
 	 *
@@ -49,6 +55,7 @@ public abstract class Item
 		this.description = description;
 		this.value = Math.abs(value);
 		this.price = value;
+		this.id = -1;
 	}
 
 	/**
@@ -70,6 +77,7 @@ public abstract class Item
 
 		value = Math.abs(Integer.parseInt(properties.getProperty("value")));
 		price = value;
+		id = -1;
 	}
 
 	@Override
@@ -128,6 +136,26 @@ public abstract class Item
 		this.price = price;
 	}
 
+	/**
+	 * Gets the index of the item in the shared station catalog.
+	 *
+	 * @return the item's catalog index, -1 if the item is not in the catalog
+	 */
+	public int getId()
+	{
+		return id;
+	}
+
+	/**
+	 * Sets the index of the item in the shared station catalog.
+	 *
+	 * @param id the item's new catalog index
+	 */
+	public void setId(int id)
+	{
+		this.id = id;
+	}
+
 	/**
 	 * Resets the price back to the value of the item.
 	 */
@@ -167,9 +195,11 @@ public abstract class Item
 	}
 
 	/**
-	 * Generates the price of the item after fluctuation.
+	 * Generates a local price for the item after fluctuation.
+	 *
+	 * @return the item's value with a random fluctuation applied
 	 */
-	public void generatePrice()
+	public int generatePrice()
 	{
 		// The greatest amount that the price can fluctuate
 		int maxFluctuation = value / 5;
@@ -179,6 +209,6 @@ public abstract class Item
 			- maxFluctuation * 2 / 2;
 
 		// Add the fluctuation to the base value to get the local price
-		price = value + fluctuation;
+		return value + fluctuation;
 	}
 }
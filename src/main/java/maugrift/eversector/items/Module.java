@@ -124,6 +124,7 @@ public class Module extends Item
 			copying.actionResource,
 			copying.actionCost
 		);
+		setId(copying.getId());
 	}
 
 	/**
@@ -142,6 +143,17 @@ public class Module extends Item
 		isDamaged = false;
 	}
 
+	/**
+	 * Creates a new, undamaged copy of the module, so that catalog modules
+	 * are never installed on ships directly.
+	 *
+	 * @return a copy of the module
+	 */
+	public Module copy()
+	{
+		return new Module(this);
+	}
+
 	/**
 	 * Returns the effect that the module applies when activated.
 	 *
@@ -154,8 +154,9 @@ public class Resource extends BaseResource
 			capacity,
 			amount,
 			base.canSell(),
-			base.getExpander()
+			new Expander(base.getExpander())
 		);
+		setId(base.getId());
 	}
 
 	/**
@@ -175,8 +176,9 @@ public class Resource extends BaseResource
 			capacity,
 			capacity,
 			base.canSell(),
-			base.getExpander()
+			new Expander(base.getExpander())
 		);
+		setId(base.getId());
 	}
 
 	/**
@@ -195,8 +197,9 @@ public class Resource extends BaseResource
 			CAPACITY,
 			CAPACITY,
 			base.canSell(),
-			base.getExpander()
+			new Expander(base.getExpander())
 		);
+		setId(base.getId());
 	}
 
 	/**
@@ -75,6 +75,7 @@ public class Weapon extends Module
 			copying.getActionCost(),
 			copying.soundEffect
 		);
+		setId(copying.getId());
 	}
 
 	/**
@@ -90,6 +91,12 @@ public class Weapon extends Module
 		soundEffect = properties.getProperty("sound");
 	}
 
+	@Override
+	public Weapon copy()
+	{
+		return new Weapon(this);
+	}
+
 	/**
 	 * Returns the hull damage the weapon can inflict on an undefended ship.
 	 *
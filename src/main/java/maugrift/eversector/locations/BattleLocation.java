@@ -21,7 +21,11 @@ public class BattleLocation extends SectorLocation
 	 */
 	public BattleLocation(SectorLocation location, Battle battle)
 	{
-		super(location);
+		super(
+			location,
+			location.getOrbit(),
+			pack(KIND_BATTLE, location.getCoord(), location.getOrbit(), null)
+		);
 		this.battle = battle;
 	}
 
@@ -42,21 +46,6 @@ public class BattleLocation extends SectorLocation
 	 */
 	public SectorLocation leaveBattle()
 	{
-		return new SectorLocation(this);
-	}
-
-	@Override
-	public boolean equals(Location o)
-	{
-		if (!(o instanceof BattleLocation)) {
-			return false;
-		}
-
-		BattleLocation cast = (BattleLocation) o;
-		return (
-			getGalaxy() == cast.getGalaxy()
-			&& getCoord().equals(cast.getCoord())
-			&& getOrbit() == cast.getOrbit()
-		);
+		return getSector().getOrbitLocation(getOrbit());
 	}
 }
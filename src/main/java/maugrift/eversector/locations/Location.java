@@ -44,6 +44,57 @@ public class Location
 	 */
 	private static final String STATION_LOCATION = "docked";
 
+	/**
+	 * The kind of key given to interstellar locations.
+	 *
+	 * @see #getKey()
+	 */
+	protected static final int KIND_INTERSTELLAR = 0;
+
+	/**
+	 * The kind of key given to orbital locations.
+	 *
+	 * @see #getKey()
+	 */
+	protected static final int KIND_ORBITAL = 1;
+
+	/**
+	 * The kind of key given to landed locations.
+	 *
+	 * @see #getKey()
+	 */
+	protected static final int KIND_LANDED = 2;
+
+	/**
+	 * The kind of key given to docked locations.
+	 *
+	 * @see #getKey()
+	 */
+	protected static final int KIND_DOCKED = 3;
+
+	/**
+	 * The kind of key given to locations in battle, which are distinct from
+	 * the orbital locations they are at.
+	 *
+	 * @see #getKey()
+	 */
+	protected static final int KIND_BATTLE = 4;
+
+	/**
+	 * The number of bits used for each coordinate in a key.
+	 */
+	private static final int COORD_BITS = 16;
+
+	/**
+	 * The number of bits used for the orbit in a key.
+	 */
+	private static final int ORBIT_BITS = 8;
+
+	/**
+	 * The number of bits used for each region coordinate in a key.
+	 */
+	private static final int REGION_BITS = 10;
+
 	/**
 	 * The galaxy the location is in.
 	 */
@@ -55,12 +106,34 @@ public class Location
 	private final Coord coord;
 
 	/**
-	 * Creates a new location.
+	 * The kind, coordinates, orbit, and region coordinates of the location
+	 * packed into a single value.
+	 *
+	 * @see #pack(int, Coord, int, Coord)
+	 */
+	private final long key;
+
+	/**
+	 * Creates a new location. Locations in use should be retrieved from the
+	 * galaxy instead, so that they are shared.
 	 *
 	 * @param galaxy the galaxy the location is in
 	 * @param coord  the coordinates of the location
+	 * @see Galaxy#getLocation(Coord)
 	 */
 	public Location(Galaxy galaxy, Coord coord)
+	{
+		this(galaxy, coord, pack(KIND_INTERSTELLAR, coord, 0, null));
+	}
+
+	/**
+	 * Creates a new location with a key generated by a subclass.
+	 *
+	 * @param galaxy the galaxy the location is in
+	 * @param coord  the coordinates of the location
+	 * @param key    the packed key of the location
+	 */
+	protected Location(Galaxy galaxy, Coord coord, long key)
 	{
 		if (!galaxy.contains(coord)) {
 			throw new IndexOutOfBoundsException(
@@ -70,6 +143,7 @@ public class Location
 
 		this.galaxy = galaxy;
 		this.coord = coord;
+		this.key = key;
 	}
 
 	/**
@@ -103,6 +177,48 @@ public class Location
 		return coord;
 	}
 
+	/**
+	 * Gets the packed key of the location. Two locations in the same galaxy
+	 * are equal if and only if their keys are equal.
+	 *
+	 * @return the packed key of the location
+	 */
+	public long getKey()
+	{
+		return key;
+	}
+
+	/**
+	 * Gets the kind of the location, as stored in its key.
+	 *
+	 * @return the kind of the location
+	 */
+	protected int getKind()
+	{
+		return (int) (key >>> (COORD_BITS * 2 + ORBIT_BITS + REGION_BITS * 2));
+	}
+
+	/**
+	 * Packs the fields of a location into a single key.
+	 *
+	 * @param kind        the kind of location
+	 * @param coord       the coordinates of the location
+	 * @param orbit       the orbit of the location, 0 if not in a sector
+	 * @param regionCoord the coordinates of the region of the location, null
+	 *                    if not landed
+	 * @return the packed key
+	 */
+	protected static long pack(int kind, Coord coord, int orbit, Coord regionCoord)
+	{
+		long key = kind;
+		key = (key << COORD_BITS) | coord.x;
+		key = (key << COORD_BITS) | coord.y;
+		key = (key << ORBIT_BITS) | orbit;
+		key = (key << REGION_BITS) | (regionCoord == null ? 0 : regionCoord.x);
+		key = (key << REGION_BITS) | (regionCoord == null ? 0 : regionCoord.y);
+		return key;
+	}
+
 	/**
 	 * Gets the sector at the location's coordinates.
 	 *
@@ -141,7 +257,7 @@ public class Location
 	{
 		return (
 			galaxy.contains(destination)
-			? new Location(galaxy, destination)
+			? galaxy.getLocation(destination)
 			: null
 		);
 	}
@@ -156,7 +272,7 @@ public class Location
 		return (
 			getSector().isEmpty()
 			? null
-			: new SectorLocation(this, getSector().getOrbits())
+			: getSector().getOrbitLocation(getSector().getOrbits())
 		);
 	}
 
@@ -165,25 +281,31 @@ public class Location
 	{
 		StringBuilder params = new StringBuilder();
 
-		if (this instanceof StationLocation) {
+		switch (getKind()) {
+		case KIND_DOCKED:
 			params.append(STATION_LOCATION);
-		} else if (this instanceof PlanetLocation) {
+			break;
+		case KIND_LANDED:
 			params.append(PLANET_LOCATION);
-		} else if (this instanceof SectorLocation) {
+			break;
+		case KIND_ORBITAL:
+		case KIND_BATTLE:
 			params.append(SECTOR_LOCATION);
-		} else {
+			break;
+		default:
 			params.append(LOCATION);
+			break;
 		}
 
 		params.append("; ").append(Utility.coordToOrderedPair(coord));
 
-		if (!(this instanceof SectorLocation)) {
+		if (getKind() == KIND_INTERSTELLAR) {
 			return params.toString();
 		}
 
 		params.append("; ").append(((SectorLocation) this).getOrbit());
 
-		if (this instanceof PlanetLocation) {
+		if (getKind() == KIND_LANDED) {
 			params.append("; ").append(((PlanetLocation) this).getRegionCoord());
 		}
 
@@ -203,41 +325,49 @@ public class Location
 		String[] params = value.split("; ");
 
 		Coord coord = Utility.parseCoord(params[1]);
-		Location location = new Location(galaxy, coord);
 
 		if (LOCATION.equals(params[0])) {
-			return location;
+			return galaxy.getLocation(coord);
 		}
 
 		int orbit = Utility.parseInt(params[2]);
-		SectorLocation sectorLocation = new SectorLocation(location, orbit);
 
 		if (PLANET_LOCATION.equals(params[0])) {
-			return new PlanetLocation(
-					sectorLocation,
+			return galaxy.getPlanetLocation(
+					coord,
+					orbit,
 					Utility.parseCoord(params[3])
 				);
 		}
 
 		if (STATION_LOCATION.equals(params[0])) {
-			return new StationLocation(sectorLocation);
+			return galaxy.getStationLocation(coord, orbit);
 		}
 
-		return sectorLocation;
+		return galaxy.getSectorLocation(coord, orbit);
 	}
 
 	/**
-	 * Returns true if this location equals the given location.
+	 * Returns true if this location equals the given location. A location in
+	 * battle is only equal to other locations in battle at the same orbit.
 	 *
 	 * @param o the other location to check
 	 * @return true if the locations are equal
 	 */
 	public boolean equals(Location o)
 	{
-		return (
-			!(o instanceof SectorLocation)
-			&& galaxy == o.galaxy
-			&& coord.equals(o.coord)
-		);
+		return o != null && key == o.key && galaxy == o.galaxy;
+	}
+
+	@Override
+	public boolean equals(Object o)
+	{
+		return o instanceof Location && equals((Location) o);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return Long.hashCode(key);
 	}
 }
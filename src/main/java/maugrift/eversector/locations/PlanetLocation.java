@@ -27,7 +27,11 @@ public class PlanetLocation extends SectorLocation
 	 */
 	public PlanetLocation(SectorLocation location, Coord regionCoord)
 	{
-		super(location);
+		super(
+			location,
+			location.getOrbit(),
+			pack(KIND_LANDED, location.getCoord(), location.getOrbit(), regionCoord)
+		);
 
 		if (!location.isPlanet()) {
 			throw new IllegalArgumentException(
@@ -82,7 +86,7 @@ public class PlanetLocation extends SectorLocation
 	 */
 	public SectorLocation takeoff()
 	{
-		return new SectorLocation(this);
+		return getSector().getOrbitLocation(getOrbit());
 	}
 
 	/**
@@ -99,39 +103,21 @@ public class PlanetLocation extends SectorLocation
 
 		Coord destination = regionCoord.translate(direction);
 		if (getPlanet().contains(destination)) {
-			return new PlanetLocation(this, destination);
+			return getPlanet().regionAt(destination).getLocation();
 		}
 
 		if (direction.hasUp() || direction.hasDown()) {
-			return new PlanetLocation(
-					this,
+			return getPlanet().regionAt(
 					regionCoord.setX(getPlanet().getOppositeSide(regionCoord.x))
-				);
+				).getLocation();
 		}
 
 		return (
 			direction.hasRight()
-			? new PlanetLocation(this, regionCoord.setX(0))
-			: new PlanetLocation(
-				this,
+			? getPlanet().regionAt(regionCoord.setX(0)).getLocation()
+			: getPlanet().regionAt(
 				regionCoord.setX(getPlanet().getNColumns() - 1)
-			)
-		);
-	}
-
-	@Override
-	public boolean equals(Location o)
-	{
-		if (!(o instanceof PlanetLocation)) {
-			return false;
-		}
-
-		PlanetLocation cast = (PlanetLocation) o;
-		return (
-			getGalaxy() == cast.getGalaxy()
-			&& getCoord().equals(cast.getCoord())
-			&& getOrbit() == cast.getOrbit()
-			&& regionCoord.equals(cast.regionCoord)
+			).getLocation()
 		);
 	}
 }
@@ -20,15 +20,34 @@ public class SectorLocation extends Location
 	private final int orbit;
 
 	/**
-	 * Creates a new sector location.
+	 * Creates a new sector location. Locations in use should be retrieved
+	 * from the galaxy instead, so that they are shared.
 	 *
 	 * @param location the location of the sector
 	 * @param orbit    the orbit in the sector
 	 * @throws IndexOutOfBoundsException if the given orbit is not found
+	 * @see maugrift.eversector.map.Galaxy#getSectorLocation(Coord, int)
 	 */
 	public SectorLocation(Location location, int orbit)
 	{
-		super(location);
+		this(
+			location,
+			orbit,
+			pack(KIND_ORBITAL, location.getCoord(), orbit, null)
+		);
+	}
+
+	/**
+	 * Creates a new sector location with a key generated by a subclass.
+	 *
+	 * @param location the location of the sector
+	 * @param orbit    the orbit in the sector
+	 * @param key      the packed key of the location
+	 * @throws IndexOutOfBoundsException if the given orbit is not found
+	 */
+	protected SectorLocation(Location location, int orbit, long key)
+	{
+		super(location.getGalaxy(), location.getCoord(), key);
 
 		if (!getSector().isValidOrbit(orbit)) {
 			throw new IndexOutOfBoundsException(
@@ -119,7 +138,7 @@ public class SectorLocation extends Location
 	{
 		return (
 			getSector().isValidOrbit(orbit)
-			? new SectorLocation(this, orbit)
+			? getSector().getOrbitLocation(orbit)
 			: null
 		);
 	}
@@ -134,7 +153,7 @@ public class SectorLocation extends Location
 		return (
 			orbit == getSector().getOrbits()
 			? null
-			: new SectorLocation(this, orbit + 1)
+			: getSector().getOrbitLocation(orbit + 1)
 		);
 	}
 
@@ -145,7 +164,7 @@ public class SectorLocation extends Location
 	 */
 	public SectorLocation lowerOrbit()
 	{
-		return orbit == 1 ? null : new SectorLocation(this, orbit - 1);
+		return orbit == 1 ? null : getSector().getOrbitLocation(orbit - 1);
 	}
 
 	/**
@@ -155,7 +174,11 @@ public class SectorLocation extends Location
 	 */
 	public Location escapeSector()
 	{
-		return orbit == getSector().getOrbits() ? new Location(this) : null;
+		return (
+			orbit == getSector().getOrbits()
+			? getSector().getLocation()
+			: null
+		);
 	}
 
 	/**
@@ -166,7 +189,11 @@ public class SectorLocation extends Location
 	 */
 	public PlanetLocation land(Coord regionCoord)
 	{
-		return isPlanet() ? new PlanetLocation(this, regionCoord) : null;
+		return (
+			isPlanet()
+			? getGalaxy().getPlanetLocation(getCoord(), orbit, regionCoord)
+			: null
+		);
 	}
 
 	/**
@@ -176,7 +203,7 @@ public class SectorLocation extends Location
 	 */
 	public StationLocation dock()
 	{
-		return isStation() ? new StationLocation(this) : null;
+		return isStation() ? getSector().getDockedLocation(orbit) : null;
 	}
 
 	/**
@@ -189,23 +216,4 @@ public class SectorLocation extends Location
 	{
 		return new BattleLocation(this, battle);
 	}
-
-	@Override
-	public boolean equals(Location o)
-	{
-		if (
-			!(o instanceof SectorLocation)
-			|| o instanceof PlanetLocation
-			|| o instanceof StationLocation
-		) {
-			return false;
-		}
-
-		SectorLocation cast = (SectorLocation) o;
-		return (
-			getGalaxy() == cast.getGalaxy()
-			&& getCoord().equals(cast.getCoord())
-			&& orbit == cast.orbit
-		);
-	}
 }
@@ -16,7 +16,11 @@ public class StationLocation extends SectorLocation
 	 */
 	public StationLocation(SectorLocation location)
 	{
-		super(location);
+		super(
+			location,
+			location.getOrbit(),
+			pack(KIND_DOCKED, location.getCoord(), location.getOrbit(), null)
+		);
 
 		if (!location.isStation()) {
 			throw new IllegalArgumentException(
@@ -32,21 +36,6 @@ public class StationLocation extends SectorLocation
 	 */
 	public SectorLocation undock()
 	{
-		return new SectorLocation(this);
-	}
-
-	@Override
-	public boolean equals(Location o)
-	{
-		if (!(o instanceof StationLocation)) {
-			return false;
-		}
-
-		StationLocation cast = (StationLocation) o;
-		return (
-			getGalaxy() == cast.getGalaxy()
-			&& getCoord().equals(cast.getCoord())
-			&& getOrbit() == cast.getOrbit()
-		);
+		return getSector().getOrbitLocation(getOrbit());
 	}
 }
@@ -0,0 +1,121 @@
+package maugrift.eversector.map;
+
+import maugrift.eversector.faction.Faction;
+
+/**
+ * The number of bodies each faction controls in a planet or sector, and the
+ * faction that controls the most of them. Counts are changed one at a time as
+ * bodies are claimed, so finding the dominant faction never requires looking
+ * at the bodies again.
+ *
+ * @author Aaron Friesen
+ */
+public class ControlTally
+{
+	/**
+	 * The galaxy the factions are in.
+	 */
+	private final Galaxy galaxy;
+
+	/**
+	 * The number of bodies controlled by each faction, indexed by the
+	 * faction's index.
+	 */
+	private final int[] control;
+
+	/**
+	 * The faction controlling more bodies than any other, null if there is a
+	 * tie or no bodies are controlled.
+	 */
+	private Faction faction;
+
+	/**
+	 * Creates a tally in which no bodies are controlled.
+	 *
+	 * @param galaxy the galaxy the factions are in
+	 */
+	public ControlTally(Galaxy galaxy)
+	{
+		this.galaxy = galaxy;
+		control = new int[galaxy.getFactions().length];
+		faction = null;
+	}
+
+	/**
+	 * Gets the faction controlling more bodies than any other.
+	 *
+	 * @return the dominant faction, null if there is a tie or no bodies are
+	 *         controlled
+	 */
+	public Faction getFaction()
+	{
+		return faction;
+	}
+
+	/**
+	 * Records a body changing hands.
+	 *
+	 * @param previous the faction that controlled the body, null if it was
+	 *                 unclaimed
+	 * @param current  the faction that now controls the body, null if it is
+	 *                 now unclaimed
+	 * @return true if the dominant faction changed
+	 */
+	public boolean change(Faction previous, Faction current)
+	{
+		if (previous == current) {
+			return false;
+		}
+
+		if (previous != null) {
+			control[previous.getIndex()]--;
+		}
+
+		if (current != null) {
+			control[current.getIndex()]++;
+		}
+
+		return updateFaction();
+	}
+
+	/**
+	 * Forgets all controlled bodies.
+	 */
+	public void clear()
+	{
+		for (int i = 0; i < control.length; i++) {
+			control[i] = 0;
+		}
+		faction = null;
+	}
+
+	/**
+	 * Finds the faction controlling more bodies than any other.
+	 *
+	 * @return true if the dominant faction changed
+	 */
+	private boolean updateFaction()
+	{
+		int index = -1;
+		int maxBodies = 0; // The most owned bodies in a faction
+
+		for (int i = 0; i < control.length; i++) {
+			if (control[i] > maxBodies) {
+				maxBodies = control[i];
+				index = i;
+			} else if (control[i] == maxBodies) {
+				// Set the index to an invalid value so that it is known that
+				// there is a tie, but so that it can also be easily overwritten
+				index = -1;
+			}
+		}
+
+		Faction dominant = index == -1 ? null : galaxy.getFactions()[index];
+		if (dominant == faction) {
+			return false;
+		}
+
+		faction = dominant;
+		return true;
+	}
+}
@@ -6,14 +6,25 @@ import maugrift.apwt.glyphs.ColorString;
 import maugrift.eversector.Symbol;
 import maugrift.eversector.actions.Action;
 import maugrift.eversector.actions.Dock;
+import maugrift.eversector.faction.Blackboard;
 import maugrift.eversector.faction.Faction;
+import maugrift.eversector.faction.InfluenceMap;
 import maugrift.eversector.faction.Relationship;
 import maugrift.eversector.locations.Location;
+import maugrift.eversector.locations.PlanetLocation;
 import maugrift.eversector.locations.SectorLocation;
+import maugrift.eversector.locations.StationLocation;
+import maugrift.eversector.ships.Battle;
+import maugrift.eversector.ships.BattleEstimator;
+import maugrift.eversector.ships.CoarseSimulation;
+import maugrift.eversector.ships.NavigationField;
+import maugrift.eversector.ships.PlanningBudget;
 import maugrift.eversector.ships.Ship;
+import maugrift.eversector.ships.ShipTable;
 import maugrift.eversector.Main;
 import squidpony.squidgrid.MultiSpill;
 import squidpony.squidmath.Coord;
+import squidpony.squidmath.RNG;
 
 import java.awt.*;
 import java.util.*;
@@ -101,7 +112,7 @@ public class Galaxy
 	/**
 	 * All NPC ships in the galaxy.
 	 */
-	private List<Ship> ships;
+	private ShipTable ships;
 
 	/**
 	 * The factions in the galaxy.
@@ -119,14 +130,78 @@ public class Galaxy
 	private int turn;
 
 	/**
-	 * The names of all star system names in the galaxy, to avoid duplication.
+	 * The names of all star systems in the galaxy and their sectors, to avoid
+	 * duplication.
 	 */
-	private List<String> starNames;
+	private NameRegistry<Sector> starNames;
 
 	/**
-	 * The names of all ships in the galaxy, to avoid duplication.
+	 * The names of all ships in the galaxy and the ships themselves, to avoid
+	 * duplication.
 	 */
-	private List<String> shipNames;
+	private NameRegistry<Ship> shipNames;
+
+	/**
+	 * The number of times any relationship between factions has changed, used
+	 * to tell when plans based on hostility are out of date.
+	 */
+	private int relationshipChanges;
+
+	/**
+	 * The strategic plan shared by unaligned ships.
+	 */
+	private Blackboard unalignedBlackboard;
+
+	/**
+	 * The limit on how many ships may choose a new destination each turn.
+	 */
+	private PlanningBudget planningBudget;
+
+	/**
+	 * The routes to each sector, indexed by the sector's coordinates. Null
+	 * until the first route is requested, and null for each sector until a
+	 * ship is headed there.
+	 */
+	private NavigationField[] navigationFields;
+
+	/**
+	 * The strength of each faction and the value of the territory in each
+	 * sector.
+	 */
+	private InfluenceMap influenceMap;
+
+	/**
+	 * The simpler model used for ships far from the player.
+	 */
+	private CoarseSimulation coarseSimulation;
+
+	/**
+	 * The battles between AI ships started this turn, in the order they were
+	 * started. They are resolved once every ship has acted.
+	 */
+	private List<Battle> queuedBattles;
+
+	/**
+	 * The estimator used by AI ships to decide whether to fight.
+	 */
+	private BattleEstimator battleEstimator;
+
+	/**
+	 * The stock and prices of items at every station.
+	 */
+	private Market market;
+
+	/**
+	 * The regions that will recover ore, scheduled by the turn of their next
+	 * recovery.
+	 */
+	private TimingWheel<Region> oreRegeneration;
+
+	/**
+	 * The ships that are asleep, scheduled by the turn they will wake if
+	 * nothing wakes them sooner.
+	 */
+	private TimingWheel<Ship> wakeups;
 
 	/**
 	 * Generates a galaxy with the default size.
@@ -144,16 +219,28 @@ public class Galaxy
 	public Galaxy(int size)
 	{
 		sectors = new Sector[size * 2 + 1][size * 2 + 1];
-		ships = new LinkedList<>();
+		ships = new ShipTable();
 		factions = new Faction[Main.rng.nextInt(FACTION_RANGE) + MIN_FACTIONS];
 		oreTypes = generateOreTypes();
 		turn = -SIMULATED_TURNS;
-		starNames = new LinkedList<>();
-		shipNames = new LinkedList<>();
+		starNames = new NameRegistry<>();
+		shipNames = new NameRegistry<>();
+		relationshipChanges = 0;
+		unalignedBlackboard = new Blackboard(this, null);
+		planningBudget = new PlanningBudget();
+		navigationFields = null;
+		coarseSimulation = new CoarseSimulation();
+		queuedBattles = new ArrayList<>();
+		battleEstimator = new BattleEstimator();
+		market = new Market(Station.getNItems(), getWidth(), getHeight());
+		oreRegeneration = new TimingWheel<>(turn - 1);
+		wakeups = new TimingWheel<>(turn - 1);
 
 		// Factions must be created first so they can be assigned to ships
 		createFactions();
+		influenceMap = new InfluenceMap(this);
 		init();
+		influenceMap.countTerritory();
 	}
 
 	/**
@@ -169,9 +256,9 @@ public class Galaxy
 	/**
 	 * Gets the ships in the galaxy.
 	 *
-	 * @return a list of all ships in the galaxy
+	 * @return the table of all NPC ships in the galaxy
 	 */
-	public List<Ship> getShips()
+	public ShipTable getShips()
 	{
 		return ships;
 	}
@@ -196,6 +283,149 @@ public class Galaxy
 		return turn;
 	}
 
+	/**
+	 * Gets the strategic plan shared by the ships of a faction.
+	 *
+	 * @param faction the faction, null for unaligned ships
+	 * @return the blackboard of the faction
+	 */
+	public Blackboard getBlackboard(Faction faction)
+	{
+		return faction == null ? unalignedBlackboard : faction.getBlackboard();
+	}
+
+	/**
+	 * Gets the limit on how many ships may choose a new destination each
+	 * turn.
+	 *
+	 * @return the galaxy's planning budget
+	 */
+	public PlanningBudget getPlanningBudget()
+	{
+		return planningBudget;
+	}
+
+	/**
+	 * Gets the regions that will recover ore, scheduled by turn.
+	 *
+	 * @return the schedule of ore recovery
+	 */
+	public TimingWheel<Region> getOreRegeneration()
+	{
+		return oreRegeneration;
+	}
+
+	/**
+	 * Stops a ship from being visited each turn until it wakes.
+	 *
+	 * @param ship     the ship that fell asleep
+	 * @param wakeTurn the turn the ship will wake if nothing wakes it sooner
+	 */
+	public void sleep(Ship ship, int wakeTurn)
+	{
+		ships.setAwake(ship, false);
+		wakeups.schedule(ship, wakeTurn);
+	}
+
+	/**
+	 * Makes a ship be visited each turn again, starting this turn if it has
+	 * not yet been passed.
+	 *
+	 * @param ship the ship that woke
+	 */
+	public void wake(Ship ship)
+	{
+		ships.setAwake(ship, true);
+	}
+
+	/**
+	 * Gets the stock and prices of items at every station.
+	 *
+	 * @return the galaxy's market
+	 */
+	public Market getMarket()
+	{
+		return market;
+	}
+
+	/**
+	 * Gets the estimator used by AI ships to decide whether to fight.
+	 *
+	 * @return the galaxy's battle estimator
+	 */
+	public BattleEstimator getBattleEstimator()
+	{
+		return battleEstimator;
+	}
+
+	/**
+	 * Gets the strength of each faction and the value of the territory in
+	 * each sector.
+	 *
+	 * @return the galaxy's influence map
+	 */
+	public InfluenceMap getInfluenceMap()
+	{
+		return influenceMap;
+	}
+
+	/**
+	 * Gets the routes to a sector from every other sector, finding them if no
+	 * ship has headed there before. Routes never change, since every sector
+	 * can always be burned through.
+	 *
+	 * @param destination the coordinates of the sector to reach
+	 * @return the routes to the sector
+	 */
+	public NavigationField getNavigationField(Coord destination)
+	{
+		if (navigationFields == null) {
+			navigationFields = new NavigationField[getWidth() * getHeight()];
+		}
+
+		int index = destination.y * getWidth() + destination.x;
+		NavigationField field = navigationFields[index];
+		if (field == null) {
+			field = new NavigationField(this, destination);
+			navigationFields[index] = field;
+		}
+
+		return field;
+	}
+
+	/**
+	 * Queues a battle between AI ships to be resolved after every ship has
+	 * acted this turn. The battle is given its own random number generator,
+	 * seeded in the order battles are queued, so that its outcome does not
+	 * depend on the actions of ships outside of it.
+	 *
+	 * @param battle the battle to queue
+	 */
+	public void queueBattle(Battle battle)
+	{
+		battle.setRNG(new RNG(Main.rng.nextLong()));
+		battle.deferResults();
+		queuedBattles.add(battle);
+	}
+
+	/**
+	 * Gets the number of times any relationship between factions has changed.
+	 *
+	 * @return the number of relationship changes in the galaxy
+	 */
+	public int getRelationshipChanges()
+	{
+		return relationshipChanges;
+	}
+
+	/**
+	 * Records that a relationship between factions has changed.
+	 */
+	public void countRelationshipChange()
+	{
+		relationshipChanges++;
+	}
+
 	/**
 	 * Gets the width of the galaxy in sectors.
 	 *
@@ -249,6 +479,75 @@ public class Galaxy
 		return p == null ? null : sectorAt(p.x, p.y);
 	}
 
+	/**
+	 * Gets the shared interstellar location at the given coordinates.
+	 *
+	 * @param coord the coordinates of the location
+	 * @return the interstellar location at the coordinates
+	 */
+	public Location getLocation(Coord coord)
+	{
+		return sectorAt(coord).getLocation();
+	}
+
+	/**
+	 * Gets the shared orbital location at the given coordinates and orbit.
+	 *
+	 * @param coord the coordinates of the sector
+	 * @param orbit the orbit in the sector
+	 * @return the orbital location at the coordinates and orbit
+	 */
+	public SectorLocation getSectorLocation(Coord coord, int orbit)
+	{
+		return sectorAt(coord).getOrbitLocation(orbit);
+	}
+
+	/**
+	 * Gets the shared docked location at the station at the given coordinates
+	 * and orbit.
+	 *
+	 * @param coord the coordinates of the sector
+	 * @param orbit the orbit of the station in the sector
+	 * @return the docked location at the station
+	 */
+	public StationLocation getStationLocation(Coord coord, int orbit)
+	{
+		return sectorAt(coord).getDockedLocation(orbit);
+	}
+
+	/**
+	 * Gets the shared landed location at the given region of the planet at
+	 * the given coordinates and orbit.
+	 *
+	 * @param coord       the coordinates of the sector
+	 * @param orbit       the orbit of the planet in the sector
+	 * @param regionCoord the coordinates of the region on the planet
+	 * @return the landed location at the region
+	 * @throws IllegalArgumentException  if there is no planet at the orbit
+	 * @throws IndexOutOfBoundsException if the given region coord is not found
+	 */
+	public PlanetLocation getPlanetLocation(
+		Coord coord,
+		int orbit,
+		Coord regionCoord
+	)
+	{
+		Planet planet = sectorAt(coord).getPlanetAt(orbit);
+		if (planet == null) {
+			throw new IllegalArgumentException(
+				"No planet found at the given location"
+			);
+		}
+
+		if (!planet.contains(regionCoord)) {
+			throw new IndexOutOfBoundsException(
+				"Given coord not found on planet"
+			);
+		}
+
+		return planet.regionAt(regionCoord).getLocation();
+	}
+
 	/**
 	 * Returns true if the specified coordinates are in the galaxy.
 	 *
@@ -306,13 +605,7 @@ public class Galaxy
 	 */
 	public int getIndex(Faction faction)
 	{
-		for (int i = 0; i < factions.length; i++) {
-			if (factions[i] == faction) {
-				return i;
-			}
-		}
-
-		return -1;
+		return faction == null ? -1 : faction.getIndex();
 	}
 
 	/**
@@ -378,7 +671,7 @@ public class Galaxy
 	 *
 	 * @return the names of all star systems
 	 */
-	public List<String> getStarNames()
+	public NameRegistry<Sector> getStarNames()
 	{
 		return starNames;
 	}
@@ -388,19 +681,61 @@ public class Galaxy
 	 *
 	 * @return the names of all ships
 	 */
-	public List<String> getShipNames()
+	public NameRegistry<Ship> getShipNames()
 	{
 		return shipNames;
 	}
 
 	/**
-	 * Sets the player to a designated ship.
+	 * Finds the ship with the given name, or with the given name preceded by
+	 * its classification, ignoring case. Since both classifications and names
+	 * may contain spaces, the name is looked up after each space in turn
+	 * until the words before it are the classification of the ship found.
+	 *
+	 * @param name the name of the ship, or the ship as a string
+	 * @return the ship with the given name, null if not found
+	 * @see Ship#toString()
+	 */
+	public Ship getShip(String name)
+	{
+		if (name == null) {
+			return null;
+		}
+
+		Ship ship = shipNames.get(name);
+		if (ship != null) {
+			return ship;
+		}
+
+		for (
+			int space = name.indexOf(' ');
+			space != -1;
+			space = name.indexOf(' ', space + 1)
+		) {
+			ship = shipNames.get(name.substring(space + 1));
+			if (ship != null && name.equalsIgnoreCase(ship.toString())) {
+				return ship;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Sets the player to a designated ship, registering its name, which is
+	 * numbered if it has been taken by another ship.
 	 *
 	 * @param player the ship to become the player
 	 */
 	public void setPlayer(Ship player)
 	{
+		if (this.player != null) {
+			this.player.setPlayer(false);
+		}
+
 		this.player = player;
+		player.setPlayer(true);
+		player.setName(shipNames.registerUnique(player.getName(), player));
 	}
 
 	/**
@@ -408,18 +743,18 @@ public class Galaxy
 	 */
 	public void createNewPlayer()
 	{
-		SectorLocation location = new Location(
-			this,
-			getRandomStationSystem().getLocation().getCoord()
-		).enterSector();
+		SectorLocation location = getRandomStationSystem()
+			.getLocation()
+			.enterSector();
 		location = location.setOrbit(
 				location.getSector().getRandomStationOrbit()
 			);
 
 		Faction faction = location.getStation().getFaction();
-		player = new Ship(location, faction);
-		player.setName("Player");
-		player.setAI(null);
+		Ship newPlayer = new Ship(location, faction);
+		newPlayer.setName("Player");
+		newPlayer.setAI(null);
+		setPlayer(newPlayer);
 	}
 
 	/**
@@ -567,14 +902,41 @@ public class Galaxy
 			player.updateContinuousEffects();
 		}
 
-		for (Ship ship : ships) {
+		oreRegeneration.advance(turn, Region::regenerateOre);
+		wakeups.advance(turn, this::wake);
+		planningBudget.startTurn();
+		coarseSimulation.startTurn(player, turn);
+		for (
+			int id = ships.nextAwakeId(0);
+			id != -1;
+			id = ships.nextAwakeId(id + 1)
+		) {
+			Ship ship = ships.get(id);
+
+			// A ship woken early and put back to sleep is woken again by its
+			// earlier schedule, so it is put back to sleep until its new one
+			if (ship.getAI().isAsleep(turn)) {
+				ships.setAwake(ship, false);
+				continue;
+			}
+
+			if (coarseSimulation.simulate(ship)) {
+				continue;
+			}
+
 			Action action = ship.getAI().act();
-			if (action != null) {
-				action.execute(ship);
+			if (action != null && action.execute(ship) == null) {
+				ship.getAI().sleepAfter(action);
 			}
 		}
 
-		ships.removeIf(Ship::isDestroyed);
+		resolveBattles();
+		ships.removeDestroyed();
+
+		market.updatePrices();
+		if (player != null) {
+			player.updatePrices();
+		}
 
 		for (Faction faction : factions) {
 			faction.cacheAverageReputation();
@@ -600,9 +962,7 @@ public class Galaxy
 					// if (station.getFaction().changeEconomy(-Ship.BASE_VALUE))
 					// {
 					Ship newShip = new Ship(
-						new SectorLocation(
-							sector.getLocation(),
-							station.getLocation().getOrbit()),
+						station.getLocation(),
 						station.getFaction()
 					);
 					new Dock().execute(newShip);
@@ -641,6 +1001,28 @@ public class Galaxy
 		turn++;
 	}
 
+	/**
+	 * Resolves the battles queued this turn. The battles are fought at the same
+	 * time, and their results are then merged in the order they were queued.
+	 *
+	 * @see #queueBattle(Battle)
+	 */
+	private void resolveBattles()
+	{
+		// Each battle is fought in isolation with its own random number
+		// generator, so the battles can be fought at once without affecting
+		// each other's results
+		queuedBattles.parallelStream().forEach(Battle::fight);
+
+		// Reputation and loot are merged only once every battle has been
+		// fought, so no battle sees the results of another
+		for (Battle battle : queuedBattles) {
+			battle.mergeResults();
+		}
+
+		queuedBattles.clear();
+	}
+
 	/**
 	 * Holds scheduled elections for factions based on when their last election
 	 * occurred, as well as for factions with destroyed leaders.
@@ -767,7 +1149,7 @@ public class Galaxy
 				color = AsciiPanel.brightWhite;
 				break;
 			}
-			factions[i] = new Faction(this, color);
+			factions[i] = new Faction(this, i, color);
 		}
 
 		// If there are only two factions, they will always be at war
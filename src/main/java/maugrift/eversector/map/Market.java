@@ -0,0 +1,214 @@
+package maugrift.eversector.map;
+
+import java.util.Arrays;
+
+/**
+ * The stock, demand, and prices of every item at every station in a galaxy.
+ * Trades only change a station's stock and demand, and prices are found from
+ * them for all stations at once at the end of each turn, so a price holds for
+ * a whole turn. The values for each station are stored together in flat
+ * arrays, one entry per item in the shared catalog, and an index of the
+ * prices is kept up to date for finding the best price near a sector.
+ *
+ * @author Aaron Friesen
+ */
+public class Market
+{
+	/**
+	 * The number of stations the arrays have room for initially.
+	 */
+	private static final int CAPACITY = 16;
+
+	/**
+	 * The number of turns a station takes to restock most of the way to its
+	 * usual stock.
+	 */
+	public static final int RESTOCK_TURNS = 20;
+
+	/**
+	 * The number of items in the shared catalog.
+	 */
+	private final int nItems;
+
+	/**
+	 * The number of stations in the market.
+	 */
+	private int nStations;
+
+	/**
+	 * The price of each item at each station when its stock is usual and
+	 * there is no demand.
+	 */
+	private int[] basePrices;
+
+	/**
+	 * The number of each item that each station holds when it has not traded
+	 * recently.
+	 */
+	private int[] usualStock;
+
+	/**
+	 * The number of each item that each station holds. May fall below zero
+	 * when ships buy more than a station holds, in which case the station has
+	 * had to order the difference in.
+	 */
+	private int[] stock;
+
+	/**
+	 * The number of each item recently bought from each station, minus the
+	 * number sold to it. Halves at the end of each turn.
+	 */
+	private int[] demand;
+
+	/**
+	 * The price of each item at each station for the current turn.
+	 */
+	private int[] prices;
+
+	/**
+	 * The prices of each item ordered for searching by location.
+	 */
+	private final MarketIndex index;
+
+	/**
+	 * Creates a market with no stations.
+	 *
+	 * @param nItems the number of items in the shared catalog
+	 * @param width  the width of the galaxy in sectors
+	 * @param height the height of the galaxy in sectors
+	 */
+	public Market(int nItems, int width, int height)
+	{
+		this.nItems = nItems;
+		nStations = 0;
+		basePrices = new int[CAPACITY * nItems];
+		usualStock = new int[CAPACITY * nItems];
+		stock = new int[CAPACITY * nItems];
+		demand = new int[CAPACITY * nItems];
+		prices = new int[CAPACITY * nItems];
+		index = new MarketIndex(nItems, width, height);
+	}
+
+	/**
+	 * Adds a station to the market with its usual stock and no demand.
+	 *
+	 * @param station       the station
+	 * @param stationPrices the base price of each item at the station,
+	 *                      indexed by item ID
+	 * @param stationStock  the usual stock of each item at the station,
+	 *                      indexed by item ID
+	 * @return the index of the station in the market
+	 */
+	public int addStation(
+		Station station,
+		int[] stationPrices,
+		int[] stationStock
+	)
+	{
+		int start = nStations * nItems;
+		if (start + nItems > prices.length) {
+			int length = prices.length * 2;
+			basePrices = Arrays.copyOf(basePrices, length);
+			usualStock = Arrays.copyOf(usualStock, length);
+			stock = Arrays.copyOf(stock, length);
+			demand = Arrays.copyOf(demand, length);
+			prices = Arrays.copyOf(prices, length);
+		}
+
+		System.arraycopy(stationPrices, 0, basePrices, start, nItems);
+		System.arraycopy(stationPrices, 0, prices, start, nItems);
+		System.arraycopy(stationStock, 0, usualStock, start, nItems);
+		System.arraycopy(stationStock, 0, stock, start, nItems);
+		index.addStation(station, stationPrices);
+		nStations++;
+		return nStations - 1;
+	}
+
+	/**
+	 * Gets the number of stations in the market.
+	 *
+	 * @return the number of stations
+	 */
+	public int getNStations()
+	{
+		return nStations;
+	}
+
+	/**
+	 * Gets the index used to find the best price for an item near a sector.
+	 *
+	 * @return the market's index
+	 */
+	public MarketIndex getIndex()
+	{
+		return index;
+	}
+
+	/**
+	 * Gets the price of an item at a station for the current turn.
+	 *
+	 * @param station the index of the station
+	 * @param item    the ID of the item
+	 * @return the price of the item at the station
+	 */
+	public int getPrice(int station, int item)
+	{
+		return prices[station * nItems + item];
+	}
+
+	/**
+	 * Gets the number of an item that a station holds.
+	 *
+	 * @param station the index of the station
+	 * @param item    the ID of the item
+	 * @return the station's stock of the item
+	 */
+	public int getStock(int station, int item)
+	{
+		return stock[station * nItems + item];
+	}
+
+	/**
+	 * Records a trade at a station. The price of the item will not change
+	 * until the end of the turn.
+	 *
+	 * @param station  the index of the station
+	 * @param item     the ID of the item
+	 * @param quantity the number of the item bought from the station, negative
+	 *                 if it was sold to the station
+	 */
+	public void recordTrade(int station, int item, int quantity)
+	{
+		int index = station * nItems + item;
+		stock[index] -= quantity;
+		demand[index] += quantity;
+	}
+
+	/**
+	 * Finds the price of every item at every station from its stock and
+	 * demand, then lets demand fade and stock return toward usual. Prices rise
+	 * as stock falls below usual or demand grows, up to double the base
+	 * price, and fall as stock and sales grow, down to half of it.
+	 */
+	public void updatePrices()
+	{
+		int size = nStations * nItems;
+		for (int i = 0; i < size; i++) {
+			int base = basePrices[i];
+			int usual = Math.max(usualStock[i], 1);
+			int pressure = usual - stock[i] + demand[i];
+			int price = Math.max(
+				Math.max(base / 2, 1),
+				Math.min(base + base * pressure / (usual * 2), base * 2)
+			);
+			if (price != prices[i]) {
+				prices[i] = price;
+				index.changePrice(i, price);
+			}
+
+			demand[i] /= 2;
+			int gap = usualStock[i] - stock[i];
+			stock[i] += gap / RESTOCK_TURNS + Integer.signum(gap);
+		}
+	}
+}
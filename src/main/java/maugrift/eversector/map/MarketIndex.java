@@ -0,0 +1,625 @@
+package maugrift.eversector.map;
+
+import maugrift.eversector.items.Item;
+import squidpony.squidmath.Coord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * The stations selling each item, ordered by price and grouped by sector, with
+ * a quadtree over the sectors of the galaxy that records the lowest and
+ * highest price of each item within each of its nodes. A search for the best
+ * price near a sector only descends into nodes that overlap the range and
+ * whose best price can beat the best station found so far, trying the most
+ * promising node first. Unless stations are rejected by the search's test, it
+ * visits a number of nodes that grows with the logarithm of the galaxy's size
+ * rather than with the number of sectors or stations in range. A station is
+ * moved within its sector, and the prices of the nodes above the sector are
+ * updated, only when the price of one of its items changes.
+ *
+ * @author Aaron Friesen
+ */
+public class MarketIndex
+{
+	/**
+	 * Orders listings by price, then by station, so that no two listings are
+	 * equal.
+	 */
+	private static final Comparator<Listing> BY_PRICE = Comparator
+		.comparingInt((Listing listing) -> listing.price)
+		.thenComparingInt(listing -> listing.station);
+
+	/**
+	 * The number of items in the shared catalog.
+	 */
+	private final int nItems;
+
+	/**
+	 * The width of the galaxy in sectors.
+	 */
+	private final int width;
+
+	/**
+	 * The height of the galaxy in sectors.
+	 */
+	private final int height;
+
+	/**
+	 * The listings in each sector for each item, indexed by the item's ID and
+	 * then by the sector, null for sectors without stations.
+	 */
+	private final List<TreeSet<Listing>> buckets;
+
+	/**
+	 * The listing of each item at each station, indexed the same way as the
+	 * arrays of the market.
+	 */
+	private final List<Listing> listings;
+
+	/**
+	 * The node of the quadtree covering each sector, indexed by sector.
+	 */
+	private final Node[] leaves;
+
+	/**
+	 * The node of the quadtree covering the whole galaxy.
+	 */
+	private final Node root;
+
+	/**
+	 * Creates an index with no stations.
+	 *
+	 * @param nItems the number of items in the shared catalog
+	 * @param width  the width of the galaxy in sectors
+	 * @param height the height of the galaxy in sectors
+	 */
+	public MarketIndex(int nItems, int width, int height)
+	{
+		this.nItems = nItems;
+		this.width = width;
+		this.height = height;
+		int nBuckets = nItems * width * height;
+		buckets = new ArrayList<>(nBuckets);
+		for (int i = 0; i < nBuckets; i++) {
+			buckets.add(null);
+		}
+		listings = new ArrayList<>();
+		leaves = new Node[width * height];
+		root = build(null, 0, 0, width - 1, height - 1);
+	}
+
+	/**
+	 * Builds the quadtree covering a rectangle of sectors, halving the
+	 * rectangle along each axis until it holds a single sector.
+	 *
+	 * @param parent the node above the new node, null for the root
+	 * @param minX   the lowest x coordinate covered
+	 * @param minY   the lowest y coordinate covered
+	 * @param maxX   the highest x coordinate covered
+	 * @param maxY   the highest y coordinate covered
+	 * @return the node covering the rectangle
+	 */
+	private Node build(Node parent, int minX, int minY, int maxX, int maxY)
+	{
+		Node node = new Node(parent, minX, minY, maxX, maxY, nItems);
+		if (minX == maxX && minY == maxY) {
+			leaves[minY * width + minX] = node;
+			return node;
+		}
+
+		int midX = (minX + maxX) / 2;
+		int midY = (minY + maxY) / 2;
+		List<Node> children = new ArrayList<>(4);
+		children.add(build(node, minX, minY, midX, midY));
+		if (midX < maxX) {
+			children.add(build(node, midX + 1, minY, maxX, midY));
+		}
+		if (midY < maxY) {
+			children.add(build(node, minX, midY + 1, midX, maxY));
+		}
+		if (midX < maxX && midY < maxY) {
+			children.add(build(node, midX + 1, midY + 1, maxX, maxY));
+		}
+
+		node.children = children.toArray(new Node[children.size()]);
+		return node;
+	}
+
+	/**
+	 * Adds a station's prices to the index. Stations must be added in the
+	 * order they are added to the market.
+	 *
+	 * @param station the station
+	 * @param prices  the price of each item at the station, indexed by item ID
+	 */
+	public void addStation(Station station, int[] prices)
+	{
+		int index = listings.size() / nItems;
+		Coord coord = station.getLocation().getCoord();
+		int sector = coord.y * width + coord.x;
+		for (int item = 0; item < nItems; item++) {
+			int bucket = item * width * height + sector;
+			if (buckets.get(bucket) == null) {
+				buckets.set(bucket, new TreeSet<>(BY_PRICE));
+			}
+
+			Listing listing = new Listing(
+					station,
+					index,
+					sector,
+					prices[item],
+					buckets.get(bucket)
+				);
+			listings.add(listing);
+			listing.bucket.add(listing);
+			updateNodes(item, listing);
+		}
+	}
+
+	/**
+	 * Records a change in the price of an item at a station.
+	 *
+	 * @param entry the index of the item at the station in the market's
+	 *              arrays
+	 * @param price the new price of the item
+	 */
+	public void changePrice(int entry, int price)
+	{
+		Listing listing = listings.get(entry);
+		listing.bucket.remove(listing);
+		listing.price = price;
+		listing.bucket.add(listing);
+		updateNodes(entry % nItems, listing);
+	}
+
+	/**
+	 * Updates the lowest and highest price of an item in the nodes above the
+	 * sector of a listing after the listing has changed. Stops as soon as a
+	 * node's prices are unchanged, since the nodes above it will be too.
+	 *
+	 * @param item    the ID of the item
+	 * @param listing the listing that changed
+	 */
+	private void updateNodes(int item, Listing listing)
+	{
+		Node node = leaves[listing.sector];
+		node.lowest[item] = listing.bucket.first().price;
+		node.highest[item] = listing.bucket.last().price;
+
+		for (node = node.parent; node != null; node = node.parent) {
+			int lowest = Integer.MAX_VALUE;
+			int highest = Integer.MIN_VALUE;
+			for (Node child : node.children) {
+				lowest = Math.min(lowest, child.lowest[item]);
+				highest = Math.max(highest, child.highest[item]);
+			}
+
+			if (lowest == node.lowest[item] && highest == node.highest[item]) {
+				return;
+			}
+
+			node.lowest[item] = lowest;
+			node.highest[item] = highest;
+		}
+	}
+
+	/**
+	 * Finds the station with the lowest price for an item within a distance
+	 * of a sector.
+	 *
+	 * @param item   the item to buy
+	 * @param center the coordinates of the sector to search around
+	 * @param radius the greatest distance in sectors along either axis
+	 * @param accept tests whether a station may be chosen
+	 * @return the accepted station with the lowest price for the item, null
+	 *         if there is none in range
+	 */
+	public Station getLowestPrice(
+		Item item,
+		Coord center,
+		int radius,
+		Predicate<Station> accept
+	)
+	{
+		return find(item, center, radius, accept, false);
+	}
+
+	/**
+	 * Finds the station with the highest price for an item within a distance
+	 * of a sector, which is the station that will pay the most for it.
+	 *
+	 * @param item   the item to sell
+	 * @param center the coordinates of the sector to search around
+	 * @param radius the greatest distance in sectors along either axis
+	 * @param accept tests whether a station may be chosen
+	 * @return the accepted station with the highest price for the item, null
+	 *         if there is none in range
+	 */
+	public Station getHighestPrice(
+		Item item,
+		Coord center,
+		int radius,
+		Predicate<Station> accept
+	)
+	{
+		return find(item, center, radius, accept, true);
+	}
+
+	/**
+	 * Finds the station with the best price for an item within a distance of
+	 * a sector.
+	 *
+	 * @param item    the item to price
+	 * @param center  the coordinates of the sector to search around
+	 * @param radius  the greatest distance in sectors along either axis
+	 * @param accept  tests whether a station may be chosen
+	 * @param highest true to find the highest price, false for the lowest
+	 * @return the accepted station with the best price for the item, null if
+	 *         there is none in range
+	 */
+	private Station find(
+		Item item,
+		Coord center,
+		int radius,
+		Predicate<Station> accept,
+		boolean highest
+	)
+	{
+		int id = item.getId();
+		if (id < 0 || id >= nItems) {
+			return null;
+		}
+
+		Search search = new Search(
+				id,
+				Math.max(center.x - radius, 0),
+				Math.max(center.y - radius, 0),
+				Math.min(center.x + radius, width - 1),
+				Math.min(center.y + radius, height - 1),
+				accept,
+				highest
+			);
+		search.visit(root);
+		return search.best == null ? null : search.best.owner;
+	}
+
+	/**
+	 * A search for the best price of an item within a rectangle of sectors.
+	 *
+	 * @author Aaron Friesen
+	 */
+	private class Search
+	{
+		/**
+		 * The ID of the item to price.
+		 */
+		private final int item;
+
+		/**
+		 * The lowest x coordinate in range.
+		 */
+		private final int minX;
+
+		/**
+		 * The lowest y coordinate in range.
+		 */
+		private final int minY;
+
+		/**
+		 * The highest x coordinate in range.
+		 */
+		private final int maxX;
+
+		/**
+		 * The highest y coordinate in range.
+		 */
+		private final int maxY;
+
+		/**
+		 * Tests whether a station may be chosen.
+		 */
+		private final Predicate<Station> accept;
+
+		/**
+		 * True to find the highest price, false for the lowest.
+		 */
+		private final boolean highest;
+
+		/**
+		 * The accepted listing with the best price found so far, null if none
+		 * has been found.
+		 */
+		private Listing best;
+
+		/**
+		 * Creates a search.
+		 *
+		 * @param item    the ID of the item to price
+		 * @param minX    the lowest x coordinate in range
+		 * @param minY    the lowest y coordinate in range
+		 * @param maxX    the highest x coordinate in range
+		 * @param maxY    the highest y coordinate in range
+		 * @param accept  tests whether a station may be chosen
+		 * @param highest true to find the highest price, false for the lowest
+		 */
+		public Search(
+			int item,
+			int minX,
+			int minY,
+			int maxX,
+			int maxY,
+			Predicate<Station> accept,
+			boolean highest
+		)
+		{
+			this.item = item;
+			this.minX = minX;
+			this.minY = minY;
+			this.maxX = maxX;
+			this.maxY = maxY;
+			this.accept = accept;
+			this.highest = highest;
+			best = null;
+		}
+
+		/**
+		 * Searches a node if it overlaps the range and may hold a better
+		 * price than the best found so far. The children of the node are
+		 * searched from the one with the best price, and a sector is searched
+		 * from its best price, stopping at the first station that is
+		 * accepted.
+		 *
+		 * @param node the node to search
+		 */
+		public void visit(Node node)
+		{
+			if (
+				node.maxX < minX || node.minX > maxX
+				|| node.maxY < minY || node.minY > maxY
+				|| !canBeat(getPrice(node))
+			) {
+				return;
+			}
+
+			if (node.children == null) {
+				visitSector(node.minY * width + node.minX);
+				return;
+			}
+
+			int visited = 0;
+			for (int i = 0; i < node.children.length; i++) {
+				int next = -1;
+				for (int j = 0; j < node.children.length; j++) {
+					if (
+						(visited & (1 << j)) == 0
+						&& (
+							next == -1
+							|| isBetter(
+								getPrice(node.children[j]),
+								getPrice(node.children[next])
+							)
+						)
+					) {
+						next = j;
+					}
+				}
+
+				visited |= 1 << next;
+				visit(node.children[next]);
+			}
+		}
+
+		/**
+		 * Searches the stations in a sector from the best price, stopping at
+		 * the first station that is accepted, or as soon as no station left
+		 * in it can beat the best found so far.
+		 *
+		 * @param sector the index of the sector
+		 */
+		private void visitSector(int sector)
+		{
+			TreeSet<Listing> bucket = buckets.get(
+					item * width * height + sector
+				);
+			Iterator<Listing> iterator = highest
+				? bucket.descendingIterator()
+				: bucket.iterator();
+			while (iterator.hasNext()) {
+				Listing listing = iterator.next();
+				if (!canBeat(listing.price)) {
+					return;
+				}
+
+				if (accept.test(listing.owner)) {
+					best = listing;
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Gets the best price of the item within a node.
+		 *
+		 * @param node the node to price
+		 * @return the best price of the item within the node, the worst
+		 *         possible price if no station in it sells the item
+		 */
+		private int getPrice(Node node)
+		{
+			return highest ? node.highest[item] : node.lowest[item];
+		}
+
+		/**
+		 * Returns true if a price is better than another.
+		 *
+		 * @param price the price to compare
+		 * @param other the price to compare it to
+		 * @return true if the price is better than the other
+		 */
+		private boolean isBetter(int price, int other)
+		{
+			return highest ? price > other : price < other;
+		}
+
+		/**
+		 * Returns true if a price is better than the best found so far, or is
+		 * a real price if nothing has been found.
+		 *
+		 * @param price the price to check
+		 * @return true if a station with the price could be chosen
+		 */
+		private boolean canBeat(int price)
+		{
+			if (best != null) {
+				return isBetter(price, best.price);
+			}
+
+			return price != (highest ? Integer.MIN_VALUE : Integer.MAX_VALUE);
+		}
+	}
+
+	/**
+	 * A rectangle of sectors in the quadtree, with the lowest and highest
+	 * price of each item at the stations within it.
+	 *
+	 * @author Aaron Friesen
+	 */
+	private static class Node
+	{
+		/**
+		 * The node above this one, null for the root.
+		 */
+		private final Node parent;
+
+		/**
+		 * The lowest x coordinate covered.
+		 */
+		private final int minX;
+
+		/**
+		 * The lowest y coordinate covered.
+		 */
+		private final int minY;
+
+		/**
+		 * The highest x coordinate covered.
+		 */
+		private final int maxX;
+
+		/**
+		 * The highest y coordinate covered.
+		 */
+		private final int maxY;
+
+		/**
+		 * The lowest price of each item within the node, indexed by item ID,
+		 * the largest integer if no station within it sells the item.
+		 */
+		private final int[] lowest;
+
+		/**
+		 * The highest price of each item within the node, indexed by item ID,
+		 * the smallest integer if no station within it sells the item.
+		 */
+		private final int[] highest;
+
+		/**
+		 * The nodes below this one, null if the node covers a single sector.
+		 */
+		private Node[] children;
+
+		/**
+		 * Creates a node with no stations and no children.
+		 *
+		 * @param parent the node above the new node, null for the root
+		 * @param minX   the lowest x coordinate covered
+		 * @param minY   the lowest y coordinate covered
+		 * @param maxX   the highest x coordinate covered
+		 * @param maxY   the highest y coordinate covered
+		 * @param nItems the number of items in the shared catalog
+		 */
+		public Node(
+			Node parent,
+			int minX,
+			int minY,
+			int maxX,
+			int maxY,
+			int nItems
+		)
+		{
+			this.parent = parent;
+			this.minX = minX;
+			this.minY = minY;
+			this.maxX = maxX;
+			this.maxY = maxY;
+			lowest = new int[nItems];
+			highest = new int[nItems];
+			Arrays.fill(lowest, Integer.MAX_VALUE);
+			Arrays.fill(highest, Integer.MIN_VALUE);
+			children = null;
+		}
+	}
+
+	/**
+	 * The price of one item at one station.
+	 *
+	 * @author Aaron Friesen
+	 */
+	private static class Listing
+	{
+		/**
+		 * The station selling the item.
+		 */
+		private final Station owner;
+
+		/**
+		 * The index of the station in the market.
+		 */
+		private final int station;
+
+		/**
+		 * The index of the station's sector.
+		 */
+		private final int sector;
+
+		/**
+		 * The bucket the listing is in.
+		 */
+		private final TreeSet<Listing> bucket;
+
+		/**
+		 * The price of the item at the station.
+		 */
+		private int price;
+
+		/**
+		 * Creates a listing.
+		 *
+		 * @param owner   the station selling the item
+		 * @param station the index of the station in the market
+		 * @param sector  the index of the station's sector
+		 * @param price   the price of the item at the station
+		 * @param bucket  the bucket the listing will be in
+		 */
+		public Listing(
+			Station owner,
+			int station,
+			int sector,
+			int price,
+			TreeSet<Listing> bucket
+		)
+		{
+			this.owner = owner;
+			this.station = station;
+			this.sector = sector;
+			this.price = price;
+			this.bucket = bucket;
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package maugrift.eversector.map;
+
+import maugrift.eversector.Main;
+
+import java.util.HashMap;
+import java.util.function.IntFunction;
+
+/**
+ * A registry of unique names in a galaxy, used to prevent duplicate names and
+ * to find the entity with a given name.
+ *
+ * @param <T> the type of entity being named
+ * @author Aaron Friesen
+ */
+public class NameRegistry<T>
+{
+	/**
+	 * The named entities, keyed by their names in lowercase.
+	 */
+	private final HashMap<String, T> entities;
+
+	/**
+	 * Creates an empty name registry.
+	 */
+	public NameRegistry()
+	{
+		entities = new HashMap<>();
+	}
+
+	/**
+	 * Returns the number of registered names.
+	 *
+	 * @return the number of registered names
+	 */
+	public int size()
+	{
+		return entities.size();
+	}
+
+	/**
+	 * Returns true if the given name has been registered, ignoring case.
+	 *
+	 * @param name the name to check
+	 * @return true if the name has been registered
+	 */
+	public boolean contains(String name)
+	{
+		return name != null && entities.containsKey(name.toLowerCase());
+	}
+
+	/**
+	 * Gets the entity registered with the given name, ignoring case.
+	 *
+	 * @param name the name of the entity to find
+	 * @return the entity with the given name, null if not found
+	 */
+	public T get(String name)
+	{
+		return name == null ? null : entities.get(name.toLowerCase());
+	}
+
+	/**
+	 * Registers a name for an entity if it is not already taken by another
+	 * entity.
+	 *
+	 * @param name   the name to register
+	 * @param entity the entity with the name
+	 * @return true if the name now belongs to the entity
+	 */
+	public boolean register(String name, T entity)
+	{
+		if (name == null) {
+			return false;
+		}
+
+		T existing = entities.putIfAbsent(name.toLowerCase(), entity);
+		return existing == null || existing == entity;
+	}
+
+	/**
+	 * Registers a name for an entity, followed by the lowest number from 2
+	 * that makes it unique if the name is already taken by another entity.
+	 *
+	 * @param name   the name to register
+	 * @param entity the entity with the name
+	 * @return the name now belonging to the entity, null if the name was null
+	 */
+	public String registerUnique(String name, T entity)
+	{
+		if (name == null) {
+			return null;
+		}
+
+		String unique = name;
+		for (int number = 2; !register(unique, entity); number++) {
+			unique = name + " " + number;
+		}
+		return unique;
+	}
+
+	/**
+	 * Frees a name if it is registered to the given entity.
+	 *
+	 * @param name   the name to free
+	 * @param entity the entity with the name
+	 */
+	public void unregister(String name, T entity)
+	{
+		if (name != null) {
+			entities.remove(name.toLowerCase(), entity);
+		}
+	}
+
+	/**
+	 * Draws an unregistered name from an enumerated space of candidate names.
+	 * A random candidate is checked first, followed by the candidates after it
+	 * in order, so no more than the size of the space is ever checked.
+	 *
+	 * @param space      the number of candidate names
+	 * @param candidates the function giving the candidate name at each index
+	 *                   of the space
+	 * @return an unregistered candidate name, null if every candidate is
+	 *         registered
+	 */
+	public String draw(int space, IntFunction<String> candidates)
+	{
+		int start = Main.rng.nextInt(space);
+		for (int i = 0; i < space; i++) {
+			String name = candidates.apply((start + i) % space);
+			if (!contains(name)) {
+				return name;
+			}
+		}
+
+		return null;
+	}
+}
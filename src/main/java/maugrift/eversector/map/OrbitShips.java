@@ -0,0 +1,212 @@
+package maugrift.eversector.map;
+
+import maugrift.eversector.faction.Faction;
+import maugrift.eversector.ships.Ship;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * The ships in orbit at a single orbit of a sector, along with a summary of
+ * the ships other than the player used when rendering the orbit.
+ *
+ * @author Aaron Friesen
+ */
+public class OrbitShips
+{
+	/**
+	 * The ships at the orbit.
+	 */
+	private final List<Ship> ships;
+
+	/**
+	 * The number of ships at the orbit other than the player included in the
+	 * summary.
+	 */
+	private int nSummarized;
+
+	/**
+	 * The highest level of any ship at the orbit other than the player.
+	 */
+	private int highestLevel;
+
+	/**
+	 * The faction shared by every ship at the orbit other than the player,
+	 * null if there is no such faction.
+	 */
+	private Faction commonFaction;
+
+	/**
+	 * True if the ships at the orbit other than the player belong to more than
+	 * one faction, or if any of them are unaligned.
+	 */
+	private boolean mixedFactions;
+
+	/**
+	 * True if a ship has left the orbit or changed since the summary was last
+	 * calculated, meaning that it must be recalculated before it is read.
+	 */
+	private boolean stale;
+
+	/**
+	 * Creates an empty orbit.
+	 */
+	public OrbitShips()
+	{
+		ships = new LinkedList<>();
+		nSummarized = 0;
+		highestLevel = 0;
+		commonFaction = null;
+		mixedFactions = false;
+		stale = false;
+	}
+
+	/**
+	 * Gets the ships at the orbit. The list should not be modified directly.
+	 *
+	 * @return the ships at the orbit
+	 */
+	public List<Ship> getShips()
+	{
+		return ships;
+	}
+
+	/**
+	 * Returns the number of ships at the orbit, including the player.
+	 *
+	 * @return the number of ships at the orbit
+	 */
+	public int size()
+	{
+		return ships.size();
+	}
+
+	/**
+	 * Returns true if there are no ships at the orbit.
+	 *
+	 * @return true if there are no ships at the orbit
+	 */
+	public boolean isEmpty()
+	{
+		return ships.isEmpty();
+	}
+
+	/**
+	 * Returns true if the given ship is at the orbit.
+	 *
+	 * @param ship the ship to find
+	 * @return true if the ship is at the orbit
+	 */
+	public boolean contains(Ship ship)
+	{
+		return ships.contains(ship);
+	}
+
+	/**
+	 * Adds a ship to the orbit, updating the summary without recalculating
+	 * it.
+	 *
+	 * @param ship the ship to add
+	 */
+	public void add(Ship ship)
+	{
+		ships.add(ship);
+		if (!stale) {
+			summarize(ship);
+		}
+	}
+
+	/**
+	 * Removes a ship from the orbit.
+	 *
+	 * @param ship the ship to remove
+	 * @return true if the ship was at the orbit
+	 */
+	public boolean remove(Ship ship)
+	{
+		if (!ships.remove(ship)) {
+			return false;
+		}
+
+		stale = true;
+		return true;
+	}
+
+	/**
+	 * Marks the summary as out of date, to be called when the level or faction
+	 * of a ship at the orbit changes.
+	 */
+	public void invalidate()
+	{
+		stale = true;
+	}
+
+	/**
+	 * Gets the highest level of any ship at the orbit other than the player.
+	 *
+	 * @return the highest level of any ship at the orbit other than the
+	 *         player, 0 if there are none
+	 */
+	public int getHighestLevel()
+	{
+		update();
+		return highestLevel;
+	}
+
+	/**
+	 * Gets the faction shared by every ship at the orbit other than the
+	 * player.
+	 *
+	 * @return the faction shared by every ship at the orbit other than the
+	 *         player, null if there is no such faction
+	 */
+	public Faction getCommonFaction()
+	{
+		update();
+		return mixedFactions ? null : commonFaction;
+	}
+
+	/**
+	 * Recalculates the summary if it is out of date.
+	 */
+	private void update()
+	{
+		if (!stale) {
+			return;
+		}
+
+		nSummarized = 0;
+		highestLevel = 0;
+		commonFaction = null;
+		mixedFactions = false;
+
+		for (Ship ship : ships) {
+			summarize(ship);
+		}
+
+		stale = false;
+	}
+
+	/**
+	 * Includes a ship in the summary if it is not the player.
+	 *
+	 * @param ship the ship to include
+	 */
+	private void summarize(Ship ship)
+	{
+		if (ship.isPlayer()) {
+			return;
+		}
+
+		highestLevel = Math.max(highestLevel, ship.getHighestLevel());
+
+		if (nSummarized == 0) {
+			commonFaction = ship.getFaction();
+			mixedFactions = commonFaction == null;
+		} else if (ship.getFaction() != commonFaction) {
+			mixedFactions = true;
+		}
+
+		nSummarized++;
+	}
+}
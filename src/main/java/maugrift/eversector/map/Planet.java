@@ -379,6 +379,25 @@ public class Planet implements ColorStringObject
 	 */
 	private Faction faction;
 
+	/**
+	 * The number of regions controlled by each faction on the planet. Null if
+	 * the planet cannot be landed on.
+	 */
+	private ControlTally control;
+
+	/**
+	 * The land regions on the planet that are not owned by each faction,
+	 * indexed by the faction's index, with the land regions that are claimed
+	 * last. Null if the planet cannot be landed on.
+	 */
+	private RegionIndex[] unownedLand;
+
+	/**
+	 * The regions on the planet with ore. Null if the planet cannot be landed
+	 * on.
+	 */
+	private RegionIndex oreRegions;
+
 	/**
 	 * The possible ores on the planet.
 	 */
@@ -512,8 +531,9 @@ public class Planet implements ColorStringObject
 			return;
 		}
 
+		Faction previous = this.faction;
 		this.faction = faction;
-		location.getSector().updateFaction();
+		location.getSector().changeControl(previous, faction);
 	}
 
 	/**
@@ -654,7 +674,82 @@ public class Planet implements ColorStringObject
 	}
 
 	/**
-	 * Calculates the dominant faction on the planet, based on region control.
+	 * Records a region on the planet changing hands, updating the regions
+	 * not owned by each faction and the dominant faction on the planet.
+	 *
+	 * @param region   the region, which must already have its new owner
+	 * @param previous the faction that controlled the region, null if it was
+	 *                 unclaimed
+	 */
+	public void changeOwner(Region region, Faction previous)
+	{
+		if (unownedLand != null && region.getType().isLand()) {
+			unownedLand[getLandIndex(previous)].add(region);
+			unownedLand[getLandIndex(region.getFaction())].remove(region);
+		}
+
+		if (control != null && control.change(previous, region.getFaction())) {
+			claim(control.getFaction());
+		}
+	}
+
+	/**
+	 * Adds or removes a region from the regions with ore, according to
+	 * whether it has ore. Must be called whenever a region gains or runs out
+	 * of ore.
+	 *
+	 * @param region the region
+	 */
+	public void updateOre(Region region)
+	{
+		if (oreRegions == null) {
+			return;
+		}
+
+		if (region.hasOre()) {
+			oreRegions.add(region);
+		} else {
+			oreRegions.remove(region);
+		}
+	}
+
+	/**
+	 * Gets the land regions on the planet that are not owned by a faction.
+	 *
+	 * @param faction the faction, null for the land regions that are claimed
+	 * @return the land regions not owned by the faction, null if the planet
+	 *         cannot be landed on
+	 */
+	public RegionIndex getUnownedLand(Faction faction)
+	{
+		return unownedLand == null ? null : unownedLand[getLandIndex(faction)];
+	}
+
+	/**
+	 * Gets the regions on the planet with ore.
+	 *
+	 * @return the regions with ore, null if the planet cannot be landed on
+	 */
+	public RegionIndex getOreRegions()
+	{
+		return oreRegions;
+	}
+
+	/**
+	 * Gets the index of a faction in the array of land regions not owned by
+	 * each faction.
+	 *
+	 * @param faction the faction, null if the region is unclaimed
+	 * @return the index of the faction's unowned land
+	 */
+	private int getLandIndex(Faction faction)
+	{
+		return faction == null ? unownedLand.length - 1 : faction.getIndex();
+	}
+
+	/**
+	 * Calculates the dominant faction on the planet, based on region control,
+	 * by counting the regions controlled by each faction again.
 	 */
 	public void updateFaction()
 	{
@@ -668,36 +763,22 @@ public class Planet implements ColorStringObject
 			return;
 		}
 
-		int[] control = new int[getLocation().getGalaxy().getFactions().length];
+		if (control == null) {
+			control = new ControlTally(getLocation().getGalaxy());
+		} else {
+			control.clear();
+		}
 
 		// Increase the respective counter for each claimed body
 		for (Region[] row : regions) {
 			for (Region region : row) {
-				if (region != null && region.isClaimed()) {
-					control[getLocation().getGalaxy().getIndex(region.getFaction())]++;
+				if (region != null) {
+					control.change(null, region.getFaction());
 				}
 			}
 		}
 
-		int index = -1;
-		int maxBodies = 0; // The most owned bodies in a faction
-
-		for (int i = 0; i < control.length; i++) {
-			if (control[i] > maxBodies) {
-				maxBodies = control[i];
-				index = i;
-			} else if (control[i] == maxBodies) {
-				// Set the index to an invalid value so that it is known that
-				// there is a tie, but so that it can also be easily overwritten
-				index = -1;
-			}
-		}
-
-		claim(
-			index == -1
-			? null
-			: getLocation().getGalaxy().getFactions()[index]
-		);
+		claim(control.getFaction());
 	}
 
 	/**
@@ -707,11 +788,8 @@ public class Planet implements ColorStringObject
 	 */
 	public Region getRandomRegion()
 	{
-		List<Region> regionList = new ArrayList<>();
-		for (Region[] row : regions) {
-			regionList.addAll(Arrays.asList(row));
-		}
-		return getRandomRegion(regionList);
+		Coord coord = getRandomCoord();
+		return regions[coord.y][coord.x];
 	}
 
 	/**
@@ -735,17 +813,9 @@ public class Planet implements ColorStringObject
 	 */
 	public Region getRandomRegion(Faction faction)
 	{
-		List<Region> unclaimedRegions = new ArrayList<>();
-
-		for (Region[] row : regions) {
-			for (Region region : row) {
-				if (region.getType().isLand() && region.getFaction() != faction) {
-					unclaimedRegions.add(region);
-				}
-			}
-		}
-
-		return getRandomRegion(unclaimedRegions);
+		return unownedLand == null
+			? null
+			: unownedLand[getLandIndex(faction)].getRandom();
 	}
 
 	/**
@@ -755,17 +825,7 @@ public class Planet implements ColorStringObject
 	 */
 	public Region getRandomOreRegion()
 	{
-		List<Region> oreRegions = new ArrayList<>();
-
-		for (Region[] row : regions) {
-			for (Region region : row) {
-				if (region.hasOre()) {
-					oreRegions.add(region);
-				}
-			}
-		}
-
-		return getRandomRegion(oreRegions);
+		return oreRegions == null ? null : oreRegions.getRandom();
 	}
 
 	/**
@@ -782,21 +842,6 @@ public class Planet implements ColorStringObject
 		return oreRegion.getLocation().getRegionCoord();
 	}
 
-	/**
-	 * Returns a random region selected from a List of regions.
-	 *
-	 * @param regions the list of regions from which to select a random one
-	 * @return any of the regions in the given list, chosen at random
-	 */
-	private static Region getRandomRegion(List<Region> regions)
-	{
-		return (
-			regions == null || regions.isEmpty()
-			? null
-			: Main.rng.getRandomElement(regions)
-		);
-	}
-
 	/**
 	 * Returns the cost to claim a region on the planet.
 	 *
@@ -978,6 +1023,36 @@ public class Planet implements ColorStringObject
 			}
 		}
 
+		indexRegions();
 		updateFaction();
 	}
+
+	/**
+	 * Indexes the land regions not owned by each faction and the regions with
+	 * ore, so that they can be sampled without searching every region.
+	 */
+	private void indexRegions()
+	{
+		int nFactions = getLocation().getGalaxy().getFactions().length;
+		unownedLand = new RegionIndex[nFactions + 1];
+		for (int i = 0; i < unownedLand.length; i++) {
+			unownedLand[i] = new RegionIndex(getNColumns(), getNRows());
+		}
+		oreRegions = new RegionIndex(getNColumns(), getNRows());
+
+		for (Region[] row : regions) {
+			for (Region region : row) {
+				if (region.getType().isLand()) {
+					int owner = getLandIndex(region.getFaction());
+					for (int i = 0; i < unownedLand.length; i++) {
+						if (i != owner) {
+							unownedLand[i].add(region);
+						}
+					}
+				}
+
+				updateOre(region);
+			}
+		}
+	}
 }
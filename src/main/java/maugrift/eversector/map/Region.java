@@ -180,6 +180,18 @@ public class Region implements ColorStringObject
 	 */
 	private static final int ORE_RANGE = 451;
 
+	/**
+	 * The number of turns between each recovery of ore in a region that has
+	 * been mined.
+	 */
+	public static final int REGEN_INTERVAL = 10;
+
+	/**
+	 * The amount of ore a region recovers each time, up to the amount it was
+	 * generated with.
+	 */
+	public static final int REGEN_AMOUNT = 5;
+
 	/**
 	 * The location of the region.
 	 */
@@ -210,6 +222,17 @@ public class Region implements ColorStringObject
 	 */
 	private int nOre;
 
+	/**
+	 * The amount of ore the region was generated with, which it will recover
+	 * to after being mined.
+	 */
+	private int maxOre;
+
+	/**
+	 * True if the region is scheduled to recover ore.
+	 */
+	private boolean regenerating;
+
 	/**
 	 * Generates a claimed region of the given faction on the given planet.
 	 *
@@ -230,6 +253,7 @@ public class Region implements ColorStringObject
 		if (type.isLand()) {
 			this.ore = location.getPlanet().getRandomOre();
 			this.nOre = Main.rng.nextInt(ORE_RANGE) + MIN_ORE;
+			this.maxOre = nOre;
 		}
 	}
 
@@ -299,11 +323,12 @@ public class Region implements ColorStringObject
 	/**
 	 * Gets the type of ore in the region.
 	 *
-	 * @return the type of ore in the region
+	 * @return the type of ore in the region, null if it has none or has been
+	 *         mined dry
 	 */
 	public Ore getOre()
 	{
-		return ore;
+		return hasOre() ? ore : null;
 	}
 
 	/**
@@ -333,7 +358,7 @@ public class Region implements ColorStringObject
 	 */
 	public boolean hasOre()
 	{
-		return ore != null;
+		return ore != null && nOre > 0;
 	}
 
 	/**
@@ -358,29 +383,128 @@ public class Region implements ColorStringObject
 			return;
 		}
 
+		location.getGalaxy().getInfluenceMap().changeRegionOwner(
+			location.getCoord(),
+			this.faction,
+			faction
+		);
+		Faction previous = this.faction;
 		this.faction = faction;
-		location.getPlanet().updateFaction();
+		location.getSector().countTerritoryChange();
+		location.getPlanet().changeOwner(this, previous);
+
+		for (Ship ship : ships) {
+			if (ship.getAI() != null) {
+				ship.getAI().wake();
+			}
+		}
 	}
 
 	/**
-	 * Extracts ore from the region. <b>Currently unused.</b>
+	 * Wakes the sleeping ships in the region that are hostile to a ship that
+	 * has arrived there, or that the ship is hostile to.
+	 *
+	 * @param arrival the ship that arrived
+	 */
+	public void wakeHostiles(Ship arrival)
+	{
+		for (Ship ship : ships) {
+			if (
+				ship != arrival
+				&& ship.getAI() != null
+				&& (
+					ship.isHostile(arrival.getFaction())
+					|| arrival.isHostile(ship.getFaction())
+				)
+			) {
+				ship.getAI().wake();
+			}
+		}
+	}
+
+	/**
+	 * Extracts ore from the region, which will recover it over time.
 	 *
 	 * @param extracted the amount of ore to extract
 	 * @return the amount of ore actually extracted
 	 */
 	public int extractOre(int extracted)
 	{
-		return extracted;
+		if (!hasOre() || extracted <= 0) {
+			return 0;
+		}
 
-		/*
 		int actualExtracted = Math.min(nOre, extracted);
+		nOre -= actualExtracted;
+		if (nOre == 0) {
+			changeOreValue(-ore.getDensity());
+		}
 
-		nOre -= extracted;
-		if (nOre <= 0)
-			ore = null;
+		if (!regenerating) {
+			scheduleRegeneration();
+		}
 
 		return actualExtracted;
-		*/
+	}
+
+	/**
+	 * Recovers some of the ore that has been extracted from the region, and
+	 * schedules the next recovery if it has not recovered all of it. Called
+	 * by the galaxy when the recovery is due.
+	 *
+	 * @see #extractOre(int)
+	 */
+	public void regenerateOre()
+	{
+		regenerating = false;
+		if (ore == null || nOre >= maxOre) {
+			return;
+		}
+
+		boolean dry = nOre == 0;
+		nOre = Math.min(nOre + REGEN_AMOUNT, maxOre);
+		if (dry) {
+			changeOreValue(ore.getDensity());
+		}
+
+		if (nOre < maxOre) {
+			scheduleRegeneration();
+		}
+	}
+
+	/**
+	 * Schedules the region's next recovery of ore.
+	 */
+	private void scheduleRegeneration()
+	{
+		regenerating = true;
+		location.getGalaxy().getOreRegeneration().schedule(
+			this,
+			location.getGalaxy().getTurn() + REGEN_INTERVAL
+		);
+	}
+
+	/**
+	 * Updates the planet's regions with ore and the value of ore in the
+	 * sector after the region has run dry or recovered ore, and has the
+	 * sector's targets found again.
+	 *
+	 * @param change the change in the value of ore in the sector
+	 */
+	private void changeOreValue(float change)
+	{
+		Planet planet = location.getPlanet();
+		planet.updateOre(this);
+		if (
+			planet.getType().canMine()
+			&& !planet.getType().canMineFromOrbit()
+		) {
+			location.getGalaxy().getInfluenceMap().changeOreValue(
+				location.getCoord(),
+				change
+			);
+		}
+		location.getSector().countTerritoryChange();
 	}
 
 	/**
@@ -0,0 +1,158 @@
+package maugrift.eversector.map;
+
+import maugrift.eversector.Main;
+import squidpony.squidmath.Coord;
+
+/**
+ * A set of the regions on a planet that can be iterated by position and
+ * sampled at random in constant time. Regions are stored in a packed array,
+ * and a region is removed by moving the last region into its place, so
+ * adding and removing regions never allocates.
+ *
+ * @author Aaron Friesen
+ */
+public class RegionIndex
+{
+	/**
+	 * The regions in the set, packed at the start of the array.
+	 */
+	private final Region[] regions;
+
+	/**
+	 * The position of each region on the planet in the packed array, indexed
+	 * by the region's coordinates, -1 if the region is not in the set.
+	 */
+	private final int[] positions;
+
+	/**
+	 * The number of columns of regions on the planet.
+	 */
+	private final int width;
+
+	/**
+	 * The number of regions in the set.
+	 */
+	private int size;
+
+	/**
+	 * Creates an empty set for the regions of a planet.
+	 *
+	 * @param width  the number of columns of regions on the planet
+	 * @param height the number of rows of regions on the planet
+	 */
+	public RegionIndex(int width, int height)
+	{
+		this.width = width;
+		regions = new Region[width * height];
+		positions = new int[width * height];
+		for (int i = 0; i < positions.length; i++) {
+			positions[i] = -1;
+		}
+		size = 0;
+	}
+
+	/**
+	 * Gets the number of regions in the set.
+	 *
+	 * @return the number of regions in the set
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns true if there are no regions in the set.
+	 *
+	 * @return true if the set is empty
+	 */
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * Gets the region at a position in the set. Positions change as regions
+	 * are removed.
+	 *
+	 * @param position the position, from 0 to one less than the set's size
+	 * @return the region at the position
+	 */
+	public Region get(int position)
+	{
+		return regions[position];
+	}
+
+	/**
+	 * Returns true if a region is in the set.
+	 *
+	 * @param region the region to check
+	 * @return true if the region is in the set
+	 */
+	public boolean contains(Region region)
+	{
+		return positions[getIndex(region)] != -1;
+	}
+
+	/**
+	 * Adds a region to the set if it is not already in it.
+	 *
+	 * @param region the region to add
+	 */
+	public void add(Region region)
+	{
+		int index = getIndex(region);
+		if (positions[index] != -1) {
+			return;
+		}
+
+		regions[size] = region;
+		positions[index] = size;
+		size++;
+	}
+
+	/**
+	 * Removes a region from the set if it is in it, moving the last region in
+	 * the set into its place.
+	 *
+	 * @param region the region to remove
+	 */
+	public void remove(Region region)
+	{
+		int index = getIndex(region);
+		int position = positions[index];
+		if (position == -1) {
+			return;
+		}
+
+		size--;
+		Region last = regions[size];
+		regions[position] = last;
+		positions[getIndex(last)] = position;
+		regions[size] = null;
+		positions[index] = -1;
+	}
+
+	/**
+	 * Gets a random region in the set.
+	 *
+	 * @return any of the regions in the set, chosen at random, null if the
+	 *         set is empty
+	 */
+	public Region getRandom()
+	{
+		return size == 0 ? null : regions[Main.rng.nextInt(size)];
+	}
+
+	/**
+	 * Gets the index of a region in the array of positions.
+	 *
+	 * @param region the region
+	 * @return the index of the region's coordinates
+	 */
+	private int getIndex(Region region)
+	{
+		Coord coord = region.getLocation().getRegionCoord();
+		return coord.y * width + coord.x;
+	}
+}
@@ -7,6 +7,7 @@ import maugrift.eversector.Symbol;
 import maugrift.eversector.faction.Faction;
 import maugrift.eversector.locations.Location;
 import maugrift.eversector.locations.SectorLocation;
+import maugrift.eversector.locations.StationLocation;
 import maugrift.eversector.ships.Levels;
 import maugrift.eversector.ships.Ship;
 import maugrift.apwt.util.Utility;
@@ -72,6 +73,14 @@ public class Sector
 	 */
 	private Faction faction;
 
+	/**
+	 * The number of planets and stations controlled by each faction in the
+	 * sector. Null if there is no star.
+	 *
+	 * @see #changeControl(Faction, Faction)
+	 */
+	private ControlTally control;
+
 	/**
 	 * All planets in the sector. Each index represents an orbit in the sector.
 	 * If an index is null, there is no planet at that orbit. If there is no
@@ -94,6 +103,39 @@ public class Sector
 	 */
 	private List<Ship> ships;
 
+	/**
+	 * The ships in the sector grouped by orbit. Each index represents an orbit
+	 * in the sector, and contains the same ships as the list of all ships. If
+	 * there is no star, this array will have a length of 0.
+	 *
+	 * @see #addShip(Ship, int)
+	 */
+	private OrbitShips[] orbitShips;
+
+	/**
+	 * The shared orbital location at each orbit of the sector, created with
+	 * the sector so that battles fought at the same time can read them. If
+	 * there is no star, this array will have a length of 0.
+	 *
+	 * @see #getOrbitLocation(int)
+	 */
+	private SectorLocation[] orbitLocations;
+
+	/**
+	 * The shared docked location at each station in the sector, created when
+	 * first requested. If there is no star, this array will have a length of
+	 * 0.
+	 *
+	 * @see #getDockedLocation(int)
+	 */
+	private StationLocation[] dockedLocations;
+
+	/**
+	 * The number of times a region or station in the sector has changed
+	 * owners, used to tell when plans for the sector are out of date.
+	 */
+	private int territoryChanges;
+
 	/**
 	 * Creates a sector from a location and nebula.
 	 *
@@ -105,6 +147,10 @@ public class Sector
 		this.location = location;
 		this.nebula = nebula;
 		ships = new LinkedList<>();
+		orbitShips = new OrbitShips[0];
+		orbitLocations = new SectorLocation[0];
+		dockedLocations = new StationLocation[0];
+		territoryChanges = 0;
 	}
 
 	/**
@@ -125,12 +171,20 @@ public class Sector
 		if (Utility.getChance(rng, chance)) {
 			star = Star.generate(nebula);
 
-			while (location.getGalaxy().getStarNames().contains(star.getName())) {
+			while (!location.getGalaxy().getStarNames().register(star.getName(), this)) {
 				star.setName(Star.generateName());
 			}
 
+			control = new ControlTally(location.getGalaxy());
 			planets = new Planet[star.getMass()];
 			stations = new Station[star.getMass()];
+			orbitShips = new OrbitShips[star.getMass()];
+			orbitLocations = new SectorLocation[star.getMass()];
+			dockedLocations = new StationLocation[star.getMass()];
+			for (int i = 0; i < orbitShips.length; i++) {
+				orbitShips[i] = new OrbitShips();
+				orbitLocations[i] = new SectorLocation(location, i + 1);
+			}
 
 			generatePlanets();
 
@@ -276,7 +330,8 @@ public class Sector
 
 	/**
 	 * Calculates the dominant faction in the sector, based on their control of
-	 * claimable bodies.
+	 * claimable bodies, by counting the bodies controlled by each faction
+	 * again.
 	 */
 	public final void updateFaction()
 	{
@@ -284,43 +339,39 @@ public class Sector
 			return;
 		}
 
-		Galaxy galaxy = location.getGalaxy();
-		int[] control = new int[galaxy.getFactions().length];
+		control.clear();
 
 		// Increase the respective counter for each claimed body
 		for (Planet planet : planets) {
-			if (planet != null && planet.isClaimed()) {
-				control[galaxy.getIndex(planet.getFaction())]++;
+			if (planet != null) {
+				control.change(null, planet.getFaction());
 			}
 		}
 
 		for (Station station : stations) {
-			if (station != null && station.isClaimed()) {
-				control[galaxy.getIndex(station.getFaction())]++;
+			if (station != null) {
+				control.change(null, station.getFaction());
 			}
 		}
 
-		int index = -1;
-		int maxBodies = 0; // The most owned bodies in a faction
-
-		for (int i = 0; i < control.length; i++) {
-			if (control[i] > maxBodies) {
-				maxBodies = control[i];
-				index = i;
-			} else if (control[i] == maxBodies) {
-				// Set the index to an invalid value so that it is known that
-				// there is a tie, but so that it can also be easily overwritten
-				index = -1;
-			}
-		}
+		// If there was a tie in control, no faction rules this sector
+		faction = control.getFaction();
+	}
 
-		// There was a tie in control, so no faction rules this sector
-		if (index == -1) {
-			faction = null;
-			return;
+	/**
+	 * Records a planet or station in the sector changing hands, and updates
+	 * the dominant faction in the sector if it changes as a result.
+	 *
+	 * @param previous the faction that controlled the body, null if it was
+	 *                 unclaimed
+	 * @param current  the faction that now controls the body, null if it is
+	 *                 now unclaimed
+	 */
+	public void changeControl(Faction previous, Faction current)
+	{
+		if (control != null && control.change(previous, current)) {
+			faction = control.getFaction();
 		}
-
-		faction = galaxy.getFactions()[index];
 	}
 
 	/**
@@ -578,6 +629,26 @@ public class Sector
 		return isValidOrbit(orbit) ? planets[orbit - 1] : null;
 	}
 
+	/**
+	 * Gets the number of times a region or station in the sector has changed
+	 * owners.
+	 *
+	 * @return the number of territory changes in the sector
+	 */
+	public int getTerritoryChanges()
+	{
+		return territoryChanges;
+	}
+
+	/**
+	 * Records that a region or station in the sector has changed owners, or
+	 * that a region has run out of ore or recovered it.
+	 */
+	public void countTerritoryChange()
+	{
+		territoryChanges++;
+	}
+
 	/**
 	 * Returns the station at the specified orbit.
 	 *
@@ -649,7 +720,7 @@ public class Sector
 				j = rng.nextInt(star.getMass());
 			} while (planets[j] != null);
 
-			planets[j] = new Planet(i + 1, new SectorLocation(getLocation(), j + 1));
+			planets[j] = new Planet(i + 1, getOrbitLocation(j + 1));
 			planets[j].init();
 		}
 	}
@@ -677,7 +748,7 @@ public class Sector
 			// There is no need to do a check for if this is a station system,
 			// because stations would not otherwise be generated
 			stations[j] = new Station(
-				new SectorLocation(getLocation(), j + 1),
+				getOrbitLocation(j + 1),
 				location.getGalaxy().getRandomFaction()
 			);
 		}
@@ -690,48 +761,50 @@ public class Sector
 	 */
 	private void generateShips(int nShips)
 	{
-		ships = new LinkedList<>();
-
 		for (int i = 0; i < nShips; i++) {
+			int orbit = rng.nextInt(star.getMass()) + 1;
 			Ship ship = new Ship(
-				new SectorLocation(
-					location,
-					rng.nextInt(star.getMass()) + 1
-				),
+				getOrbitLocation(orbit),
 				location.getGalaxy().getRandomFaction()
 			);
-			ships.add(ship);
+			addShip(ship, orbit);
 			location.getGalaxy().getShips().add(ship);
 		}
 	}
 
 	/**
-	 * Returns the first ship found with the given name.
+	 * Returns the ship in orbit in the sector with the given name.
 	 *
-	 * @param name the name of the ship to find
-	 * @return the first ship found with the given name, null if not found
+	 * @param name the name of the ship to find, which may be preceded by its
+	 *             classification
+	 * @return the ship with the given name, null if not found in the sector
+	 * @see Galaxy#getShip(String)
 	 */
 	public Ship getShip(String name)
 	{
-		for (Ship ship : ships) {
-			if (
-				ship != null
-				&& (
-					name.equalsIgnoreCase(ship.getName())
-					|| name.equalsIgnoreCase(ship.toString())
-				)
-			) {
-				return ship;
-			}
+		Ship ship = location.getGalaxy().getShip(name);
+		if (
+			ship == null
+			|| !(ship.getLocation() instanceof SectorLocation)
+			|| ship.getLocation().getSector() != this
+		) {
+			return null;
 		}
 
-		return null;
+		return (
+			getShipsAt(ship.getSectorLocation().getOrbit()).contains(ship)
+			? ship
+			: null
+		);
 	}
 
 	/**
-	 * Gets ships.
+	 * Gets the ships in the sector, excluding those on planets or at stations.
+	 * The list should not be modified directly.
 	 *
 	 * @return the ships
+	 * @see #addShip(Ship, int)
+	 * @see #removeShip(Ship)
 	 */
 	public List<Ship> getShips()
 	{
@@ -739,22 +812,130 @@ public class Sector
 	}
 
 	/**
-	 * Returns an array of all ships at a given orbit.
+	 * Returns all ships at a given orbit. The list should not be modified
+	 * directly.
 	 *
 	 * @param orbit the orbit to find ships at
-	 * @return an array of ships that are at the orbit
+	 * @return the ships that are at the orbit
 	 */
 	public List<Ship> getShipsAt(int orbit)
 	{
-		List<Ship> shipsAtOrbit = new LinkedList<>();
+		return isValidOrbit(orbit)
+			? orbitShips[orbit - 1].getShips()
+			: new LinkedList<>();
+	}
 
-		for (Ship ship : ships) {
-			if (ship != null && ship.getSectorLocation().getOrbit() == orbit) {
-				shipsAtOrbit.add(ship);
+	/**
+	 * Returns the number of ships at a given orbit.
+	 *
+	 * @param orbit the orbit to count ships at
+	 * @return the number of ships at the orbit
+	 */
+	public int getNShipsAt(int orbit)
+	{
+		return isValidOrbit(orbit) ? orbitShips[orbit - 1].size() : 0;
+	}
+
+	/**
+	 * Registers a ship that has entered the sector at the given orbit.
+	 *
+	 * @param ship  the ship to add
+	 * @param orbit the orbit the ship is at
+	 */
+	public void addShip(Ship ship, int orbit)
+	{
+		if (!isValidOrbit(orbit)) {
+			return;
+		}
+
+		ships.add(ship);
+		orbitShips[orbit - 1].add(ship);
+		wakeHostiles(ship, orbit);
+	}
+
+	/**
+	 * Unregisters a ship that has left the sector or landed or docked within
+	 * it.
+	 *
+	 * @param ship the ship to remove
+	 */
+	public void removeShip(Ship ship)
+	{
+		if (!ships.remove(ship)) {
+			return;
+		}
+
+		if (ship.getLocation() instanceof SectorLocation) {
+			int orbit = ship.getSectorLocation().getOrbit();
+			if (isValidOrbit(orbit) && orbitShips[orbit - 1].remove(ship)) {
+				return;
 			}
 		}
 
-		return shipsAtOrbit;
+		for (OrbitShips orbitShip : orbitShips) {
+			if (orbitShip.remove(ship)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Moves a ship registered in the sector from its current orbit to another
+	 * orbit in the sector.
+	 *
+	 * @param ship  the ship to move, which must not yet have changed location
+	 * @param orbit the orbit the ship is moving to
+	 */
+	public void moveShip(Ship ship, int orbit)
+	{
+		int currentOrbit = ship.getSectorLocation().getOrbit();
+		if (
+			currentOrbit == orbit
+			|| !isValidOrbit(currentOrbit)
+			|| !isValidOrbit(orbit)
+		) {
+			return;
+		}
+
+		if (orbitShips[currentOrbit - 1].remove(ship)) {
+			orbitShips[orbit - 1].add(ship);
+			wakeHostiles(ship, orbit);
+		}
+	}
+
+	/**
+	 * Wakes the sleeping ships at an orbit that are hostile to a ship that
+	 * has arrived there, or that the ship is hostile to.
+	 *
+	 * @param arrival the ship that arrived
+	 * @param orbit   the orbit the ship arrived at
+	 */
+	private void wakeHostiles(Ship arrival, int orbit)
+	{
+		for (Ship ship : orbitShips[orbit - 1].getShips()) {
+			if (
+				ship.getAI() != null
+				&& (
+					ship.isHostile(arrival.getFaction())
+					|| arrival.isHostile(ship.getFaction())
+				)
+			) {
+				ship.getAI().wake();
+			}
+		}
+	}
+
+	/**
+	 * Notifies the sector that the level or faction of a ship at the given
+	 * orbit has changed.
+	 *
+	 * @param orbit the orbit of the ship
+	 */
+	public void updateShipAt(int orbit)
+	{
+		if (isValidOrbit(orbit)) {
+			orbitShips[orbit - 1].invalidate();
+		}
 	}
 
 	/**
@@ -799,7 +980,7 @@ public class Sector
 	{
 		ColorString symbols = new ColorString();
 		int orbitIndex = orbit - 1;
-		int nShips = getShipsAt(orbit).size();
+		int nShips = orbitShips[orbitIndex].size();
 
 		boolean playerIsHere;
 		Location playerLocation = location.getGalaxy().getPlayer().getLocation();
@@ -819,23 +1000,8 @@ public class Sector
 		if (playerIsHere) {
 			symbols.add(Symbol.player());
 		} else if (nShips > 0) {
-			// Calculate the highest level of ship at this orbit
-			int highestLevel = 0;
-			boolean isCommonFaction = true;
-			Faction commonFaction = null;
-			for (Ship ship : ships) {
-				if (ship.getSectorLocation().getOrbit() == orbit && !ship.isPlayer()) {
-					if (ship.getHighestLevel() > highestLevel) {
-						highestLevel = ship.getHighestLevel();
-					}
-
-					if (commonFaction == null) {
-						commonFaction = ship.getFaction();
-					} else {
-						isCommonFaction = ship.getFaction() == commonFaction;
-					}
-				}
-			}
+			int highestLevel = orbitShips[orbitIndex].getHighestLevel();
+			Faction commonFaction = orbitShips[orbitIndex].getCommonFaction();
 
 			Symbol symbol;
 			// Print the corresponding symbol to the highest level
@@ -852,7 +1018,7 @@ public class Sector
 				break;
 			}
 
-			if (isCommonFaction && commonFaction != null) {
+			if (commonFaction != null) {
 				symbols.add(
 					new ColorChar(
 						symbol.get(),
@@ -893,12 +1059,8 @@ public class Sector
 		}
 
 		int notShown = 0;
-		for (Ship ship : ships) {
-			if (
-				ship != null
-				&& ship.getSectorLocation().getOrbit() == orbit
-				&& !ship.isPlayer()
-			) {
+		for (Ship ship : orbitShips[orbit - 1].getShips()) {
+			if (ship != null && !ship.isPlayer()) {
 				if (contents.size() >= Star.StarMass.getLargest().getMass()) {
 					notShown++;
 					break;
@@ -926,6 +1088,49 @@ public class Sector
 		return contents;
 	}
 
+	/**
+	 * Gets the shared orbital location at the given orbit.
+	 *
+	 * @param orbit the orbit of the location
+	 * @return the orbital location at the orbit
+	 * @throws IndexOutOfBoundsException if the given orbit is not found
+	 */
+	public SectorLocation getOrbitLocation(int orbit)
+	{
+		if (!isValidOrbit(orbit)) {
+			throw new IndexOutOfBoundsException(
+				"Given orbit not found in sector (" + orbit + ")"
+			);
+		}
+
+		return orbitLocations[orbit - 1];
+	}
+
+	/**
+	 * Gets the shared docked location at the station at the given orbit.
+	 *
+	 * @param orbit the orbit of the station
+	 * @return the docked location at the station
+	 * @throws IndexOutOfBoundsException  if the given orbit is not found
+	 * @throws IllegalArgumentException if there is no station at the orbit
+	 */
+	public StationLocation getDockedLocation(int orbit)
+	{
+		if (dockedLocations.length < orbit || orbit < 1) {
+			throw new IndexOutOfBoundsException(
+				"Given orbit not found in sector (" + orbit + ")"
+			);
+		}
+
+		if (dockedLocations[orbit - 1] == null) {
+			dockedLocations[orbit - 1] = new StationLocation(
+				getOrbitLocation(orbit)
+			);
+		}
+
+		return dockedLocations[orbit - 1];
+	}
+
 	/**
 	 * Returns true if a specified orbit is valid, meaning it ranges between 1
 	 * and the constant number of orbits.
@@ -988,7 +1193,7 @@ public class Sector
 
 			for (Ship ship : ships) {
 				if (ship.isLanded() || ship.isDocked()) {
-					ships.remove(ship);
+					removeShip(ship);
 					shipReset = true;
 					break;
 				}
@@ -11,9 +11,9 @@ import maugrift.eversector.items.Module;
 import maugrift.eversector.locations.SectorLocation;
 import maugrift.eversector.ships.Ship;
 import maugrift.eversector.Main;
-import maugrift.eversector.items.*;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -178,6 +178,68 @@ public class Station implements ColorStringObject
 		)
 	};
 
+	/**
+	 * Every item in the shared catalog, indexed by item ID.
+	 */
+	private static final Item[] ITEMS;
+
+	/**
+	 * The items in the shared catalog, keyed by their names in lowercase.
+	 */
+	private static final HashMap<String, Item> ITEM_NAMES;
+
+	/**
+	 * The modules sold at trade stations.
+	 */
+	private static final Module[] TRADE_MODULES;
+
+	/**
+	 * The modules sold at battle stations.
+	 */
+	private static final Module[] BATTLE_MODULES;
+
+	static {
+		List<Item> items = new ArrayList<>();
+		List<Module> tradeModules = new ArrayList<>();
+		List<Module> battleModules = new ArrayList<>();
+
+		for (Module module : MODULES) {
+			items.add(module);
+			if (module.isBattle()) {
+				battleModules.add(module);
+			} else {
+				tradeModules.add(module);
+			}
+		}
+
+		for (BaseResource resource : RESOURCES) {
+			items.add(resource);
+			items.add(resource.getExpander());
+		}
+
+		ITEMS = items.toArray(new Item[items.size()]);
+		ITEM_NAMES = new HashMap<>(ITEMS.length * 2);
+		for (int i = 0; i < ITEMS.length; i++) {
+			ITEMS[i].setId(i);
+			ITEM_NAMES.put(ITEMS[i].getName().toLowerCase(), ITEMS[i]);
+		}
+
+		TRADE_MODULES = tradeModules.toArray(new Module[tradeModules.size()]);
+		BATTLE_MODULES = battleModules.toArray(
+				new Module[battleModules.size()]
+			);
+	}
+
+	/**
+	 * The number of units of each resource that a station usually holds.
+	 */
+	public static final int RESOURCE_STOCK = 400;
+
+	/**
+	 * The number of each module and expander that a station usually holds.
+	 */
+	public static final int ITEM_STOCK = 8;
+
 	/**
 	 * The base cost in credits to claim any celestial body.
 	 */
@@ -209,14 +271,14 @@ public class Station implements ColorStringObject
 	private List<Ship> ships;
 
 	/**
-	 * The modules that this station sells.
+	 * The market that holds the station's stock and prices.
 	 */
-	private Module[] modules;
+	private final Market market;
 
 	/**
-	 * The resources that this station sells.
+	 * The index of the station in its market.
 	 */
-	private BaseResource[] resources;
+	private final int marketIndex;
 
 	/**
 	 * Creates a station owned by the given faction at the given location.
@@ -241,9 +303,8 @@ public class Station implements ColorStringObject
 		} while (location.getSector().getStation(testName) != null);
 
 		name = testName;
-
-		cloneItems();
-		generatePrices();
+		market = location.getGalaxy().getMarket();
+		marketIndex = generatePrices();
 	}
 
 	@Override
@@ -322,8 +383,16 @@ public class Station implements ColorStringObject
 			return;
 		}
 
+		Faction previous = this.faction;
 		this.faction = faction;
-		location.getSector().updateFaction();
+		location.getSector().countTerritoryChange();
+		location.getSector().changeControl(previous, faction);
+
+		for (Ship ship : ships) {
+			if (ship.getAI() != null) {
+				ship.getAI().wake();
+			}
+		}
 	}
 
 	/**
@@ -367,7 +436,7 @@ public class Station implements ColorStringObject
 	 */
 	public BaseResource[] getResources()
 	{
-		return resources;
+		return RESOURCES;
 	}
 
 	/**
@@ -377,7 +446,64 @@ public class Station implements ColorStringObject
 	 */
 	public Module[] getModules()
 	{
-		return modules;
+		return battle ? BATTLE_MODULES : TRADE_MODULES;
+	}
+
+	/**
+	 * Gets the local price of an item at the station.
+	 *
+	 * @param item the item to price, which must be in the shared catalog or a
+	 *             copy of an item in it
+	 * @return the local price of the item this turn, or its own price if it is
+	 *         not in the catalog
+	 */
+	public int getPrice(Item item)
+	{
+		int id = item.getId();
+		return id < 0 || id >= ITEMS.length
+			? item.getPrice()
+			: market.getPrice(marketIndex, id);
+	}
+
+	/**
+	 * Gets the number of an item that the station holds.
+	 *
+	 * @param item the item to find the stock of
+	 * @return the station's stock of the item, 0 if it is not in the catalog
+	 */
+	public int getStock(Item item)
+	{
+		int id = item.getId();
+		return id < 0 || id >= ITEMS.length
+			? 0
+			: market.getStock(marketIndex, id);
+	}
+
+	/**
+	 * Records that an item was traded at the station, so that its price can
+	 * change at the end of the turn.
+	 *
+	 * @param item     the item traded, which must be in the shared catalog or a
+	 *                 copy of an item in it
+	 * @param quantity the number of the item bought from the station, negative
+	 *                 if it was sold to the station
+	 */
+	public void recordTrade(Item item, int quantity)
+	{
+		int id = item.getId();
+		if (id >= 0 && id < ITEMS.length) {
+			market.recordTrade(marketIndex, id, quantity);
+		}
+	}
+
+	/**
+	 * Gets the number of items in the shared catalog.
+	 *
+	 * @return the number of items in the catalog
+	 */
+	public static int getNItems()
+	{
+		return ITEMS.length;
 	}
 
 	/**
@@ -400,13 +526,8 @@ public class Station implements ColorStringObject
 	 */
 	public Module getModule(String name)
 	{
-		for (Module module : modules) {
-			if (name.equalsIgnoreCase(module.getName())) {
-				return module;
-			}
-		}
-
-		return null;
+		Module module = getBaseModule(name);
+		return sells(module) ? module : null;
 	}
 
 	/**
@@ -428,13 +549,8 @@ public class Station implements ColorStringObject
 	 */
 	public static Module getBaseModule(String name)
 	{
-		for (Module module : MODULES) {
-			if (name.equalsIgnoreCase(module.getName())) {
-				return module;
-			}
-		}
-
-		return null;
+		Item item = getBaseItem(name);
+		return item instanceof Module ? (Module) item : null;
 	}
 
 	/**
@@ -456,13 +572,8 @@ public class Station implements ColorStringObject
 	 */
 	public static Weapon getBaseWeapon(String name)
 	{
-		for (Module module : MODULES) {
-			if (name.equalsIgnoreCase(module.getName()) && module instanceof Weapon) {
-				return (Weapon) module;
-			}
-		}
-
-		return null;
+		Item item = getBaseItem(name);
+		return item instanceof Weapon ? (Weapon) item : null;
 	}
 
 	/**
@@ -473,13 +584,18 @@ public class Station implements ColorStringObject
 	 */
 	public static boolean hasBaseWeapon(String name)
 	{
-		for (Module module : MODULES) {
-			if (name.equalsIgnoreCase(module.getName()) && module instanceof Weapon) {
-				return true;
-			}
-		}
+		return getBaseWeapon(name) != null;
+	}
 
-		return false;
+	/**
+	 * Returns the item in the shared catalog with the specified name.
+	 *
+	 * @param name the name of the item to find, ignoring case
+	 * @return the item with the specified name, null if not found
+	 */
+	public static Item getBaseItem(String name)
+	{
+		return name == null ? null : ITEM_NAMES.get(name.toLowerCase());
 	}
 
 	/**
@@ -490,13 +606,12 @@ public class Station implements ColorStringObject
 	 */
 	public Item getItem(String name)
 	{
-		if (hasResource(name)) {
-			return getResource(name);
-		} else if (hasExpander(name)) {
-			return getExpander(name);
-		} else {
-			return getModule(name);
+		Item item = getBaseItem(name);
+		if (item instanceof Module && !sells((Module) item)) {
+			return null;
 		}
+
+		return item;
 	}
 
 	/**
@@ -507,13 +622,7 @@ public class Station implements ColorStringObject
 	 */
 	public BaseResource getResource(String name)
 	{
-		for (BaseResource resource : resources) {
-			if (name.equalsIgnoreCase(resource.getName())) {
-				return resource;
-			}
-		}
-
-		return null;
+		return getBaseResource(name);
 	}
 
 	/**
@@ -535,13 +644,8 @@ public class Station implements ColorStringObject
 	 */
 	public Expander getExpander(String name)
 	{
-		for (BaseResource resource : resources) {
-			if (name.equalsIgnoreCase(resource.getExpander().getName())) {
-				return resource.getExpander();
-			}
-		}
-
-		return null;
+		Item item = getBaseItem(name);
+		return item instanceof Expander ? (Expander) item : null;
 	}
 
 	/**
@@ -563,13 +667,8 @@ public class Station implements ColorStringObject
 	 */
 	public static BaseResource getBaseResource(String name)
 	{
-		for (BaseResource resource : RESOURCES) {
-			if (name.equalsIgnoreCase(resource.getName())) {
-				return resource;
-			}
-		}
-
-		return null;
+		Item item = getBaseItem(name);
+		return item instanceof BaseResource ? (BaseResource) item : null;
 	}
 
 	/**
@@ -591,27 +690,13 @@ public class Station implements ColorStringObject
 	 */
 	public static boolean define(String name)
 	{
-		for (Module module : MODULES) {
-			if (name.equalsIgnoreCase(module.getName())) {
-				module.define();
-				return true;
-			}
-		}
-
-		for (BaseResource resource : RESOURCES) {
-			if (name.equalsIgnoreCase(resource.getName())) {
-				resource.define();
-				return true;
-			}
-
-			if (name.equalsIgnoreCase(resource.getExpander().getName())) {
-				resource.getExpander().define();
-				return true;
-			}
+		Item item = getBaseItem(name);
+		if (item == null) {
+			return false;
 		}
 
-		// No matching object was found, so return false
-		return false;
+		item.define();
+		return true;
 	}
 
 	/**
@@ -661,47 +746,22 @@ public class Station implements ColorStringObject
 	}
 
 	/**
-	 * Randomly generates the prices of each module and resource.
-	 */
-	private void generatePrices()
-	{
-		for (Module module : modules) {
-			module.generatePrice();
-		}
-
-		for (BaseResource resource : resources) {
-			resource.generatePrice();
-			resource.getExpander().generatePrice();
-		}
-	}
-
-	/**
-	 * Copies modules and resources from constants to individual object fields.
+	 * Randomly generates the base price of every item in the catalog, and adds
+	 * the station to its market with them.
+	 *
+	 * @return the index of the station in its market
 	 */
-	private void cloneItems()
+	private int generatePrices()
 	{
-		// It is VERY important that every module/resource be copied with "new"
-		// Otherwise, every station will have the same prices
-
-		// Modules must be copied to an ArrayList first to avoid problems with
-		// array lengths
-		List<Module> moduleList = new ArrayList<>();
-
-		for (Module module : MODULES) {
-			if (sells(module)) {
-				if (module instanceof Weapon) {
-					moduleList.add(new Weapon((Weapon) module));
-				} else {
-					moduleList.add(new Module(module));
-				}
-			}
+		int[] basePrices = new int[ITEMS.length];
+		int[] usualStock = new int[ITEMS.length];
+		for (int i = 0; i < ITEMS.length; i++) {
+			basePrices[i] = ITEMS[i].generatePrice();
+			usualStock[i] = ITEMS[i] instanceof BaseResource
+				? RESOURCE_STOCK
+				: ITEM_STOCK;
 		}
 
-		modules = moduleList.toArray(new Module[moduleList.size()]);
-		resources = new BaseResource[RESOURCES.length];
-
-		for (int i = 0; i < RESOURCES.length; i++) {
-			resources[i] = new BaseResource(RESOURCES[i]);
-		}
+		return market.addStation(this, basePrices, usualStock);
 	}
 }
@@ -0,0 +1,232 @@
+package maugrift.eversector.map;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Events scheduled for future turns, kept in a hierarchical timing wheel so
+ * that advancing a turn only touches the events due on it. The lowest level
+ * of the wheel has a slot for each of the next turns, and each higher level
+ * has a slot for a span of turns as long as a whole rotation of the level
+ * below it. When a lower level completes a rotation, the events in the next
+ * slot of the level above are moved down to the slots for their turns.
+ * Events scheduled further ahead than the wheel can hold wait in an overflow
+ * list until the highest level completes a rotation.
+ *
+ * @param <T> the type of the events
+ * @author Aaron Friesen
+ */
+public class TimingWheel<T>
+{
+	/**
+	 * The number of bits of a turn used to find its slot in each level.
+	 */
+	private static final int SLOT_BITS = 6;
+
+	/**
+	 * The number of slots in each level.
+	 */
+	private static final int SLOTS = 1 << SLOT_BITS;
+
+	/**
+	 * The mask for the bits of a turn used to find its slot in a level.
+	 */
+	private static final int SLOT_MASK = SLOTS - 1;
+
+	/**
+	 * The number of levels in the wheel.
+	 */
+	private static final int LEVELS = 3;
+
+	/**
+	 * The events in each slot of each level, indexed by level and then by
+	 * slot.
+	 */
+	private final List<List<Entry<T>>> slots;
+
+	/**
+	 * The events scheduled too far ahead to fit in any level.
+	 */
+	private final List<Entry<T>> overflow;
+
+	/**
+	 * The events being fired or moved between levels, reused each turn.
+	 */
+	private final List<Entry<T>> moving;
+
+	/**
+	 * The last turn the wheel was advanced to.
+	 */
+	private int turn;
+
+	/**
+	 * The number of events scheduled.
+	 */
+	private int size;
+
+	/**
+	 * Creates a wheel with no events.
+	 *
+	 * @param turn the last turn that has been completed, so that the first
+	 *             turn advanced to is the one after it
+	 */
+	public TimingWheel(int turn)
+	{
+		slots = new ArrayList<>(LEVELS * SLOTS);
+		for (int i = 0; i < LEVELS * SLOTS; i++) {
+			slots.add(new ArrayList<>());
+		}
+		overflow = new ArrayList<>();
+		moving = new ArrayList<>();
+		this.turn = turn;
+		size = 0;
+	}
+
+	/**
+	 * Gets the number of events scheduled.
+	 *
+	 * @return the number of events waiting to be fired
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Schedules an event for a turn.
+	 *
+	 * @param event the event
+	 * @param due   the turn the event is due, which will be the next turn if
+	 *              it has already passed
+	 */
+	public void schedule(T event, int due)
+	{
+		insert(new Entry<>(event, Math.max(due, turn + 1)));
+		size++;
+	}
+
+	/**
+	 * Advances the wheel to a turn, firing the events due on every turn since
+	 * the wheel was last advanced, in the order of their turns.
+	 *
+	 * @param to   the turn to advance to
+	 * @param fire the action taken for each event when it is due, which may
+	 *             schedule more events
+	 */
+	public void advance(int to, Consumer<T> fire)
+	{
+		while (turn < to) {
+			turn++;
+			cascade();
+
+			List<Entry<T>> slot = slots.get(turn & SLOT_MASK);
+			if (slot.isEmpty()) {
+				continue;
+			}
+
+			moving.addAll(slot);
+			slot.clear();
+			size -= moving.size();
+			for (Entry<T> entry : moving) {
+				fire.accept(entry.event);
+			}
+			moving.clear();
+		}
+	}
+
+	/**
+	 * Moves the events of higher levels down to the slots of their turns
+	 * whenever the current turn completes a rotation of the level below them.
+	 */
+	private void cascade()
+	{
+		for (int level = 1; level < LEVELS; level++) {
+			if ((turn & ((1 << (SLOT_BITS * level)) - 1)) != 0) {
+				return;
+			}
+
+			List<Entry<T>> slot = slots.get(
+					level * SLOTS + ((turn >> (SLOT_BITS * level)) & SLOT_MASK)
+				);
+			reinsert(slot);
+		}
+
+		if ((turn & ((1 << (SLOT_BITS * LEVELS)) - 1)) == 0) {
+			reinsert(overflow);
+		}
+	}
+
+	/**
+	 * Removes every event from a list and inserts it again according to how
+	 * far ahead it is now due.
+	 *
+	 * @param list the list of events to move
+	 */
+	private void reinsert(List<Entry<T>> list)
+	{
+		if (list.isEmpty()) {
+			return;
+		}
+
+		moving.addAll(list);
+		list.clear();
+		for (Entry<T> entry : moving) {
+			insert(entry);
+		}
+		moving.clear();
+	}
+
+	/**
+	 * Inserts an event into the lowest level that reaches its turn.
+	 *
+	 * @param entry the event and its turn, which must be after the current
+	 *              turn
+	 */
+	private void insert(Entry<T> entry)
+	{
+		int delay = entry.due - turn;
+		for (int level = 0; level < LEVELS; level++) {
+			if (delay < 1 << (SLOT_BITS * (level + 1))) {
+				slots.get(
+					level * SLOTS
+					+ ((entry.due >> (SLOT_BITS * level)) & SLOT_MASK)
+				).add(entry);
+				return;
+			}
+		}
+
+		overflow.add(entry);
+	}
+
+	/**
+	 * An event and the turn it is due.
+	 *
+	 * @param <T> the type of the event
+	 * @author Aaron Friesen
+	 */
+	private static class Entry<T>
+	{
+		/**
+		 * The event.
+		 */
+		private final T event;
+
+		/**
+		 * The turn the event is due.
+		 */
+		private final int due;
+
+		/**
+		 * Creates an entry.
+		 *
+		 * @param event the event
+		 * @param due   the turn the event is due
+		 */
+		public Entry(T event, int due)
+		{
+			this.event = event;
+			this.due = due;
+		}
+	}
+}
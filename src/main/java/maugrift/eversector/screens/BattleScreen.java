@@ -163,7 +163,7 @@ public class BattleScreen
 			}
 			break;
 		case KeyEvent.VK_F: {
-				if (battle.getSurrendered().contains(player)) {
+				if (battle.isSurrendered(player)) {
 					addError("You may not flee after surrendering.");
 					break;
 				}
@@ -179,7 +179,7 @@ public class BattleScreen
 			}
 		case KeyEvent.VK_U:
 			addMessage("You surrender.");
-			battle.getSurrendered().add(player);
+			battle.surrender(player);
 			nextAttack = true;
 			break;
 		/*
@@ -254,11 +254,11 @@ public class BattleScreen
 			}
 
 			if (
-				!battle.getFleeing().contains(player)
+				!battle.isFleeing(player)
 				&& new Pursue().canExecute(player) == null
 			) {
 				List<Ship> enemiesEscaping = new LinkedList<>();
-				for (Ship escaping : battle.getFleeing()) {
+				for (Ship escaping : new ArrayList<>(battle.getFleeing())) {
 					if (enemies.contains(escaping)) {
 						enemiesEscaping.add(escaping);
 					} else {
@@ -297,13 +297,15 @@ public class BattleScreen
 	 */
 	private Ship getSelectedShip()
 	{
-		String selectedText = getMenu().getSelection().toString();
-		for (Ship ship : battle.getShips()) {
-			if (selectedText.equals(ship.toString())) {
-				return ship;
-			}
+		Ship ship = galaxy.getShip(getMenu().getSelection().toString());
+		if (
+			ship == null
+			|| !ship.isInBattle()
+			|| ship.getBattleLocation().getBattle() != battle
+		) {
+			return null;
 		}
-		return null;
+		return ship;
 	}
 
 	/**
@@ -384,7 +386,7 @@ public class BattleScreen
 			for (Ship ally : battle.getAllies(player)) {
 				getMenu().getRestrictions().add(index);
 				ColorString allyString = ally.toColorString();
-				if (battle.getSurrendered().contains(ally)) {
+				if (battle.isSurrendered(ally)) {
 					allyString.setForeground(COLOR_SURRENDERED);
 				}
 				contents.add(allyString);
@@ -401,7 +403,7 @@ public class BattleScreen
 		for (Ship enemy : battle.getEnemies(player)) {
 			getMenu().getRestrictions().add(index);
 			ColorString enemyString = enemy.toColorString();
-			if (battle.getSurrendered().contains(enemy)) {
+			if (battle.isSurrendered(enemy)) {
 				enemyString.setForeground(COLOR_SURRENDERED);
 			}
 			contents.add(enemyString);
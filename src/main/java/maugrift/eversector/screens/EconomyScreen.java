@@ -0,0 +1,162 @@
+package maugrift.eversector.screens;
+
+import asciiPanel.AsciiPanel;
+import maugrift.apwt.glyphs.ColorString;
+import maugrift.apwt.screens.ConfirmationScreen;
+import maugrift.apwt.screens.WindowScreen;
+import maugrift.apwt.windows.PopupWindow;
+import maugrift.eversector.Main;
+import maugrift.eversector.Symbol;
+import maugrift.eversector.faction.Faction;
+import maugrift.eversector.faction.Ledger;
+
+import java.awt.event.KeyEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+import static maugrift.eversector.Main.COLOR_FIELD;
+
+/**
+ * A screen used for temporarily displaying where a faction's economy has
+ * gained and lost credits over the last turns.
+ *
+ * @author Aaron Friesen
+ */
+public class EconomyScreen
+	extends ConfirmationScreen
+	implements WindowScreen<PopupWindow>
+{
+	/**
+	 * The numbers of turns charted, from shortest to longest.
+	 */
+	private static final int[] PERIODS = new int[] {10, Ledger.HISTORY};
+
+	/**
+	 * The length of the longest bar in the chart.
+	 */
+	private static final int BAR_LENGTH = 20;
+
+	/**
+	 * The width given to the name of each category.
+	 */
+	private static final int NAME_WIDTH = 10;
+
+	/**
+	 * The width given to the total of each category.
+	 */
+	private static final int TOTAL_WIDTH = 7;
+
+	/**
+	 * The window.
+	 */
+	private PopupWindow window;
+
+	/**
+	 * Instantiates a new EconomyScreen.
+	 *
+	 * @param faction the faction whose economy will be displayed
+	 */
+	public EconomyScreen(Faction faction)
+	{
+		super(Main.display);
+		getConfirmCodes().add(KeyEvent.VK_E);
+		window = new PopupWindow(Main.display, buildChart(faction));
+	}
+
+	@Override
+	public void displayOutput()
+	{
+		window.display();
+	}
+
+	@Override
+	public PopupWindow getWindow()
+	{
+		return window;
+	}
+
+	/**
+	 * Charts the total change from each category of a faction's ledger over
+	 * each period, with gains in green and losses in red.
+	 *
+	 * @param faction the faction whose economy will be charted
+	 * @return the lines of the chart
+	 */
+	private static List<ColorString> buildChart(Faction faction)
+	{
+		Ledger ledger = faction.getLedger();
+		int turn = Main.galaxy.getTurn();
+		Ledger.Category[] categories = Ledger.Category.values();
+
+		List<ColorString> chart = new ArrayList<>();
+		chart.add(
+			new ColorString("Economy: ")
+			.add(
+				new ColorString(
+					faction.getEconomyCredits() + "" + Symbol.CREDITS,
+					COLOR_FIELD
+				)
+			)
+		);
+
+		for (int period : PERIODS) {
+			int[] totals = new int[categories.length];
+			int largest = 1;
+			for (int i = 0; i < categories.length; i++) {
+				totals[i] = ledger.getTotal(categories[i], period, turn);
+				largest = Math.max(largest, Math.abs(totals[i]));
+			}
+
+			chart.add(new ColorString());
+			chart.add(new ColorString("Last " + period + " turns:"));
+			for (int i = 0; i < categories.length; i++) {
+				int length = (int) Math.ceil(
+					(double) BAR_LENGTH * Math.abs(totals[i]) / largest
+				);
+				StringBuilder bar = new StringBuilder();
+				for (int j = 0; j < length; j++) {
+					bar.append('=');
+				}
+
+				chart.add(
+					new ColorString(pad(categories[i].toString(), NAME_WIDTH))
+					.add(
+						new ColorString(
+							pad(
+								(totals[i] > 0 ? "+" : "") + totals[i],
+								TOTAL_WIDTH
+							) + " ",
+							COLOR_FIELD
+						)
+					)
+					.add(
+						new ColorString(
+							bar.toString(),
+							totals[i] < 0
+							? AsciiPanel.brightRed
+							: AsciiPanel.brightGreen
+						)
+					)
+				);
+			}
+		}
+
+		return chart;
+	}
+
+	/**
+	 * Pads a string with spaces on the right to a width.
+	 *
+	 * @param string the string to pad
+	 * @param width  the width to pad the string to
+	 * @return the padded string
+	 */
+	private static String pad(String string, int width)
+	{
+		StringBuilder builder = new StringBuilder(string);
+		while (builder.length() < width) {
+			builder.append(' ');
+		}
+		return builder.toString();
+	}
+}
@@ -232,6 +232,11 @@ public class GameScreen
 
 			popup = new DistressConvertScreen(distressResponder);
 			break;
+		case KeyEvent.VK_E:
+			if (player.isLeader()) {
+				popup = new EconomyScreen(player.getFaction());
+			}
+			break;
 		case KeyEvent.VK_N:
 			if (player.isLeader() && galaxy.getFactions().length > 2) {
 				popup = new RelationshipRequestScreen();
@@ -326,6 +331,9 @@ public class GameScreen
 			)
 		);
 		keybindings.add(new Keybinding("broadcast distress signal", "d"));
+		if (player.isLeader()) {
+			keybindings.add(new Keybinding("faction economy", "e"));
+		}
 		if (player.isLeader() && galaxy.getFactions().length > 2) {
 			keybindings.add(new Keybinding("negotiate relationship", "n"));
 		}
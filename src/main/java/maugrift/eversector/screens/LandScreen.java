@@ -53,10 +53,7 @@ public class LandScreen
 			new Line(true, 1, 1)
 		);
 		window.getContents().addAll(planet.toColorStrings(Main.showFactions));
-		selection = new PlanetLocation(
-			player.getSectorLocation(),
-			Coord.get(0, 0)
-		);
+		selection = player.getSectorLocation().land(Coord.get(0, 0));
 	}
 
 	@Override
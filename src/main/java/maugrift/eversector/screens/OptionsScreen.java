@@ -65,6 +65,10 @@ public class OptionsScreen extends MenuScreen<PopupMenu>
 					lowerBound = Utility.parseInt(option.getDefault());
 					upperBound = Integer.MAX_VALUE;
 					break;
+				case SIMULATION_RADIUS:
+					lowerBound = 1;
+					upperBound = Integer.MAX_VALUE;
+					break;
 				default:
 					lowerBound = 0;
 					upperBound = FileManager.MAX_VOLUME;
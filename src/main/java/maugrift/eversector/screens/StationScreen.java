@@ -414,7 +414,9 @@ class StationScreen
 			new ColorString(item.toString(), colors.item).add(
 				new ColorString(
 					" ("
-					+ Integer.toString(item.getPrice())
+					+ Integer.toString(
+						player.getSectorLocation().getStation().getPrice(item)
+					)
 					+ Symbol.CREDITS
 					+ ")",
 					colors.credits
@@ -476,7 +478,10 @@ class StationScreen
 					return;
 				}
 
-				if (player.getCredits() < item.getPrice()) {
+				if (
+					player.getCredits()
+					< player.getSectorLocation().getStation().getPrice(item)
+				) {
 					this.item = DISABLED;
 					credits = INVALID;
 					return;
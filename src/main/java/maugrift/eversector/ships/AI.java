@@ -1,6 +1,10 @@
 package maugrift.eversector.ships;
 
 import maugrift.eversector.actions.*;
+import maugrift.eversector.faction.Blackboard;
+import maugrift.eversector.faction.Election;
+import maugrift.eversector.faction.Faction;
+import maugrift.eversector.faction.InfluenceMap;
 import maugrift.eversector.items.Module;
 import maugrift.eversector.items.Resource;
 import maugrift.eversector.items.Weapon;
@@ -12,6 +16,8 @@ import maugrift.eversector.locations.*;
 import maugrift.eversector.map.*;
 import squidpony.squidmath.Coord;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static maugrift.eversector.Main.rng;
@@ -39,6 +45,38 @@ public class AI
 		Resource.FUEL, Resource.ORE, Resource.ENERGY, Resource.HULL
 	};
 
+	/**
+	 * The weapons that the AI will try to fire in battle, in order.
+	 */
+	private static final String[] FIRE_PRIORITY = new String[] {
+		Weapon.PULSE_BEAM, Weapon.TORPEDO_TUBE, Weapon.LASER
+	};
+
+	/**
+	 * The least estimated outcome for which the AI will start a battle.
+	 *
+	 * @see BattleEstimator#getOutcome(java.util.Collection,
+	 *      java.util.Collection)
+	 */
+	private static final float ENGAGE_OUTCOME = 0.75f;
+
+	/**
+	 * The least estimated outcome for which the AI will join a battle.
+	 */
+	private static final float JOIN_OUTCOME = 0.5f;
+
+	/**
+	 * The estimated outcome below which the AI will flee or surrender.
+	 */
+	private static final float FLEE_OUTCOME = 0.25f;
+
+	/**
+	 * The greatest distance in sectors along either axis that the AI will
+	 * travel to sell its ore at a better price, and within which distant ships
+	 * sell their ore.
+	 */
+	public static final int TRADE_RADIUS = 2;
+
 	/**
 	 * The ship the AI is controlling.
 	 */
@@ -49,6 +87,123 @@ public class AI
 	 */
 	private Location destination;
 
+	/**
+	 * The faction that owned the destination when it was chosen, null if it
+	 * was unclaimed or cannot be claimed.
+	 */
+	private Faction destinationOwner;
+
+	/**
+	 * True if the ship was hostile to the owner of the destination when it
+	 * was chosen.
+	 */
+	private boolean destinationHostile;
+
+	/**
+	 * The location of the ship when its destination was last chosen, null if
+	 * a destination has never been chosen.
+	 */
+	private Location plannedFrom;
+
+	/**
+	 * The ship's planning state when its destination was last chosen.
+	 *
+	 * @see #getPlanningState()
+	 */
+	private int plannedState;
+
+	/**
+	 * The faction of the ship when its destination was last chosen.
+	 */
+	private Faction plannedFaction;
+
+	/**
+	 * The number of relationship changes in the galaxy when the ship's
+	 * destination was last chosen.
+	 */
+	private int plannedRelationshipChanges;
+
+	/**
+	 * The coordinates in the ship's field of view, sorted by distance from the
+	 * ship, shared by each search while choosing a destination. Null when not
+	 * choosing a destination or before it is first needed.
+	 */
+	private List<Coord> sortedFOV;
+
+	/**
+	 * The target that the ship has reserved on a blackboard, null if it has
+	 * not reserved one.
+	 */
+	private Location reservation;
+
+	/**
+	 * The blackboard that the ship's target is reserved on, null if it has
+	 * not reserved one.
+	 */
+	private Blackboard reservationBoard;
+
+	/**
+	 * True if the AI is queued to choose a destination on a later turn.
+	 *
+	 * @see PlanningBudget
+	 */
+	private boolean planQueued;
+
+	/**
+	 * True if the ship is being advanced by the coarse simulation instead of
+	 * acting with its AI.
+	 *
+	 * @see CoarseSimulation
+	 */
+	private boolean coarse;
+
+	/**
+	 * The action the ship is repeating while asleep, null if the ship is
+	 * awake. The action is executed once for each turn slept when the ship
+	 * wakes.
+	 */
+	private Action sleepAction;
+
+	/**
+	 * The turn on which the ship fell asleep.
+	 */
+	private int sleepTurn;
+
+	/**
+	 * The turn on which the ship will wake if nothing wakes it sooner.
+	 */
+	private int wakeTurn;
+
+	/**
+	 * The last warp the AI considered, reused while its coordinates do not
+	 * change.
+	 */
+	private Warp warp;
+
+	/**
+	 * The last landing the AI considered, reused while its coordinates do
+	 * not change.
+	 */
+	private Land land;
+
+	/**
+	 * The last attack the AI considered, reused while its opponent does not
+	 * change.
+	 */
+	private StartBattle startBattle;
+
+	/**
+	 * The last distress call the AI considered, reused while its responder
+	 * does not change.
+	 */
+	private Distress distress;
+
+	/**
+	 * The last shot with each weapon in {@link #FIRE_PRIORITY} that the AI
+	 * considered, reused while the target does not change.
+	 */
+	private final Fire[] fires;
+
 	/**
 	 * Creates a new AI for the given ship.
 	 *
@@ -57,6 +212,7 @@ public class AI
 	public AI(Ship ship)
 	{
 		this.ship = ship;
+		fires = new Fire[FIRE_PRIORITY.length];
 	}
 
 	/**
@@ -77,16 +233,17 @@ public class AI
 	 */
 	public Action act()
 	{
-		if (ship.isInBattle()) {
+		catchUp();
+		if (ship.isDestroyed() || ship.isInBattle()) {
 			return null;
 		}
 
 		if (ship.isShielded()) {
-			return new Toggle(Module.SHIELD);
+			return Toggle.SHIELD;
 		}
 
 		if (ship.isCloaked()) {
-			return new Toggle(Module.CLOAKING_DEVICE);
+			return Toggle.CLOAKING_DEVICE;
 		}
 
 		Action attack = attack();
@@ -115,16 +272,22 @@ public class AI
 					ship.getSectorLocation().isPlanet()
 					&& ship.getSectorLocation().getPlanet().getType().canMineFromOrbit()
 				) {
-					Mine mine = new Mine();
-					if (mine.canExecuteBool(ship)) {
-						return mine;
+					if (Mine.INSTANCE.canExecuteBool(ship)) {
+						return Mine.INSTANCE;
 					}
 				}
 			}
 		}
 
-		if (!destinationIsValid()) {
-			updateDestination();
+		boolean deferred = false;
+		if (destinationIsOutdated() || (!destinationIsValid() && !planIsCurrent())) {
+			deferred = !ship.getLocation().getGalaxy().getPlanningBudget()
+				.request(this, planQueued);
+			if (deferred) {
+				planQueued = true;
+			} else {
+				updateDestination();
+			}
 		}
 
 		Action seekDestination = seekDestination();
@@ -132,7 +295,124 @@ public class AI
 			return seekDestination;
 		}
 
-		return performEmergencyAction();
+		// A ship waiting to plan has not yet found that it has nowhere to go
+		return deferred ? null : performEmergencyAction();
+	}
+
+	/**
+	 * Returns true if the ship is asleep and should not act on the given
+	 * turn.
+	 *
+	 * @param turn the current turn
+	 * @return true if the ship is asleep
+	 */
+	public boolean isAsleep(int turn)
+	{
+		return sleepAction != null && turn < wakeTurn;
+	}
+
+	/**
+	 * Puts the ship to sleep after it has executed an action, if the action
+	 * will be repeated for several turns no matter what else happens. The
+	 * only such action is mining, which continues until the ship's ore is
+	 * full or its energy runs out.
+	 *
+	 * @param action the action the ship executed this turn
+	 */
+	public void sleepAfter(Action action)
+	{
+		if (action != Mine.INSTANCE || ship.isDestroyed()) {
+			return;
+		}
+
+		// Ore from orbit is random, so assume each mine yields the most ore
+		Region region = ship.isLanded()
+			? ship.getPlanetLocation().getRegion()
+			: null;
+		if (region != null && !region.hasOre()) {
+			return;
+		}
+
+		int yield = region != null ? region.getOre().getDensity() : Ore.DENSITY;
+		int turns = Math.min(
+			ship.getResource(Resource.ORE).getRemainingSpace() / yield,
+			ship.getResource(Mine.RESOURCE).getAmount() / Mine.COST
+		);
+
+		// Each mine extracts one unit of the region's ore
+		if (region != null) {
+			turns = Math.min(turns, region.getNOre());
+		}
+
+		if (turns > 1) {
+			sleepAction = action;
+			sleepTurn = ship.getLocation().getGalaxy().getTurn();
+			wakeTurn = sleepTurn + turns + 1;
+			ship.getLocation().getGalaxy().sleep(ship, wakeTurn);
+		}
+	}
+
+	/**
+	 * Wakes the ship so that it acts on its next chance this turn, or on the
+	 * next turn, after catching up on the turns it slept.
+	 */
+	public void wake()
+	{
+		if (sleepAction != null) {
+			wakeTurn = Math.min(
+				wakeTurn,
+				ship.getLocation().getGalaxy().getTurn()
+			);
+			ship.getLocation().getGalaxy().wake(ship);
+		}
+	}
+
+	/**
+	 * Wakes the ship without catching up on the turns it slept. Must be called
+	 * when the ship has been moved by something other than its own actions.
+	 */
+	public void interrupt()
+	{
+		if (sleepAction != null) {
+			sleepAction = null;
+			ship.getLocation().getGalaxy().wake(ship);
+		}
+	}
+
+	/**
+	 * Executes the action the ship was repeating while asleep once for each
+	 * turn slept, stopping early if it can no longer be executed.
+	 */
+	private void catchUp()
+	{
+		if (sleepAction == null) {
+			return;
+		}
+
+		Action action = sleepAction;
+		sleepAction = null;
+		int turns = ship.getLocation().getGalaxy().getTurn() - sleepTurn - 1;
+		while (turns > 0 && action.executeBool(ship)) {
+			turns--;
+		}
+	}
+
+	/**
+	 * Chooses a new destination for an AI that was queued by the planning
+	 * budget.
+	 *
+	 * @return true if a destination was searched for, false if the ship has
+	 *         been destroyed since it was queued
+	 */
+	boolean planDeferred()
+	{
+		planQueued = false;
+		if (ship.isDestroyed()) {
+			return false;
+		}
+
+		updateDestination();
+		return true;
 	}
 
 	/**
@@ -144,7 +424,7 @@ public class AI
 	{
 		Planet planet = ship.getSectorLocation().getPlanet();
 		if (planet != null && planet.getType().canMineFromOrbit()) {
-			return new Mine();
+			return Mine.INSTANCE;
 		}
 
 		return null;
@@ -157,8 +437,7 @@ public class AI
 	 */
 	private Action performPlanetAction()
 	{
-		Claim claim = new Claim();
-		return claim.canExecuteBool(ship) ? claim : new Mine();
+		return Claim.INSTANCE.canExecuteBool(ship) ? Claim.INSTANCE : Mine.INSTANCE;
 	}
 
 	/**
@@ -170,9 +449,8 @@ public class AI
 	{
 		sellDuplicates();
 		buyResources();
-		Claim claim = new Claim();
-		if (claim.canExecuteBool(ship)) {
-			return claim;
+		if (Claim.INSTANCE.canExecuteBool(ship)) {
+			return Claim.INSTANCE;
 		}
 
 		if (rng.nextBoolean()) {
@@ -212,19 +490,19 @@ public class AI
 		new TransactResource(
 			Resource.ORE,
 			-ship.getMaxSellAmount(Resource.ORE)
-		).execute(ship);
+		).executeBool(ship);
 		new TransactResource(
 			Resource.FUEL,
 			ship.getMaxBuyAmount(Resource.FUEL)
-		).execute(ship);
+		).executeBool(ship);
 		new TransactResource(
 			Resource.HULL,
 			ship.getMaxBuyAmount(Resource.HULL)
-		).execute(ship);
+		).executeBool(ship);
 		new TransactResource(
 			Resource.ENERGY,
 			ship.getMaxBuyAmount(Resource.ENERGY)
-		).execute(ship);
+		).executeBool(ship);
 	}
 
 	/**
@@ -234,7 +512,7 @@ public class AI
 	{
 		for (String module : modulePriority) {
 			if (!ship.hasModule(module)) {
-				new BuyModule(module).execute(ship);
+				new BuyModule(module).executeBool(ship);
 			}
 		}
 	}
@@ -264,7 +542,7 @@ public class AI
 			new TransactResource(
 				expanderName,
 				ship.getMaxBuyAmount(expanderName)
-			).execute(ship);
+			).executeBool(ship);
 		}
 	}
 
@@ -279,13 +557,26 @@ public class AI
 			return null;
 		}
 
-		Ship player = ship.getLocation().getGalaxy().getPlayer();
+		// Nothing in the sector is hostile, so there is no one to attack
+		Galaxy galaxy = ship.getLocation().getGalaxy();
+		if (
+			galaxy.getInfluenceMap().getHostileStrength(
+				ship.getFaction(),
+				ship.getLocation().getCoord()
+			) == 0.0f
+		) {
+			return null;
+		}
+
+		Ship player = galaxy.getPlayer();
 		if (
 			player != null
+			&& !player.isInBattle()
 			&& player.getLocation().equals(ship.getLocation())
 			&& ship.isHostile(player.getFaction())
+			&& canDefeat(player)
 		) {
-			StartBattle startBattle = new StartBattle(player);
+			StartBattle startBattle = getStartBattle(player);
 			if (startBattle.canExecuteBool(ship)) {
 				return startBattle;
 			}
@@ -294,8 +585,12 @@ public class AI
 		List<Ship> others = ship.getSectorLocation().getShips();
 		if (!others.isEmpty()) {
 			for (Ship other : others) {
-				if (ship.isHostile(other.getFaction())) {
-					StartBattle startBattle = new StartBattle(other);
+				if (
+					!other.isInBattle()
+					&& ship.isHostile(other.getFaction())
+					&& canDefeat(other)
+				) {
+					StartBattle startBattle = getStartBattle(other);
 					if (startBattle.canExecuteBool(ship)) {
 						return startBattle;
 					}
@@ -307,31 +602,153 @@ public class AI
 	}
 
 	/**
-	 * Chooses a new destination based on the ship's current situation.
+	 * Chooses a new destination based on the ship's current situation, and
+	 * records the situation so that the search is not repeated until it
+	 * changes.
 	 */
 	private void updateDestination()
+	{
+		releaseReservation();
+		destination = findDestination();
+		sortedFOV = null;
+
+		destinationOwner = getOwner(destination);
+		destinationHostile = destinationOwner != null
+			&& ship.isHostile(destinationOwner);
+		plannedFrom = ship.getLocation();
+		plannedState = getPlanningState();
+		plannedFaction = ship.getFaction();
+		plannedRelationshipChanges =
+			ship.getLocation().getGalaxy().getRelationshipChanges();
+	}
+
+	/**
+	 * Searches for the best destination in the ship's current situation.
+	 *
+	 * @return the best destination, null if there is none
+	 */
+	private Location findDestination()
 	{
 		Location invasionDestination = findInvasionDestination();
 		if (invasionDestination != null) {
-			destination = invasionDestination;
-			return;
+			return invasionDestination;
 		}
 
 		Location claimingDestination = findClosestUnclaimedTerritory();
 		if (claimingDestination != null) {
-			destination = claimingDestination;
-			return;
+			return claimingDestination;
+		}
+
+		if (ship.getResource(Resource.ORE).isFull()) {
+			StationLocation oreBuyer = findBestOreBuyer();
+			if (oreBuyer != null) {
+				return oreBuyer;
+			}
 		}
 
 		if (
 			ship.getResource(Resource.ORE).isFull()
-			|| ship.validateResources(Mine.RESOURCE, Mine.COST, "mine") != null
+			|| !ship.checkResources(Mine.RESOURCE, Mine.COST).isValid()
 		) {
-			destination = findClosestStation();
-			return;
+			return findClosestStation();
+		}
+
+		return findClosestMiningDestination();
+	}
+
+	/**
+	 * Returns true if the owner of the destination has changed, or if the
+	 * ship has become hostile or friendly to it, since the destination was
+	 * chosen.
+	 *
+	 * @return true if the destination must be chosen again
+	 */
+	private boolean destinationIsOutdated()
+	{
+		if (destination == null) {
+			return false;
+		}
+
+		Faction owner = getOwner(destination);
+		return owner != destinationOwner
+			|| (owner != null && ship.isHostile(owner) != destinationHostile);
+	}
+
+	/**
+	 * Returns true if nothing that would affect the choice of destination has
+	 * changed since it was last chosen, meaning that searching again would
+	 * give the same result.
+	 *
+	 * @return true if the last choice of destination is still current
+	 */
+	private boolean planIsCurrent()
+	{
+		return plannedFrom != null
+			&& plannedFrom.equals(ship.getLocation())
+			&& plannedState == getPlanningState()
+			&& plannedFaction == ship.getFaction()
+			&& plannedRelationshipChanges
+				== ship.getLocation().getGalaxy().getRelationshipChanges();
+	}
+
+	/**
+	 * Summarizes every threshold of the ship's credits and resources that
+	 * affects the choice of destination. The lowest bits record whether the
+	 * ship has weapons, full fuel, full ore, and enough energy to mine, and
+	 * the remaining bits record the fewest regions a planet may have for the
+	 * ship to afford claiming territory on it, which is 0 when it can afford
+	 * to claim a station.
+	 *
+	 * @return the ship's planning state
+	 */
+	private int getPlanningState()
+	{
+		int state = Station.CLAIM_COST / (Math.max(ship.getCredits(), 0) + 1);
+		state = (state << 1) | (ship.hasWeapons() ? 1 : 0);
+		state = (state << 1) | (ship.getResource(Resource.FUEL).isFull() ? 1 : 0);
+		state = (state << 1) | (ship.getResource(Resource.ORE).isFull() ? 1 : 0);
+		state = (state << 1)
+			| (ship.checkResources(Mine.RESOURCE, Mine.COST).isValid() ? 1 : 0);
+		return state;
+	}
+
+	/**
+	 * Gets the faction that owns the station or region at the given location.
+	 *
+	 * @param location the location to check
+	 * @return the owner of the station or region at the location, null if it
+	 *         is unclaimed or is not a station or region
+	 */
+	private Faction getOwner(Location location)
+	{
+		if (location instanceof StationLocation) {
+			return ((StationLocation) location).getStation().getFaction();
 		}
 
-		destination = findClosestMiningDestination();
+		if (location instanceof PlanetLocation) {
+			return ((PlanetLocation) location).getRegion().getFaction();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets the coordinates in the ship's field of view, sorted by distance
+	 * from the ship. The field of view is only calculated once each time a
+	 * destination is chosen.
+	 *
+	 * @return the sorted coordinates in the ship's field of view
+	 */
+	private List<Coord> getSortedFOV()
+	{
+		if (sortedFOV == null) {
+			sortedFOV = ship.getFOV();
+			sortedFOV.sort(
+				Utility.createDistanceComparator(ship.getLocation().getCoord())
+			);
+		}
+
+		return sortedFOV;
 	}
 
 	/**
@@ -341,60 +758,45 @@ public class AI
 	 */
 	private SectorLocation findClosestMiningDestination()
 	{
+		Blackboard blackboard = getBlackboard();
 		if (ship.isInSector()) {
 			if (ship.isLanded() && ship.getPlanetLocation().getRegion().hasOre()) {
 				return ship.getPlanetLocation();
 			}
 
-			SectorLocation current = getPlanetMiningDestination(
-					ship.getSectorLocation().getPlanet()
+			SectorLocation current = chooseTarget(
+					blackboard.getMiningSites(ship.getLocation().getSector()),
+					Blackboard.MAX_MINERS,
+					ship.getSectorLocation().getOrbit(),
+					false
 				);
 			if (current != null) {
-				return current;
-			}
-
-			Sector sector = ship.getLocation().getSector();
-			int orbit = ship.getSectorLocation().getOrbit();
-			for (int offset = 1; offset < sector.getOrbits(); offset++) {
-				SectorLocation minusOffset = getPlanetMiningDestination(
-						sector.getPlanetAt(orbit - offset)
-					);
-				SectorLocation plusOffset = getPlanetMiningDestination(
-						sector.getPlanetAt(orbit + offset)
-					);
-
-				if (minusOffset != null) {
-					if (plusOffset == null) {
-						return minusOffset;
-					}
-
-					return rng.nextBoolean() ? minusOffset : plusOffset;
-				} else if (plusOffset != null) {
-					return plusOffset;
-				}
+				return reserve(current);
 			}
 		}
 
-		List<Coord> fov = ship.getFOV();
-		fov.sort(Utility.createDistanceComparator(ship.getLocation().getCoord()));
 		Galaxy galaxy = ship.getLocation().getGalaxy();
-		for (Coord coord : fov) {
+		for (Coord coord : getSortedFOV()) {
 			if (!galaxy.contains(coord)) {
 				continue;
 			}
 
 			Sector sector = galaxy.sectorAt(coord);
-			if (sector.isEmpty()) {
+			if (
+				sector.isEmpty()
+				|| galaxy.getInfluenceMap().getOreValue(coord) == 0.0f
+			) {
 				continue;
 			}
 
-			for (int orbit = sector.getOrbits(); orbit > 0; orbit--) {
-				SectorLocation planetLocation = getPlanetMiningDestination(
-						sector.getPlanetAt(orbit)
-					);
-				if (planetLocation != null) {
-					return planetLocation;
-				}
+			SectorLocation miningSite = chooseTarget(
+					blackboard.getMiningSites(sector),
+					Blackboard.MAX_MINERS,
+					sector.getOrbits(),
+					false
+				);
+			if (miningSite != null) {
+				return reserve(miningSite);
 			}
 		}
 
@@ -402,27 +804,25 @@ public class AI
 	}
 
 	/**
-	 * Generates a mining location for the given planet.
+	 * Finds the station nearby that will pay the most for ore, using the
+	 * galaxy's market index.
 	 *
-	 * @param planet the planet to get a location for
-	 * @return a mining location for the given planet
+	 * @return the location of the station, null if there is none in range
 	 */
-	private SectorLocation getPlanetMiningDestination(Planet planet)
+	private StationLocation findBestOreBuyer()
 	{
-		if (planet == null) {
-			return null;
-		}
-
-		if (planet.getType().canMineFromOrbit()) {
-			return planet.getLocation();
-		}
-
-		if (planet.getType().canMine() && planet.getType().canLandOn()) {
-			Region oreRegion = planet.getRandomOreRegion();
-			return oreRegion == null ? null : oreRegion.getLocation();
+		if (ship.isDocked()) {
+			return ship.getStationLocation();
 		}
 
-		return null;
+		Station station = ship.getLocation().getGalaxy().getMarket().getIndex()
+			.getHighestPrice(
+				ship.getResource(Resource.ORE),
+				ship.getLocation().getCoord(),
+				TRADE_RADIUS,
+				candidate -> getStationDestination(candidate) != null
+			);
+		return station == null ? null : getStationDestination(station);
 	}
 
 	/**
@@ -465,8 +865,7 @@ public class AI
 			}
 		}
 
-		List<Coord> fov = ship.getFOV();
-		fov.sort(Utility.createDistanceComparator(ship.getLocation().getCoord()));
+		List<Coord> fov = getSortedFOV();
 		Galaxy galaxy = ship.getLocation().getGalaxy();
 		for (Coord coord : fov) {
 			if (!galaxy.contains(coord)) {
@@ -523,50 +922,14 @@ public class AI
 			return null;
 		}
 
-		Sector sector = ship.getLocation().getSector();
-		int orbit = ship.getSectorLocation().getOrbit();
-		for (int offset = 1; offset < sector.getOrbits(); offset++) {
-			SectorLocation minusOffset = getPlanetClaimingDestination(
-					sector.getPlanetAt(orbit - offset)
-				);
-			SectorLocation plusOffset = getPlanetClaimingDestination(
-					sector.getPlanetAt(orbit + offset)
-				);
-
-			if (
-				minusOffset != null
-				&& ship.getCredits() >= minusOffset.getPlanet().getClaimCost()
-			) {
-				if (
-					plusOffset != null
-					&& ship.getCredits() >= plusOffset.getPlanet().getClaimCost()
-				) {
-					return rng.nextBoolean() ? minusOffset : plusOffset;
-				}
-
-				return minusOffset;
-			} else if (plusOffset != null) {
-				return plusOffset;
-			}
-		}
-
-		return null;
-	}
-
-	/**
-	 * Generates a location with unclaimed territory for the given planet.
-	 *
-	 * @param planet the planet to get a location for
-	 * @return a location with unclaimed territory for the given planet
-	 */
-	private PlanetLocation getPlanetClaimingDestination(Planet planet)
-	{
-		if (planet == null || !planet.getType().canLandOn()) {
-			return null;
-		}
-
-		Region unclaimedRegion = planet.getRandomRegion(ship.getFaction());
-		return unclaimedRegion == null ? null : unclaimedRegion.getLocation();
+		return reserve(
+			chooseTarget(
+				getBlackboard().getClaimTargets(ship.getLocation().getSector()),
+				Blackboard.MAX_CLAIMERS,
+				ship.getSectorLocation().getOrbit(),
+				true
+			)
+		);
 	}
 
 	/**
@@ -584,59 +947,38 @@ public class AI
 			return null;
 		}
 
+		Blackboard blackboard = getBlackboard();
 		if (ship.isInSector()) {
-			if (ship.getSectorLocation().isStation()) {
-				StationLocation invasionDestination = getStationInvasionDestination(
-						ship.getSectorLocation().getStation());
-				if (invasionDestination != null) {
-					return invasionDestination;
-				}
-			}
-
-			Sector sector = ship.getLocation().getSector();
-			if (sector.hasStations()) {
-				int orbit = ship.getSectorLocation().getOrbit();
-				for (int offset = 1; offset < sector.getOrbits(); offset++) {
-					StationLocation minusOffset = getStationInvasionDestination(
-							sector.getStationAt(orbit - offset)
-						);
-					StationLocation plusOffset = getStationInvasionDestination(
-							sector.getStationAt(orbit + offset)
-						);
-
-					if (minusOffset != null) {
-						if (plusOffset == null) {
-							return minusOffset;
-						}
-
-						return rng.nextBoolean() ? minusOffset : plusOffset;
-					} else if (plusOffset != null) {
-						return plusOffset;
-					}
-				}
+			StationLocation current = chooseTarget(
+					blackboard.getInvasionTargets(ship.getLocation().getSector()),
+					Blackboard.MAX_INVADERS,
+					ship.getSectorLocation().getOrbit(),
+					false
+				);
+			if (current != null) {
+				return reserve(current);
 			}
 		}
 
-		List<Coord> fov = ship.getFOV();
-		fov.sort(Utility.createDistanceComparator(ship.getLocation().getCoord()));
 		Galaxy galaxy = ship.getLocation().getGalaxy();
-		for (Coord coord : fov) {
+		for (Coord coord : getSortedFOV()) {
 			if (!galaxy.contains(coord)) {
 				continue;
 			}
 
 			Sector sector = galaxy.sectorAt(coord);
-			if (!sector.hasStations()) {
+			if (!sector.hasStations() || isOutmatched(coord)) {
 				continue;
 			}
 
-			for (int orbit = sector.getOrbits(); orbit > 0; orbit--) {
-				StationLocation stationLocation = getStationInvasionDestination(
-						sector.getStationAt(orbit)
-					);
-				if (stationLocation != null) {
-					return stationLocation;
-				}
+			StationLocation invasionTarget = chooseTarget(
+					blackboard.getInvasionTargets(sector),
+					Blackboard.MAX_INVADERS,
+					sector.getOrbits(),
+					false
+				);
+			if (invasionTarget != null) {
+				return reserve(invasionTarget);
 			}
 		}
 
@@ -644,21 +986,146 @@ public class AI
 	}
 
 	/**
-	 * Generates a location for the given hostile station.
+	 * Returns true if the ships in a sector that are hostile to the ship are
+	 * stronger than the ship and its allies there combined.
 	 *
-	 * @param station the station to get a location for
-	 * @return a location for the given hostile station
+	 * @param coord the coordinates of the sector
+	 * @return true if the ship would be outmatched in the sector
 	 */
-	private StationLocation getStationInvasionDestination(Station station)
+	private boolean isOutmatched(Coord coord)
 	{
-		if (station == null) {
-			return null;
+		InfluenceMap influenceMap = ship.getLocation().getGalaxy()
+			.getInfluenceMap();
+		return influenceMap.getHostileStrength(ship.getFaction(), coord) > (
+			influenceMap.getStrength(ship.getFaction(), coord)
+			+ InfluenceMap.getStrength(ship)
+		);
+	}
+
+	/**
+	 * Chooses the target from a list that the fewest other ships are headed
+	 * for, preferring the closest target to the given orbit among those that
+	 * are equally reserved.
+	 *
+	 * @param targets         the targets to choose from
+	 * @param maxReservations the number of ships headed for a target at which
+	 *                        it will no longer be chosen
+	 * @param orbit           the orbit to measure distance from
+	 * @param claiming        if true, targets on planets where the ship cannot
+	 *                        afford to claim territory will not be chosen
+	 * @param <T>             the type of target
+	 * @return the chosen target, null if none can be chosen
+	 */
+	private <T extends SectorLocation> T chooseTarget(
+		List<T> targets,
+		int maxReservations,
+		int orbit,
+		boolean claiming
+	)
+	{
+		Blackboard blackboard = getBlackboard();
+		T best = null;
+		int bestReservations = maxReservations;
+		int bestDistance = Integer.MAX_VALUE;
+		for (T target : targets) {
+			if (claiming && ship.getCredits() < target.getPlanet().getClaimCost()) {
+				continue;
+			}
+
+			int reservations = blackboard.getReservations(target);
+			int distance = Math.abs(target.getOrbit() - orbit);
+			if (
+				reservations < bestReservations
+				|| (
+					reservations == bestReservations
+					&& best != null
+					&& distance < bestDistance
+				)
+			) {
+				best = target;
+				bestReservations = reservations;
+				bestDistance = distance;
+			}
 		}
 
-		if (ship.isHostile(station.getFaction())) {
-			return station.getLocation().dock();
+		return best;
+	}
+
+	/**
+	 * Records that the ship is headed for a target on its faction's
+	 * blackboard, so that other ships can avoid it.
+	 *
+	 * @param target the target the ship is headed for, may be null
+	 * @param <T>    the type of target
+	 * @return the target
+	 */
+	private <T extends Location> T reserve(T target)
+	{
+		if (target != null) {
+			reservationBoard = getBlackboard();
+			reservationBoard.reserve(target);
+			reservation = target;
 		}
-		return null;
+
+		return target;
+	}
+
+	/**
+	 * Releases the ship's reservation of its target on its faction's
+	 * blackboard, if it has one. Must be called when the ship is destroyed.
+	 */
+	public void releaseReservation()
+	{
+		if (reservation != null) {
+			reservationBoard.release(reservation);
+			reservation = null;
+			reservationBoard = null;
+		}
+	}
+
+	/**
+	 * Returns true if the ship is being advanced by the coarse simulation.
+	 *
+	 * @return true if the ship is being simulated coarsely
+	 */
+	boolean isCoarse()
+	{
+		return coarse;
+	}
+
+	/**
+	 * Sets whether the ship is being advanced by the coarse simulation.
+	 *
+	 * @param coarse true if the ship is being simulated coarsely
+	 */
+	void setCoarse(boolean coarse)
+	{
+		this.coarse = coarse;
+	}
+
+	/**
+	 * Forgets the ship's destination and plan, so that a new destination is
+	 * chosen the next time the ship acts. Used when the ship has been
+	 * advanced by the coarse simulation instead of its own actions.
+	 *
+	 * @see CoarseSimulation
+	 */
+	void forgetDestination()
+	{
+		interrupt();
+		releaseReservation();
+		destination = null;
+		plannedFrom = null;
+	}
+
+	/**
+	 * Gets the blackboard shared by the ship and the rest of its faction.
+	 *
+	 * @return the blackboard of the ship's faction
+	 */
+	private Blackboard getBlackboard()
+	{
+		return ship.getLocation().getGalaxy().getBlackboard(ship.getFaction());
 	}
 
 	/**
@@ -688,13 +1155,13 @@ public class AI
 		}
 
 		if (ship.isDocked()) {
-			return new Undock();
+			return Undock.INSTANCE;
 		}
 
 		if (ship.isLanded()) {
 			if (destination instanceof PlanetLocation &&
 				ship.getSectorLocation().getPlanet() == ((SectorLocation) destination).getPlanet()) {
-				return new Relocate(
+				return Relocate.get(
 						Utility.toGoToCardinal(
 							ship.getPlanetLocation().getRegionCoord(),
 							((PlanetLocation) destination).getRegionCoord()
@@ -702,7 +1169,7 @@ public class AI
 					);
 			}
 
-			return new Takeoff();
+			return Takeoff.INSTANCE;
 		}
 
 		if (ship.isInSector()) {
@@ -710,40 +1177,129 @@ public class AI
 				ship.getLocation().getSector() == destination.getSector()) {
 				if (ship.getSectorLocation().getOrbit() == ((SectorLocation) destination).getOrbit()) {
 					if (destination instanceof StationLocation) {
-						return new Dock();
+						return Dock.INSTANCE;
 					}
 
 					if (destination instanceof PlanetLocation) {
-						return new Land(((PlanetLocation) destination).getRegionCoord());
+						return getLand(((PlanetLocation) destination).getRegionCoord());
 					}
 				}
 
-				return new Orbit(
+				return Orbit.get(
 						ship.getSectorLocation().getOrbit() < ((SectorLocation) destination).getOrbit()
 					);
 			}
 
-			return new Orbit(true);
+			return Orbit.UP;
 		}
 
 		if (ship.getLocation().getCoord().equals(destination.getCoord())) {
-			return new Enter();
+			return Enter.INSTANCE;
 		}
 
-		if (!destination.getCoord().isAdjacent(ship.getLocation().getCoord())) {
-			Warp warp = new Warp(destination.getCoord());
-			if (warp.canExecuteBool(ship)) {
-				return warp;
-			}
+		Coord coord = ship.getLocation().getCoord();
+		NavigationField field = ship.getLocation().getGalaxy()
+			.getNavigationField(destination.getCoord());
+		Warp warp = getWarp(destination.getCoord());
+		Module warpDrive = ship.getModule(Warp.MODULE);
+
+		// Only warp when burning there would cost more than the warp, valuing
+		// the fuel burned and the energy warped at their base prices
+		boolean warpIsCheaper = warpDrive != null
+			&& (long) field.getCost(coord)
+			* ship.getResource(Burn.RESOURCE).getValue()
+			> (long) warpDrive.getActionCost()
+			* ship.getResource(warpDrive.getActionResource()).getValue();
+		if (warpIsCheaper && warp.canExecuteBool(ship)) {
+			return warp;
 		}
 
-		Burn burn = new Burn(
-			Utility.toGoToCardinal(
-				ship.getLocation().getCoord(),
-				destination.getCoord()
-			)
-		);
-		return burn.canExecuteBool(ship) ? burn : null;
+		Burn burn = Burn.get(field.getStep(coord));
+		if (burn.canExecuteBool(ship)) {
+			return burn;
+		}
+
+		// Warp anyway if there is not enough fuel to burn
+		return !warpIsCheaper && warp.canExecuteBool(ship) ? warp : null;
+	}
+
+	/**
+	 * Gets a warp to the given coordinates, reusing the last one if possible.
+	 *
+	 * @param coord the coordinates to warp to
+	 * @return a warp to the coordinates
+	 */
+	private Warp getWarp(Coord coord)
+	{
+		if (warp == null || !warp.getCoord().equals(coord)) {
+			warp = new Warp(coord);
+		}
+
+		return warp;
+	}
+
+	/**
+	 * Gets a landing at the given coordinates, reusing the last one if
+	 * possible.
+	 *
+	 * @param coord the coordinates of the region to land in
+	 * @return a landing at the coordinates
+	 */
+	private Land getLand(Coord coord)
+	{
+		if (land == null || !land.getCoord().equals(coord)) {
+			land = new Land(coord);
+		}
+
+		return land;
+	}
+
+	/**
+	 * Gets an attack on the given ship, reusing the last one if possible.
+	 *
+	 * @param opponent the ship to attack
+	 * @return an attack on the ship
+	 */
+	private StartBattle getStartBattle(Ship opponent)
+	{
+		if (startBattle == null || startBattle.getOpponent() != opponent) {
+			startBattle = new StartBattle(opponent);
+		}
+
+		return startBattle;
+	}
+
+	/**
+	 * Gets a distress call to the given faction, reusing the last one if
+	 * possible.
+	 *
+	 * @param responder the faction to call for help
+	 * @return a distress call to the faction
+	 */
+	private Distress getDistress(Faction responder)
+	{
+		if (distress == null || distress.getResponder() != responder) {
+			distress = new Distress(responder);
+		}
+
+		return distress;
+	}
+
+	/**
+	 * Gets a shot at the given ship with a weapon from
+	 * {@link #FIRE_PRIORITY}, reusing the last one if possible.
+	 *
+	 * @param index  the index of the weapon in {@link #FIRE_PRIORITY}
+	 * @param target the ship to fire at
+	 * @return a shot at the ship with the weapon
+	 */
+	private Fire getFire(int index, Ship target)
+	{
+		if (fires[index] == null || fires[index].getTarget() != target) {
+			fires[index] = new Fire(FIRE_PRIORITY[index], target);
+		}
+
+		return fires[index];
 	}
 
 	/**
@@ -752,12 +1308,11 @@ public class AI
 	 */
 	private Action performEmergencyAction()
 	{
-		Refine refine = new Refine();
-		if (refine.canExecuteBool(ship)) {
-			return refine;
+		if (Refine.INSTANCE.canExecuteBool(ship)) {
+			return Refine.INSTANCE;
 		}
 
-		Distress distress = new Distress(ship.getDistressResponder());
+		Distress distress = getDistress(ship.getDistressResponder());
 		if (distress.canExecuteBool(ship)) {
 			return distress;
 		}
@@ -789,12 +1344,22 @@ public class AI
 			defenderFriendliness += getFriendliness(defender);
 		}
 
-		if (attackerFriendliness > defenderFriendliness) {
-			battle.getAttackers().add(ship);
-		} else {
-			battle.getDefenders().add(ship);
+		boolean attacking = attackerFriendliness > defenderFriendliness;
+		List<Ship> side = new ArrayList<>(
+				attacking ? battle.getAttackers() : battle.getDefenders()
+			);
+		side.add(ship);
+		float outcome = ship.getLocation().getGalaxy().getBattleEstimator()
+			.getOutcome(
+				side,
+				attacking ? battle.getDefenders() : battle.getAttackers()
+			);
+		if (outcome < JOIN_OUTCOME) {
+			return false;
 		}
 
+		battle.join(ship, attacking);
+
 		ship.setLocation(ship.getSectorLocation().joinBattle(battle));
 		return true;
 	}
@@ -838,64 +1403,44 @@ public class AI
 		}
 
 		Battle battle = ship.getBattleLocation().getBattle();
-		List<Ship> enemies = battle.getEnemies(ship);
-		Ship target = null;
-		for (Ship enemy : enemies) {
-			if (!battle.getFleeing().contains(enemy) &&
-				(target == null || target.getResource(Resource.HULL).getAmount() <
-					enemy.getResource(Resource.HULL).getAmount())) {
-				target = enemy;
-			}
-		}
-
+		Ship target = battle.getTarget(ship);
 		if (target == null) {
 			return null;
 		}
 
 		Ship player = ship.getLocation().getGalaxy().getPlayer();
-		boolean playerInBattle = player != null &&
-			ship.getBattleLocation().getShips().contains(player);
+		boolean playerInBattle = player != null && battle.contains(player);
 
-		if (!willAttack()) {
-			Flee flee = new Flee();
-			return flee.canExecuteBool(ship) ? flee : new Surrender();
+		if (!willAttack() || isLosing(battle)) {
+			return Flee.INSTANCE.canExecuteBool(ship) ? Flee.INSTANCE : Surrender.INSTANCE;
 		}
 
 		if (!ship.isShielded()) {
-			new Toggle(Module.SHIELD).execute(ship);
-		}
-
-		Fire pulse = new Fire(Weapon.PULSE_BEAM, target);
-		if (pulse.canExecuteBool(ship)) {
-			return pulse;
+			Toggle.SHIELD.execute(ship);
 		}
 
-		Fire torpedo = new Fire(Weapon.TORPEDO_TUBE, target);
-		if (torpedo.canExecuteBool(ship)) {
-			return torpedo;
-		}
-
-		Fire laser = new Fire(Weapon.LASER, target);
-		if (laser.canExecuteBool(ship)) {
-			return laser;
+		for (int i = 0; i < FIRE_PRIORITY.length; i++) {
+			Fire fire = getFire(i, target);
+			if (fire.canExecuteBool(ship)) {
+				return fire;
+			}
 		}
 
 		// The code above under !willAttack() is borrowed from here
-		Flee flee = new Flee();
-		if (flee.canExecuteBool(ship)) {
+		if (Flee.INSTANCE.canExecuteBool(ship)) {
 			if (!ship.isCloaked()) {
-				new Toggle(Module.CLOAKING_DEVICE).execute(ship);
+				Toggle.CLOAKING_DEVICE.execute(ship);
 			}
 
-			return flee;
+			return Flee.INSTANCE;
 		}
 
 		if (playerInBattle) {
 			player.addPlayerColorMessage(
-				ship.toColorString().add(" surrenders.")
+				() -> ship.toColorString().add(" surrenders.")
 			);
 		}
-		return new Surrender();
+		return Surrender.INSTANCE;
 	}
 
 	/**
@@ -908,11 +1453,36 @@ public class AI
 		Battle battle = ship.getBattleLocation().getBattle();
 		return (
 			willAttack()
-			&& battle.getEnemies(ship).size() - battle.getFleeing().size() < 1
-			&& new Pursue().executeBool(ship)
+			&& battle.getNFightingEnemies(ship) < 1
+			&& Pursue.INSTANCE.executeBool(ship)
 		);
 	}
 
+	/**
+	 * Returns true if the ship expects to win a battle against another ship.
+	 *
+	 * @param other the ship to fight
+	 * @return true if the ship expects to win
+	 */
+	private boolean canDefeat(Ship other)
+	{
+		return ship.getLocation().getGalaxy().getBattleEstimator().getOutcome(
+				Collections.singletonList(ship),
+				Collections.singletonList(other)
+			) >= ENGAGE_OUTCOME;
+	}
+
+	/**
+	 * Returns true if the ship expects its side to lose the battle it is in.
+	 *
+	 * @param battle the battle the ship is in
+	 * @return true if the ship expects to lose
+	 */
+	private boolean isLosing(Battle battle)
+	{
+		return battle.getOutcome(ship) < FLEE_OUTCOME;
+	}
+
 	/**
 	 * Returns true if the ship is willing to enter a fight.
 	 *
@@ -930,33 +1500,35 @@ public class AI
 	}
 
 	/**
-	 * Votes on a candidate for faction leader, from the given list of
-	 * candidates.
+	 * Votes on a candidate for faction leader, from the candidates in the
+	 * given election.
 	 *
-	 * @param candidates the candidates for faction leader that the ship can
-	 *                   choose from
-	 * @return the ship that this ship is voting for
+	 * @param election the election, whose votes are being gathered
+	 * @return the index of the candidate that this ship is voting for
 	 */
-	public Ship vote(List<Ship> candidates)
+	public int vote(Election election)
 	{
-		int[] preferences = new int[candidates.size()];
+		int nCandidates = election.getCandidates().size();
+		int[] preferences = new int[nCandidates];
+		String level = ship.getHigherLevel();
+		Coord coord = ship.getLocation().getCoord();
+		int value = ship.calculateShipValue();
 
-		for (int i = 0; i < candidates.size(); i++) {
-			Ship candidate = candidates.get(i);
+		for (int i = 0; i < nCandidates; i++) {
 			preferences[i] = 0;
 
-			if (ship.getHigherLevel() != null &&
-				ship.getHigherLevel().equals(candidate.getHigherLevel())) {
+			if (level != null && level.equals(election.getCandidateLevel(i))) {
 				preferences[i] += 2;
 			}
 
-			if (ship.getLocation().getCoord().equals(candidate.getLocation().getCoord())) {
+			Coord candidateCoord = election.getCandidateCoord(i);
+			if (coord.equals(candidateCoord)) {
 				preferences[i] += 3;
-			} else if (ship.getLocation().getCoord().isAdjacent(candidate.getLocation().getCoord())) {
+			} else if (coord.isAdjacent(candidateCoord)) {
 				preferences[i]++;
 			}
 
-			if (candidate.calculateShipValue() > ship.calculateShipValue()) {
+			if (election.getCandidateValue(i) > value) {
 				preferences[i]++;
 			}
 		}
@@ -973,6 +1545,6 @@ public class AI
 			}
 		}
 
-		return candidates.get(index);
+		return index;
 	}
 }
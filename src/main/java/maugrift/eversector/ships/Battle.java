@@ -1,15 +1,24 @@
 package maugrift.eversector.ships;
 
+import maugrift.eversector.Main;
 import maugrift.eversector.actions.Action;
 import maugrift.eversector.actions.Fire;
 import maugrift.eversector.actions.Loot;
+import maugrift.eversector.items.Resource;
+import maugrift.eversector.locations.Location;
 import maugrift.eversector.locations.SectorLocation;
+import squidpony.squidmath.RNG;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
-
-import static maugrift.eversector.Main.rng;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 
 /**
  * A class for managing battles between ships.
@@ -21,27 +30,64 @@ public class Battle
 	/**
 	 * The attacking ship and all that joined it.
 	 */
-	private List<Ship> attackers;
+	private final Side attackers;
 
 	/**
 	 * The defending ship and all that joined it.
 	 */
-	private List<Ship> defenders;
+	private final Side defenders;
 
 	/**
 	 * The ships attempting to flee on the next turn.
 	 */
-	private List<Ship> fleeing;
+	private final Set<Ship> fleeing;
 
 	/**
 	 * The ships that have surrendered to the other side.
 	 */
-	private List<Ship> surrendered;
+	private final Set<Ship> surrendered;
 
 	/**
 	 * All ships that have been destroyed in the battle.
 	 */
-	private List<Ship> destroyed;
+	private final List<Ship> destroyed;
+
+	/**
+	 * The random number generator used for the events of the battle.
+	 */
+	private RNG rng;
+
+	/**
+	 * The kills made in the battle whose reputation changes have not been
+	 * applied, null if reputation is applied as soon as a ship is destroyed.
+	 *
+	 * @see #deferResults()
+	 */
+	private List<Kill> kills;
+
+	/**
+	 * The destinations of the ships that escaped the battle while it was
+	 * fought in isolation, in the order they escaped. The ships are moved
+	 * when the battle's results are merged.
+	 */
+	private final Map<Ship, Location> escapes;
+
+	/**
+	 * True while the battle is being fought in isolation.
+	 *
+	 * @see #isIsolated()
+	 */
+	private boolean isolated;
+
+	/**
+	 * The estimated outcome of the battle for the attackers this round, NaN
+	 * if it has not been estimated since the round began or the sides
+	 * changed. The outcome for the defenders is the rest of the share.
+	 *
+	 * @see BattleEstimator#getOutcome(java.util.Collection,
+	 *      java.util.Collection)
+	 */
+	private float attackerOutcome;
 
 	/**
 	 * Creates a battle between the given attackers and defenders.
@@ -51,11 +97,23 @@ public class Battle
 	 */
 	public Battle(List<Ship> attackers, List<Ship> defenders)
 	{
-		this.attackers = attackers;
-		this.defenders = defenders;
-		this.fleeing = new LinkedList<>();
-		this.surrendered = new LinkedList<>();
+		this.attackers = new Side();
+		this.defenders = new Side();
+		this.fleeing = new LinkedHashSet<>();
+		this.surrendered = new LinkedHashSet<>();
 		this.destroyed = new LinkedList<>();
+		this.rng = Main.rng;
+		this.attackerOutcome = Float.NaN;
+		this.escapes = new LinkedHashMap<>();
+		this.isolated = false;
+
+		for (Ship attacker : attackers) {
+			this.attackers.add(attacker);
+		}
+
+		for (Ship defender : defenders) {
+			this.defenders.add(defender);
+		}
 	}
 
 	/**
@@ -66,51 +124,61 @@ public class Battle
 	 */
 	public Battle(Ship attacker, Ship defender)
 	{
-		attackers = new LinkedList<>();
+		attackers = new Side();
 		attackers.add(attacker);
-		defenders = new LinkedList<>();
+		defenders = new Side();
 		defenders.add(defender);
-		fleeing = new LinkedList<>();
-		surrendered = new LinkedList<>();
+		fleeing = new LinkedHashSet<>();
+		surrendered = new LinkedHashSet<>();
 		destroyed = new LinkedList<>();
+		rng = Main.rng;
+		attackerOutcome = Float.NaN;
+		escapes = new LinkedHashMap<>();
+		isolated = false;
 	}
 
 	/**
-	 * Gets the attacking ships.
+	 * Gets the attacking ships. The list should not be modified directly.
 	 *
 	 * @return the attacking ships
+	 * @see #join(Ship, boolean)
 	 */
 	public List<Ship> getAttackers()
 	{
-		return attackers;
+		return attackers.ships;
 	}
 
 	/**
-	 * Gets the defending ships.
+	 * Gets the defending ships. The list should not be modified directly.
 	 *
 	 * @return the defending ships
+	 * @see #join(Ship, boolean)
 	 */
 	public List<Ship> getDefenders()
 	{
-		return defenders;
+		return defenders.ships;
 	}
 
 	/**
-	 * Gets the ships attempting to flee on the next turn.
+	 * Gets the ships attempting to flee on the next turn. The set should not
+	 * be modified directly.
 	 *
 	 * @return the ships attempting to flee on the next turn
+	 * @see #flee(Ship)
 	 */
-	public List<Ship> getFleeing()
+	public Set<Ship> getFleeing()
 	{
 		return fleeing;
 	}
 
 	/**
-	 * Gets the ships that have surrendered to the other side.
+	 * Gets the ships that have surrendered to the other side. The set should
+	 * not be modified directly.
 	 *
 	 * @return ships that have surrendered to the other side
+	 * @see #surrender(Ship)
 	 */
-	public List<Ship> getSurrendered()
+	public Set<Ship> getSurrendered()
 	{
 		return surrendered;
 	}
@@ -125,6 +193,57 @@ public class Battle
 		return destroyed;
 	}
 
+	/**
+	 * Gets the random number generator used for the events of the battle.
+	 *
+	 * @return the battle's random number generator
+	 */
+	public RNG getRNG()
+	{
+		return rng;
+	}
+
+	/**
+	 * Sets the random number generator used for the events of the battle.
+	 *
+	 * @param rng the battle's new random number generator
+	 */
+	public void setRNG(RNG rng)
+	{
+		this.rng = rng;
+	}
+
+	/**
+	 * Has the reputation changes of kills and the distribution of loot wait
+	 * until the battle's results are merged, rather than being applied while
+	 * the battle is fought.
+	 *
+	 * @see #fight()
+	 * @see #mergeResults()
+	 */
+	public void deferResults()
+	{
+		if (kills == null) {
+			kills = new ArrayList<>();
+		}
+	}
+
+	/**
+	 * Returns true if the battle is being fought in isolation. While it is,
+	 * the battle changes only its own ships and state, and anything shared
+	 * with other battles, such as sectors, factions and the influence map, is
+	 * left until its results are merged. Isolated battles can therefore be
+	 * fought at the same time.
+	 *
+	 * @return true if the battle is being fought in isolation
+	 * @see #fight()
+	 * @see #mergeResults()
+	 */
+	public boolean isIsolated()
+	{
+		return isolated;
+	}
+
 	/**
 	 * Gets all attacking and defending ships.
 	 *
@@ -132,12 +251,86 @@ public class Battle
 	 */
 	public List<Ship> getShips()
 	{
-		List<Ship> ships = new ArrayList<>(attackers.size() + defenders.size());
-		ships.addAll(attackers);
-		ships.addAll(defenders);
+		List<Ship> ships = new ArrayList<>(
+				attackers.ships.size() + defenders.ships.size()
+			);
+		ships.addAll(attackers.ships);
+		ships.addAll(defenders.ships);
 		return ships;
 	}
 
+	/**
+	 * Returns true if the given ship is fighting on either side of the
+	 * battle.
+	 *
+	 * @param ship the ship to find
+	 * @return true if the ship is in the battle
+	 */
+	public boolean contains(Ship ship)
+	{
+		return attackers.contains(ship) || defenders.contains(ship);
+	}
+
+	/**
+	 * Returns true if the given ship is attempting to flee on the next turn.
+	 *
+	 * @param ship the ship to check
+	 * @return true if the ship is fleeing
+	 */
+	public boolean isFleeing(Ship ship)
+	{
+		return fleeing.contains(ship);
+	}
+
+	/**
+	 * Returns true if the given ship has surrendered.
+	 *
+	 * @param ship the ship to check
+	 * @return true if the ship has surrendered
+	 */
+	public boolean isSurrendered(Ship ship)
+	{
+		return surrendered.contains(ship);
+	}
+
+	/**
+	 * Adds a ship to one side of the battle.
+	 *
+	 * @param ship      the ship joining the battle
+	 * @param attacking true if the ship will fight with the attackers
+	 */
+	public void join(Ship ship, boolean attacking)
+	{
+		(attacking ? attackers : defenders).add(ship);
+		attackerOutcome = Float.NaN;
+	}
+
+	/**
+	 * Marks a ship as attempting to flee on the next turn. The ship keeps
+	 * fleeing until it leaves the battle, so its targets are discarded and it
+	 * is not targeted again.
+	 *
+	 * @param ship the fleeing ship
+	 */
+	public void flee(Ship ship)
+	{
+		if (contains(ship) && fleeing.add(ship)) {
+			sideOf(ship).nFleeing++;
+		}
+	}
+
+	/**
+	 * Marks a ship as having surrendered to the other side.
+	 *
+	 * @param ship the surrendering ship
+	 */
+	public void surrender(Ship ship)
+	{
+		if (contains(ship) && surrendered.add(ship)) {
+			sideOf(ship).nSurrendered++;
+		}
+	}
+
 	/**
 	 * Gets all the ships fighting on the same side as the given ship. This
 	 * list will not include the given ship.
@@ -149,7 +342,7 @@ public class Battle
 	public List<Ship> getAllies(Ship ship)
 	{
 		List<Ship> allies = new LinkedList<>();
-		allies.addAll(attackers.contains(ship) ? attackers : defenders);
+		allies.addAll(sideOf(ship).ships);
 		allies.remove(ship);
 		return allies;
 	}
@@ -162,7 +355,79 @@ public class Battle
 	 */
 	public List<Ship> getEnemies(Ship ship)
 	{
-		return attackers.contains(ship) ? defenders : attackers;
+		return enemySideOf(ship).ships;
+	}
+
+	/**
+	 * Gets the number of ships on the opposite side of the given ship that are
+	 * not attempting to flee.
+	 *
+	 * @param ship the ship to count the enemies of
+	 * @return the number of enemies that are not fleeing
+	 */
+	public int getNFightingEnemies(Ship ship)
+	{
+		Side enemies = enemySideOf(ship);
+		return enemies.size() - enemies.nFleeing;
+	}
+
+	/**
+	 * Gets the enemy of the given ship with the most hull that is not
+	 * attempting to flee, preferring the enemy that joined first among those
+	 * with equal hull.
+	 *
+	 * @param ship the ship choosing a target
+	 * @return the enemy to target, null if there is none
+	 */
+	public Ship getTarget(Ship ship)
+	{
+		Side enemies = enemySideOf(ship);
+		while (!enemies.targets.isEmpty()) {
+			Target next = enemies.targets.peek();
+			if (enemies.isValid(next)) {
+				return next.ship;
+			}
+			enemies.targets.poll();
+		}
+		return null;
+	}
+
+	/**
+	 * Records that the given ship's hull has changed, so that it is targeted
+	 * according to its new hull. Must be called whenever the hull of a ship in
+	 * a battle changes, which only happens when it is damaged.
+	 *
+	 * @param ship the damaged ship
+	 */
+	public void updateTarget(Ship ship)
+	{
+		if (contains(ship)) {
+			sideOf(ship).addTarget(ship);
+		}
+	}
+
+	/**
+	 * Gets the estimated outcome of the battle for the side of the given
+	 * ship. The battle is only estimated once per round, and again if a ship
+	 * joins it, so every ship on both sides shares the estimate.
+	 *
+	 * @param ship the ship whose side to estimate the outcome for
+	 * @return the share of the hull left in the battle that the ship's side
+	 *         is expected to hold when it ends
+	 * @see BattleEstimator#getOutcome(java.util.Collection,
+	 *      java.util.Collection)
+	 */
+	public float getOutcome(Ship ship)
+	{
+		if (Float.isNaN(attackerOutcome)) {
+			attackerOutcome = ship.getLocation().getGalaxy()
+				.getBattleEstimator()
+				.getOutcome(attackers.ships, defenders.ships);
+		}
+
+		return attackers.contains(ship)
+			? attackerOutcome
+			: 1.0f - attackerOutcome;
 	}
 
 	/**
@@ -174,10 +439,10 @@ public class Battle
 	public boolean continues()
 	{
 		return (
-			!attackers.isEmpty()
-			&& !defenders.isEmpty()
-			&& !surrendered.containsAll(attackers)
-			&& !surrendered.containsAll(defenders)
+			attackers.size() > 0
+			&& defenders.size() > 0
+			&& attackers.nSurrendered < attackers.size()
+			&& defenders.nSurrendered < defenders.size()
 		);
 	}
 
@@ -189,36 +454,37 @@ public class Battle
 	 */
 	public boolean processAttacks()
 	{
+		attackerOutcome = Float.NaN;
 		boolean attackMade = false;
-		int size = Math.max(attackers.size(), defenders.size());
+		List<Ship> attacking = attackers.ships;
+		List<Ship> defending = defenders.ships;
+		int size = Math.max(attacking.size(), defending.size());
 		for (int i = 0; i < size; i++) {
-			if (attackers.size() >= i + 1 && shipCanAttack(attackers.get(i))) {
-				Action action = attackers.get(i).getAI().performBattleAction();
+			if (attacking.size() >= i + 1 && shipCanAttack(attacking.get(i))) {
+				Action action = attacking.get(i).getAI().performBattleAction();
 				if (action != null) {
-					attackMade = attackMade || action.executeBool(attackers.get(i));
+					attackMade = attackMade || action.executeBool(attacking.get(i));
 				}
-				updateReputation(attackers.get(i), action);
+				updateReputation(attacking.get(i), action);
 			}
 
-			if (defenders.size() >= i + 1 && shipCanAttack(defenders.get(i))) {
-				Action action = defenders.get(i).getAI().performBattleAction();
+			if (defending.size() >= i + 1 && shipCanAttack(defending.get(i))) {
+				Action action = defending.get(i).getAI().performBattleAction();
 				if (action != null) {
-					attackMade = attackMade || action.executeBool(defenders.get(i));
+					attackMade = attackMade || action.executeBool(defending.get(i));
 				}
-				updateReputation(defenders.get(i), action);
+				updateReputation(defending.get(i), action);
 			}
 		}
 
+		Set<Ship> destroyedThisTurn = new HashSet<>();
 		for (Ship ship : getShips()) {
 			if (ship.isDestroyed()) {
-				// Duplicate remove done to avoid concurrent modification
-				attackers.remove(ship);
-				defenders.remove(ship);
-				fleeing.remove(ship);
-				surrendered.remove(ship);
+				destroyedThisTurn.add(ship);
 				destroyed.add(ship);
 			}
 		}
+		remove(destroyedThisTurn);
 
 		return attackMade;
 	}
@@ -230,16 +496,32 @@ public class Battle
 		}
 
 		Ship defender = ((Fire) attack).getTarget();
+		if (!defender.isDestroyed()) {
+			return;
+		}
 
-		if (defender.isDestroyed()) {
-			if (attacker.isPassive(defender)) {
-				attacker.changeReputation(attacker.getFaction(), Reputation.KILL_ALLY);
-			} else {
-				attacker.changeReputation(attacker.getFaction(), Reputation.KILL_ENEMY);
-			}
+		if (kills != null) {
+			kills.add(new Kill(attacker, defender));
+		} else {
+			applyKill(attacker, defender);
+		}
+	}
 
-			attacker.changeReputation(defender.getFaction(), Reputation.KILL_ALLY);
+	/**
+	 * Changes the reputation of a ship for destroying another.
+	 *
+	 * @param attacker the ship that made the kill
+	 * @param defender the destroyed ship
+	 */
+	private static void applyKill(Ship attacker, Ship defender)
+	{
+		if (attacker.isPassive(defender)) {
+			attacker.changeReputation(attacker.getFaction(), Reputation.KILL_ALLY);
+		} else {
+			attacker.changeReputation(attacker.getFaction(), Reputation.KILL_ENEMY);
 		}
+
+		attacker.changeReputation(defender.getFaction(), Reputation.KILL_ALLY);
 	}
 
 	/**
@@ -270,6 +552,7 @@ public class Battle
 		for (Ship enemy : getEnemies(ship)) {
 			if (
 				enemy.getAI() != null
+				&& contains(enemy)
 				&& !fleeing.contains(enemy)
 				&& enemy.getAI().pursue()
 			) {
@@ -290,7 +573,51 @@ public class Battle
 	 */
 	public void processEscape(Ship ship, List<Ship> pursuing)
 	{
-		if (!fleeing.contains(ship)) {
+		Set<Ship> leaving = new HashSet<>();
+		escape(ship, pursuing, leaving);
+		remove(leaving);
+	}
+
+	/**
+	 * Processes the escape of the given ship, gathering all ships that will
+	 * pursuer it.
+	 *
+	 * @param ship the fleeing ship
+	 * @see #processEscape(Ship, List)
+	 * @see #getPursuers(Ship)
+	 */
+	public void processEscape(Ship ship)
+	{
+		processEscape(ship, getPursuers(ship));
+	}
+
+	/**
+	 * Processes the escapes of all ships.
+	 *
+	 * @see #processEscape(Ship)
+	 */
+	public void processEscapes()
+	{
+		Set<Ship> leaving = new HashSet<>();
+		for (Ship ship : new ArrayList<>(fleeing)) {
+			escape(ship, getPursuers(ship), leaving);
+		}
+		remove(leaving);
+	}
+
+	/**
+	 * Moves a fleeing ship and its pursuers out of the battle, recording them
+	 * as leaving so that they can be removed from the sides of the battle
+	 * together.
+	 *
+	 * @param ship     the fleeing ship
+	 * @param pursuing the list of ships pursuing the fleeing ship
+	 * @param leaving  the ships leaving the battle, which the fleeing ship and
+	 *                 its pursuers will be added to
+	 */
+	private void escape(Ship ship, List<Ship> pursuing, Set<Ship> leaving)
+	{
+		if (!fleeing.contains(ship) || !contains(ship)) {
 			return;
 		}
 
@@ -314,9 +641,8 @@ public class Battle
 				destination = destination.joinBattle(newBattle);
 
 				for (Ship pursuer : pursuing) {
-					pursuer.setLocation(destination);
-					attackers.remove(pursuer);
-					defenders.remove(pursuer);
+					move(pursuer, destination);
+					leave(pursuer, leaving);
 				}
 
 				ship.addPlayerMessage("You have been pursued.");
@@ -325,64 +651,82 @@ public class Battle
 			ship.addPlayerMessage("You escape cloaked and undetected.");
 		}
 
-		ship.setLocation(destination);
-		attackers.remove(ship);
-		defenders.remove(ship);
+		move(ship, destination);
+		leave(ship, leaving);
 	}
 
 	/**
-	 * Processes the escape of the given ship, gathering all ships that will
-	 * pursuer it.
+	 * Moves a ship that is leaving the battle, or records where it will be
+	 * moved if the battle is being fought in isolation.
 	 *
-	 * @param ship the fleeing ship
-	 * @see #processEscape(Ship, List)
-	 * @see #getPursuers(Ship)
+	 * @param ship        the ship leaving the battle
+	 * @param destination the location to move the ship to
 	 */
-	public void processEscape(Ship ship)
+	private void move(Ship ship, Location destination)
 	{
-		processEscape(ship, getPursuers(ship));
+		if (isolated) {
+			escapes.put(ship, destination);
+		} else {
+			ship.setLocation(destination);
+		}
 	}
 
 	/**
-	 * Processes the escapes of all ships.
+	 * Removes a ship from the sets of its side immediately, and records it so
+	 * that it can be removed from the side's list later.
 	 *
-	 * @see #processEscape(Ship)
+	 * @param ship    the ship leaving the battle
+	 * @param leaving the ships leaving the battle
 	 */
-	public void processEscapes()
+	private void leave(Ship ship, Set<Ship> leaving)
 	{
-		for (Ship ship : new ArrayList<>(fleeing)) {
-			processEscape(ship);
+		if (contains(ship)) {
+			sideOf(ship).remove(ship);
+			leaving.add(ship);
 		}
 	}
 
 	/**
-	 * Distributes the loot of the destroyed ships among the victorious ships.
+	 * Removes the given ships from both sides of the battle.
+	 *
+	 * @param ships the ships to remove
 	 */
-	public void distributeLoot()
+	private void remove(Set<Ship> ships)
 	{
-		List<Ship> winners = null;
-
-		for (Ship ship : attackers) {
-			if (!surrendered.contains(ship)) {
-				winners = attackers;
-			}
+		if (ships.isEmpty()) {
+			return;
 		}
 
-		if (winners == null) {
-			for (Ship ship : defenders) {
-				if (!surrendered.contains(ship)) {
-					winners = defenders;
-				}
+		for (Ship ship : ships) {
+			if (contains(ship)) {
+				sideOf(ship).remove(ship);
 			}
 		}
 
-		if (winners == null) {
+		attackers.ships.removeIf(ships::contains);
+		defenders.ships.removeIf(ships::contains);
+		fleeing.removeAll(ships);
+		surrendered.removeAll(ships);
+	}
+
+	/**
+	 * Distributes the loot of the destroyed ships among the victorious ships.
+	 */
+	public void distributeLoot()
+	{
+		Side winningSide;
+		if (attackers.nSurrendered < attackers.size()) {
+			winningSide = attackers;
+		} else if (defenders.nSurrendered < defenders.size()) {
+			winningSide = defenders;
+		} else {
 			return;
 		}
 
+		List<Ship> winners = winningSide.ships;
 		List<Ship> looting = destroyed;
 		for (Ship ship : surrendered) {
-			if (!winners.contains(ship)) {
+			if (!winningSide.contains(ship)) {
 				looting.add(ship);
 			}
 		}
@@ -404,8 +748,9 @@ public class Battle
 				lootedShip.isLeader()
 				&& looter.getFaction() == lootedShip.getFaction()
 			) {
-				looter.getFaction().setLeader(looter);
-				looter.getFaction().addNews(looter.toColorString()
+				Ship newLeader = looter;
+				newLeader.getFaction().setLeader(newLeader);
+				newLeader.getFaction().addNews(() -> newLeader.toColorString()
 					.add(" has destroyed our leader, ")
 					.add(lootedShip)
 					.add(", and taken control of the faction."));
@@ -440,17 +785,332 @@ public class Battle
 	 */
 	public void processBattle()
 	{
+		fight();
+		mergeResults();
+	}
+
+	/**
+	 * Fights the battle until it ends, without distributing loot or moving
+	 * the remaining ships back to the sector. If results are deferred, the
+	 * battle is fought in isolation, so that it can be fought at the same
+	 * time as other battles. Only to be used when the player is not
+	 * participating in the battle.
+	 *
+	 * @see #isIsolated()
+	 * @see #mergeResults()
+	 */
+	public void fight()
+	{
+		isolated = kills != null;
 		while (continues()) {
 			if (!processAttacks() || !continues()) {
 				break;
 			}
 			processEscapes();
 		}
+		isolated = false;
+	}
+
+	/**
+	 * Applies the results of a battle that has been fought. If it was fought
+	 * in isolation, its destroyed ships are first removed from the galaxy,
+	 * its escaped ships are moved, and its remaining ships are updated in
+	 * their sector. Then the reputation changes of its kills are applied, its
+	 * loot is distributed, and the remaining ships return to the sector.
+	 *
+	 * @see #fight()
+	 */
+	public void mergeResults()
+	{
+		if (kills != null) {
+			for (Ship ship : destroyed) {
+				ship.completeDestruction(false);
+			}
+
+			for (Map.Entry<Ship, Location> escape : escapes.entrySet()) {
+				escape.getKey().setLocation(escape.getValue());
+				escape.getKey().updateOrbit();
+			}
+			escapes.clear();
+
+			for (Ship ship : getShips()) {
+				ship.updateOrbit();
+			}
+
+			for (Kill kill : kills) {
+				applyKill(kill.attacker, kill.defender);
+			}
+			kills.clear();
+		}
 
 		distributeLoot();
 		endBattle();
 	}
 
+	/**
+	 * Gets the side of the battle that the given ship is fighting on.
+	 *
+	 * @param ship the ship
+	 * @return the side of the ship, the defenders if the ship is not in the
+	 *         battle
+	 */
+	private Side sideOf(Ship ship)
+	{
+		return attackers.contains(ship) ? attackers : defenders;
+	}
+
+	/**
+	 * Gets the side of the battle opposite the given ship.
+	 *
+	 * @param ship the ship
+	 * @return the side opposite the ship, the attackers if the ship is not in
+	 *         the battle
+	 */
+	private Side enemySideOf(Ship ship)
+	{
+		return attackers.contains(ship) ? defenders : attackers;
+	}
+
+	/**
+	 * The ships on one side of a battle, along with the state of the side
+	 * needed to answer questions about it in constant time.
+	 *
+	 * @author Aaron Friesen
+	 */
+	private class Side
+	{
+		/**
+		 * The ships on the side, in the order they joined.
+		 */
+		private final List<Ship> ships;
+
+		/**
+		 * The ships on the side, each mapped to the order in which it joined.
+		 */
+		private final Map<Ship, Integer> members;
+
+		/**
+		 * The ships on the side as targets for the other side, with the most
+		 * hull first. May contain entries for ships that have since been
+		 * damaged, started fleeing or left, which are discarded when found.
+		 */
+		private final PriorityQueue<Target> targets;
+
+		/**
+		 * The number of ships on the side that are attempting to flee.
+		 */
+		private int nFleeing;
+
+		/**
+		 * The number of ships on the side that have surrendered.
+		 */
+		private int nSurrendered;
+
+		/**
+		 * The number of ships that have ever joined the side.
+		 */
+		private int nJoined;
+
+		/**
+		 * Creates an empty side.
+		 */
+		public Side()
+		{
+			ships = new ArrayList<>();
+			members = new HashMap<>();
+			targets = new PriorityQueue<>();
+			nFleeing = 0;
+			nSurrendered = 0;
+			nJoined = 0;
+		}
+
+		/**
+		 * Gets the number of ships on the side.
+		 *
+		 * @return the number of ships on the side
+		 */
+		public int size()
+		{
+			return members.size();
+		}
+
+		/**
+		 * Returns true if the given ship is on the side.
+		 *
+		 * @param ship the ship to find
+		 * @return true if the ship is on the side
+		 */
+		public boolean contains(Ship ship)
+		{
+			return members.containsKey(ship);
+		}
+
+		/**
+		 * Adds a ship to the side.
+		 *
+		 * @param ship the ship to add
+		 */
+		public void add(Ship ship)
+		{
+			if (members.containsKey(ship)) {
+				return;
+			}
+
+			members.put(ship, nJoined);
+			ships.add(ship);
+			nJoined++;
+			addTarget(ship);
+		}
+
+		/**
+		 * Removes a ship from the sets and counts of the side. The ship must
+		 * be removed from the list of ships separately.
+		 *
+		 * @param ship the ship to remove
+		 */
+		public void remove(Ship ship)
+		{
+			if (members.remove(ship) == null) {
+				return;
+			}
+
+			if (fleeing.contains(ship)) {
+				nFleeing--;
+			}
+
+			if (surrendered.contains(ship)) {
+				nSurrendered--;
+			}
+		}
+
+		/**
+		 * Adds a target for the given ship with its current hull, unless the
+		 * ship is fleeing.
+		 *
+		 * @param ship the ship to add a target for
+		 */
+		public void addTarget(Ship ship)
+		{
+			if (fleeing.contains(ship)) {
+				return;
+			}
+
+			targets.add(
+				new Target(
+					ship,
+					ship.getResource(Resource.HULL).getAmount(),
+					members.get(ship)
+				)
+			);
+		}
+
+		/**
+		 * Returns true if a target is for a ship still on the side that is not
+		 * fleeing, and has the ship's current hull.
+		 *
+		 * @param target the target to check
+		 * @return true if the target is up to date
+		 */
+		public boolean isValid(Target target)
+		{
+			return (
+				members.containsKey(target.ship)
+				&& !target.ship.isDestroyed()
+				&& !fleeing.contains(target.ship)
+				&& target.hull == target.ship.getResource(Resource.HULL).getAmount()
+			);
+		}
+
+		/**
+		 * Removes all ships from the side.
+		 */
+		public void clear()
+		{
+			ships.clear();
+			members.clear();
+			targets.clear();
+			nFleeing = 0;
+			nSurrendered = 0;
+		}
+	}
+
+	/**
+	 * A ship destroyed in the battle and the ship that destroyed it.
+	 *
+	 * @author Aaron Friesen
+	 */
+	private static class Kill
+	{
+		/**
+		 * The ship that made the kill.
+		 */
+		private final Ship attacker;
+
+		/**
+		 * The destroyed ship.
+		 */
+		private final Ship defender;
+
+		/**
+		 * Creates a kill.
+		 *
+		 * @param attacker the ship that made the kill
+		 * @param defender the destroyed ship
+		 */
+		public Kill(Ship attacker, Ship defender)
+		{
+			this.attacker = attacker;
+			this.defender = defender;
+		}
+	}
+
+	/**
+	 * A ship that may be targeted, with its hull when it was added.
+	 *
+	 * @author Aaron Friesen
+	 */
+	private static class Target implements Comparable<Target>
+	{
+		/**
+		 * The ship to target.
+		 */
+		private final Ship ship;
+
+		/**
+		 * The ship's hull when the target was added.
+		 */
+		private final int hull;
+
+		/**
+		 * The order in which the ship joined its side.
+		 */
+		private final int order;
+
+		/**
+		 * Creates a target.
+		 *
+		 * @param ship  the ship to target
+		 * @param hull  the ship's current hull
+		 * @param order the order in which the ship joined its side
+		 */
+		public Target(Ship ship, int hull, int order)
+		{
+			this.ship = ship;
+			this.hull = hull;
+			this.order = order;
+		}
+
+		@Override
+		public int compareTo(Target other)
+		{
+			if (hull != other.hull) {
+				return Integer.compare(other.hull, hull);
+			}
+
+			return Integer.compare(order, other.order);
+		}
+	}
+
 	/*
 	public void controlAIBattle(Ship ship)
 	{
@@ -503,10 +1163,12 @@ public class Battle
 			if (isLeader() && ship.isInFaction(faction)) {
 				faction.setLeader(ship);
 				faction.addNews(
-					ship
-					+ " has defeated our leader, "
-					+ toString()
-					+ ", and has wrested control of the faction."
+					() -> new ColorString(
+						ship
+						+ " has defeated our leader, "
+						+ toString()
+						+ ", and has wrested control of the faction."
+					)
 				);
 			} else {
 				if (ship.isPassive(this)) {
@@ -519,12 +1181,14 @@ public class Battle
 
 				if (isLeader()) {
 					faction.addNews(
-						ship
-						+ " of the "
-						+ ship.faction
-						+ " has destroyed our leader, "
-						+ toString()
-						+ "."
+						() -> new ColorString(
+							ship
+							+ " of the "
+							+ ship.faction
+							+ " has destroyed our leader, "
+							+ toString()
+							+ "."
+						)
 					);
 				}
 
@@ -538,10 +1202,12 @@ public class Battle
 			if (ship.isLeader() && isInFaction(faction)) {
 				ship.faction.setLeader(this);
 				ship.faction.addNews(
-					toString()
-					+ " has defeated our leader, "
-					+ ship
-					+ ", and has wrested control of the faction."
+					() -> new ColorString(
+						toString()
+						+ " has defeated our leader, "
+						+ ship
+						+ ", and has wrested control of the faction."
+					)
 				);
 			} else {
 				if (isPassive(ship)) {
@@ -554,12 +1220,14 @@ public class Battle
 
 				if (ship.isLeader()) {
 					ship.faction.addNews(
-						toString()
-						+ " of the "
-						+ faction
-						+ " has destroyed our leader, "
-						+ ship.toString()
-						+ "."
+						() -> new ColorString(
+							toString()
+							+ " of the "
+							+ faction
+							+ " has destroyed our leader, "
+							+ ship.toString()
+							+ "."
+						)
 					);
 				}
 
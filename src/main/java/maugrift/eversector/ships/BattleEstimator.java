@@ -0,0 +1,391 @@
+package maugrift.eversector.ships;
+
+import maugrift.eversector.items.Module;
+import maugrift.eversector.items.Resource;
+import maugrift.eversector.items.Weapon;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Estimates the outcome of a battle between two groups of ships, so that AI
+ * ships can avoid fights they cannot win. Each ship is reduced to its hull,
+ * the damage of the weapon it would fire, whether that weapon uses energy,
+ * and whether it can shield, and the battle is played out with every ship
+ * firing at the enemy with the most hull, as in a real battle. Energy weapons
+ * deal half damage to shielded ships, but running out of ammunition or
+ * energy is ignored, as is fleeing. Both sides fire at once in each round,
+ * so the estimates for the two sides of a battle always add up to one.
+ * Ships with the same hull and weaponry are interchangeable, so estimates are
+ * remembered by the ships' reduced forms and reused by every ship in the same
+ * situation, such as all the ships on one side of a battle.
+ *
+ * @author Aaron Friesen
+ */
+public class BattleEstimator
+{
+	/**
+	 * The number of estimates that are remembered.
+	 */
+	public static final int CACHE_SIZE = 1024;
+
+	/**
+	 * The number of rounds played out before the battle is judged by the hull
+	 * left on each side.
+	 */
+	public static final int MAX_ROUNDS = 20;
+
+	/**
+	 * The weapons that ships are assumed to fire, in order of preference.
+	 */
+	private static final String[] WEAPONS = new String[] {
+		Weapon.PULSE_BEAM, Weapon.TORPEDO_TUBE, Weapon.LASER
+	};
+
+	/**
+	 * The number of bits in a ship's signature used for its damage and flags.
+	 */
+	private static final int HULL_SHIFT = 12;
+
+	/**
+	 * The largest damage that can be stored in a ship's signature.
+	 */
+	private static final int MAX_DAMAGE = (1 << (HULL_SHIFT - 2)) - 1;
+
+	/**
+	 * The largest hull that can be stored in a ship's signature.
+	 */
+	private static final int MAX_HULL = (1 << (31 - HULL_SHIFT)) - 1;
+
+	/**
+	 * The bit of a ship's signature set if its weapon uses energy.
+	 */
+	private static final int ENERGY_FLAG = 2;
+
+	/**
+	 * The bit of a ship's signature set if it can shield itself.
+	 */
+	private static final int SHIELD_FLAG = 1;
+
+	/**
+	 * The remembered estimates, with the least recently used first.
+	 */
+	private final Map<Key, Float> cache;
+
+	/**
+	 * The number of estimates that were found in the cache.
+	 */
+	private long hits;
+
+	/**
+	 * The number of estimates that had to be played out.
+	 */
+	private long misses;
+
+	/**
+	 * Creates an estimator with no remembered estimates.
+	 */
+	public BattleEstimator()
+	{
+		cache = new LinkedHashMap<Key, Float>(CACHE_SIZE, 0.75f, true)
+		{
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Float> eldest)
+			{
+				return size() > CACHE_SIZE;
+			}
+		};
+		hits = 0;
+		misses = 0;
+	}
+
+	/**
+	 * Gets the number of estimates that were found in the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public synchronized long getHits()
+	{
+		return hits;
+	}
+
+	/**
+	 * Gets the number of estimates that had to be played out.
+	 *
+	 * @return the number of cache misses
+	 */
+	public synchronized long getMisses()
+	{
+		return misses;
+	}
+
+	/**
+	 * Gets the fraction of estimates that were found in the cache.
+	 *
+	 * @return the cache hit rate, 0 if no estimates have been made
+	 */
+	public synchronized double getHitRate()
+	{
+		long total = hits + misses;
+		return total == 0 ? 0.0 : (double) hits / total;
+	}
+
+	/**
+	 * Estimates the outcome of a battle for one side. Estimates may be made
+	 * by battles being fought at the same time, so the cache is locked while
+	 * an estimate is made. Every estimate is a pure function of the ships, so
+	 * the order in which battles make them never changes the results.
+	 *
+	 * @param side    the ships on the side to estimate the outcome for
+	 * @param enemies the ships on the opposing side
+	 * @return the share of the hull left in the battle that the side is
+	 *         expected to hold when it ends, from 0 if the side is expected to
+	 *         be destroyed to 1 if it is expected to destroy its enemies,
+	 *         or 0.5 if both sides are expected to be destroyed
+	 */
+	public synchronized float getOutcome(
+		Collection<Ship> side,
+		Collection<Ship> enemies
+	)
+	{
+		Key key = new Key(getSignatures(side), getSignatures(enemies));
+		Float outcome = cache.get(key);
+		if (outcome != null) {
+			hits++;
+			return outcome;
+		}
+
+		misses++;
+		outcome = playOut(key.side, key.enemies);
+		cache.put(key, outcome);
+		return outcome;
+	}
+
+	/**
+	 * Reduces each ship in a group to a single integer holding its hull, the
+	 * damage of the weapon it would fire, and whether it can shield. The
+	 * signatures are sorted, so that the order of the ships does not matter.
+	 *
+	 * @param ships the ships to find the signatures of
+	 * @return the sorted signatures of the ships that have not been destroyed
+	 */
+	private static int[] getSignatures(Collection<Ship> ships)
+	{
+		int[] signatures = new int[ships.size()];
+		int nSignatures = 0;
+		for (Ship ship : ships) {
+			if (!ship.isDestroyed()) {
+				signatures[nSignatures] = getSignature(ship);
+				nSignatures++;
+			}
+		}
+
+		signatures = Arrays.copyOf(signatures, nSignatures);
+		Arrays.sort(signatures);
+		return signatures;
+	}
+
+	/**
+	 * Reduces a ship to a single integer holding its hull, the damage of the
+	 * weapon it would fire, and whether it can shield.
+	 *
+	 * @param ship the ship to find the signature of
+	 * @return the signature of the ship
+	 */
+	private static int getSignature(Ship ship)
+	{
+		int hull = Math.min(ship.getResource(Resource.HULL).getAmount(), MAX_HULL);
+		int signature = hull << HULL_SHIFT;
+
+		for (String name : WEAPONS) {
+			Weapon weapon = ship.getWeapon(name);
+			if (weapon != null && !weapon.isDamaged()) {
+				signature |= Math.min(weapon.getDamage(), MAX_DAMAGE) << 2;
+				if (Resource.ENERGY.equals(weapon.getActionResource())) {
+					signature |= ENERGY_FLAG;
+				}
+				break;
+			}
+		}
+
+		if (ship.isShielded() || ship.hasModule(Module.SHIELD)) {
+			signature |= SHIELD_FLAG;
+		}
+
+		return signature;
+	}
+
+	/**
+	 * Plays out a battle between two groups of ships, given by their
+	 * signatures. In each round, every ship that had hull left at the start
+	 * of the round fires, so neither side has the advantage of firing first.
+	 *
+	 * @param side    the signatures of the side to find the outcome for
+	 * @param enemies the signatures of the opposing side
+	 * @return the share of the remaining hull held by the side
+	 * @see #getOutcome(Collection, Collection)
+	 */
+	private static float playOut(int[] side, int[] enemies)
+	{
+		int[] sideHull = new int[side.length];
+		int[] enemyHull = new int[enemies.length];
+		int[] sideFiring = new int[side.length];
+		int[] enemyFiring = new int[enemies.length];
+		for (int i = 0; i < side.length; i++) {
+			sideHull[i] = side[i] >>> HULL_SHIFT;
+		}
+		for (int i = 0; i < enemies.length; i++) {
+			enemyHull[i] = enemies[i] >>> HULL_SHIFT;
+		}
+
+		int sideTotal = sum(sideHull);
+		int enemyTotal = sum(enemyHull);
+		for (int round = 0; round < MAX_ROUNDS; round++) {
+			if (sideTotal == 0 || enemyTotal == 0) {
+				break;
+			}
+
+			// Ships destroyed this round still fire, using their hull from
+			// the start of the round
+			System.arraycopy(sideHull, 0, sideFiring, 0, side.length);
+			System.arraycopy(enemyHull, 0, enemyFiring, 0, enemies.length);
+			enemyTotal -= fire(side, sideFiring, enemies, enemyHull);
+			sideTotal -= fire(enemies, enemyFiring, side, sideHull);
+		}
+
+		if (sideTotal + enemyTotal == 0) {
+			return 0.5f;
+		}
+
+		return (float) sideTotal / (sideTotal + enemyTotal);
+	}
+
+	/**
+	 * Has every ship in a group that has not been destroyed fire once at the
+	 * target with the most hull.
+	 *
+	 * @param firing     the signatures of the firing ships
+	 * @param firingHull the current hull of the firing ships
+	 * @param targets    the signatures of the targets
+	 * @param targetHull the current hull of the targets, which will be reduced
+	 * @return the total damage dealt
+	 */
+	private static int fire(
+		int[] firing,
+		int[] firingHull,
+		int[] targets,
+		int[] targetHull
+	)
+	{
+		int totalDamage = 0;
+		for (int i = 0; i < firing.length; i++) {
+			int damage = (firing[i] >>> 2) & MAX_DAMAGE;
+			if (firingHull[i] == 0 || damage == 0) {
+				continue;
+			}
+
+			int target = -1;
+			for (int j = 0; j < targets.length; j++) {
+				if (
+					targetHull[j] > 0
+					&& (target == -1 || targetHull[j] > targetHull[target])
+				) {
+					target = j;
+				}
+			}
+
+			if (target == -1) {
+				break;
+			}
+
+			int dealt = damage;
+			if (
+				(firing[i] & ENERGY_FLAG) != 0
+				&& (targets[target] & SHIELD_FLAG) != 0
+			) {
+				dealt = Math.max(dealt / 2, 1);
+			}
+
+			dealt = Math.min(dealt, targetHull[target]);
+			targetHull[target] -= dealt;
+			totalDamage += dealt;
+		}
+
+		return totalDamage;
+	}
+
+	/**
+	 * Sums an array of integers.
+	 *
+	 * @param values the integers to sum
+	 * @return the sum of the integers
+	 */
+	private static int sum(int[] values)
+	{
+		int sum = 0;
+		for (int value : values) {
+			sum += value;
+		}
+		return sum;
+	}
+
+	/**
+	 * The signatures of the ships on both sides of a battle, used to find a
+	 * remembered estimate.
+	 *
+	 * @author Aaron Friesen
+	 */
+	private static class Key
+	{
+		/**
+		 * The sorted signatures of the side the estimate is for.
+		 */
+		private final int[] side;
+
+		/**
+		 * The sorted signatures of the opposing side.
+		 */
+		private final int[] enemies;
+
+		/**
+		 * The hash code of the key, found once since it is always needed.
+		 */
+		private final int hash;
+
+		/**
+		 * Creates a key from the signatures of both sides.
+		 *
+		 * @param side    the sorted signatures of the side
+		 * @param enemies the sorted signatures of the opposing side
+		 */
+		public Key(int[] side, int[] enemies)
+		{
+			this.side = side;
+			this.enemies = enemies;
+			hash = 31 * Arrays.hashCode(side) + Arrays.hashCode(enemies);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object o)
+		{
+			if (!(o instanceof Key)) {
+				return false;
+			}
+
+			Key other = (Key) o;
+			return (
+				hash == other.hash
+				&& Arrays.equals(side, other.side)
+				&& Arrays.equals(enemies, other.enemies)
+			);
+		}
+	}
+}
@@ -0,0 +1,274 @@
+package maugrift.eversector.ships;
+
+import maugrift.eversector.Option;
+import maugrift.eversector.actions.Claim;
+import maugrift.eversector.actions.Mine;
+import maugrift.eversector.faction.InfluenceMap;
+import maugrift.eversector.faction.Ledger;
+import maugrift.eversector.items.Resource;
+import maugrift.eversector.locations.PlanetLocation;
+import maugrift.eversector.map.Galaxy;
+import maugrift.eversector.map.Ore;
+import maugrift.eversector.map.Region;
+import maugrift.eversector.map.Station;
+import squidpony.squidmath.Coord;
+
+import java.util.List;
+
+import static maugrift.eversector.Main.rng;
+
+/**
+ * A simpler model for ships far from the player, which advances them by the
+ * expected results of their actions instead of running their AI. Distant
+ * ships are only advanced every few turns, each in turn according to its ID,
+ * and the effects of the skipped turns are applied at once. Ships return to
+ * full simulation as soon as the player comes within range, and choose a new
+ * destination from wherever the model left them.
+ *
+ * @author Aaron Friesen
+ */
+public class CoarseSimulation
+{
+	/**
+	 * The distance from the player within which ships are fully simulated,
+	 * used if the option has not been set. Also the default value of the
+	 * option.
+	 *
+	 * @see Option#SIMULATION_RADIUS
+	 */
+	public static final int RADIUS = 8;
+
+	/**
+	 * The number of turns between each advancement of a distant ship.
+	 */
+	public static final int INTERVAL = 8;
+
+	/**
+	 * The chance each turn that an aligned distant ship claims territory in
+	 * its sector, if it can afford to.
+	 */
+	public static final double CLAIM_CHANCE = 0.02;
+
+	/**
+	 * The chance each turn that a distant ship is damaged, if every ship in
+	 * its sector is hostile to it. The chance is reduced by the strength of
+	 * its allies in the sector.
+	 */
+	public static final double ATTRITION_CHANCE = 0.02;
+
+	/**
+	 * The damage dealt to a distant ship each time it is damaged.
+	 */
+	public static final int ATTRITION_DAMAGE = 2;
+
+	/**
+	 * The coordinates of the player's sector this turn, null if there is no
+	 * player.
+	 */
+	private Coord center;
+
+	/**
+	 * The distance from the player within which ships are fully simulated
+	 * this turn.
+	 */
+	private int radius;
+
+	/**
+	 * The current turn.
+	 */
+	private int turn;
+
+	/**
+	 * Creates a coarse simulation with no player.
+	 */
+	public CoarseSimulation()
+	{
+		center = null;
+		radius = RADIUS;
+		turn = 0;
+	}
+
+	/**
+	 * Records the player's position and the simulation radius for the turn.
+	 *
+	 * @param player the player, null if there is none
+	 * @param turn   the current turn
+	 */
+	public void startTurn(Ship player, int turn)
+	{
+		this.turn = turn;
+		center = player == null || player.getLocation() == null
+			? null
+			: player.getLocation().getCoord();
+
+		Integer option = Option.options == null
+			? null
+			: Option.SIMULATION_RADIUS.toInt();
+		radius = option == null ? RADIUS : option;
+	}
+
+	/**
+	 * Advances a ship with the coarse model if it is far from the player.
+	 * Ships that move out of range forget their destinations, as do ships that
+	 * come back into range.
+	 *
+	 * @param ship the ship to simulate
+	 * @return true if the ship was simulated coarsely, false if it must act
+	 *         with its AI this turn
+	 */
+	public boolean simulate(Ship ship)
+	{
+		AI ai = ship.getAI();
+		boolean distant = isDistant(ship);
+		if (distant != ai.isCoarse()) {
+			ai.setCoarse(distant);
+			ai.forgetDestination();
+		}
+
+		if (!distant) {
+			return false;
+		}
+
+		if (Math.floorMod(ship.getId() + turn, INTERVAL) == 0) {
+			advance(ship);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns true if a ship is too far from the player to be fully
+	 * simulated. Ships in battle are always fully simulated so that their
+	 * battles can end.
+	 *
+	 * @param ship the ship to check
+	 * @return true if the ship should be simulated coarsely
+	 */
+	private boolean isDistant(Ship ship)
+	{
+		if (center == null || ship.isInBattle()) {
+			return false;
+		}
+
+		Coord coord = ship.getLocation().getCoord();
+		return Math.max(
+			Math.abs(coord.x - center.x),
+			Math.abs(coord.y - center.y)
+		) > radius;
+	}
+
+	/**
+	 * Applies the expected results of a ship's actions over the turns since
+	 * it was last advanced.
+	 *
+	 * @param ship the ship to advance
+	 */
+	private void advance(Ship ship)
+	{
+		Galaxy galaxy = ship.getLocation().getGalaxy();
+		InfluenceMap influenceMap = galaxy.getInfluenceMap();
+		Coord coord = ship.getLocation().getCoord();
+
+		if (!ship.isDocked()) {
+			float hostile = influenceMap.getHostileStrength(
+					ship.getFaction(),
+					coord
+				);
+			if (hostile > 0.0f) {
+				float friendly = influenceMap.getStrength(ship.getFaction(), coord);
+				double chance = ATTRITION_CHANCE * INTERVAL * hostile
+					/ (hostile + friendly);
+				if (rng.nextDouble() < chance) {
+					ship.damage(ATTRITION_DAMAGE, false);
+					if (ship.isDestroyed()) {
+						return;
+					}
+				}
+			}
+		}
+
+		if (!ship.isDocked() && Mine.INSTANCE.validate(ship).isValid()) {
+			mine(ship);
+		}
+
+		if (
+			ship.isAligned()
+			&& ship.isInSector()
+			&& !ship.isDocked()
+			&& rng.nextDouble() < CLAIM_CHANCE * INTERVAL
+		) {
+			claim(ship);
+		}
+	}
+
+	/**
+	 * Mines for as many of the turns since a ship was last advanced as its
+	 * energy allows, spending the energy and extracting the ore from the
+	 * ship's region if it is landed. The ore is sold to the station in trading
+	 * range that pays the most for it, whose faction pays for it, or kept in
+	 * the ship's hold if there is no such station. The ship must be able to
+	 * mine.
+	 *
+	 * @param ship the ship mining
+	 */
+	private void mine(Ship ship)
+	{
+		Resource energy = ship.getResource(Mine.RESOURCE);
+		int turns = Math.min(INTERVAL, energy.getAmount() / Mine.COST);
+		Ore ore;
+		if (ship.isLanded()) {
+			Region region = ship.getPlanetLocation().getRegion();
+			turns = region.extractOre(Math.min(turns, region.getNOre()));
+			ore = region.getOre();
+		} else {
+			ore = ship.getLocation().getGalaxy().getRandomOre();
+		}
+
+		if (turns <= 0) {
+			return;
+		}
+
+		energy.changeAmount(-Mine.COST * turns);
+
+		Resource hold = ship.getResource(Resource.ORE);
+		int units = ore.getDensity() * turns;
+		Station buyer = ship.getLocation().getGalaxy().getMarket().getIndex()
+			.getHighestPrice(
+				hold,
+				ship.getLocation().getCoord(),
+				AI.TRADE_RADIUS,
+				station -> !ship.isHostile(station.getFaction())
+			);
+
+		if (buyer == null) {
+			hold.changeAmountWithDiscard(units);
+			return;
+		}
+
+		ship.changeCredits(
+			buyer.getFaction(),
+			buyer.getPrice(hold) * units,
+			Ledger.Category.TRADES
+		);
+		buyer.recordTrade(hold, -units);
+	}
+
+	/**
+	 * Lands a ship on the cheapest region in its sector that it can claim,
+	 * and claims it.
+	 *
+	 * @param ship the ship claiming territory
+	 */
+	private void claim(Ship ship)
+	{
+		List<PlanetLocation> targets = ship.getLocation().getGalaxy()
+			.getBlackboard(ship.getFaction())
+			.getClaimTargets(ship.getLocation().getSector());
+		for (PlanetLocation target : targets) {
+			if (Claim.INSTANCE.validate(ship, target.getRegion()).isValid()) {
+				ship.setLocation(target);
+				Claim.INSTANCE.execute(ship);
+				return;
+			}
+		}
+	}
+}
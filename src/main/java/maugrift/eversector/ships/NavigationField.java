@@ -0,0 +1,144 @@
+package maugrift.eversector.ships;
+
+import maugrift.eversector.actions.Burn;
+import maugrift.eversector.map.Galaxy;
+import squidpony.squidgrid.Direction;
+import squidpony.squidmath.Coord;
+
+import java.util.Arrays;
+
+/**
+ * The cost of reaching a single sector from every sector in the galaxy, along
+ * with the direction of the first burn along the cheapest route. A field is
+ * found once for each destination and shared by every ship headed there, so
+ * that choosing a burn only requires looking up the ship's sector.
+ *
+ * @author Aaron Friesen
+ */
+public class NavigationField
+{
+	/**
+	 * The cost of a sector that cannot reach the destination.
+	 */
+	public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+	/**
+	 * The sector that the field leads to.
+	 */
+	private final Coord destination;
+
+	/**
+	 * The width of the galaxy, used to index the arrays.
+	 */
+	private final int width;
+
+	/**
+	 * The fuel needed to reach the destination from each sector, indexed by
+	 * the sector's coordinates.
+	 */
+	private final int[] costs;
+
+	/**
+	 * The direction of the first burn toward the destination from each
+	 * sector, indexed by the sector's coordinates.
+	 */
+	private final Direction[] steps;
+
+	/**
+	 * Finds the cheapest routes to a sector from every sector in a galaxy.
+	 *
+	 * @param galaxy      the galaxy to navigate
+	 * @param destination the coordinates of the sector to reach
+	 */
+	public NavigationField(Galaxy galaxy, Coord destination)
+	{
+		this.destination = destination;
+		width = galaxy.getWidth();
+		costs = new int[width * galaxy.getHeight()];
+		steps = new Direction[costs.length];
+		Arrays.fill(costs, UNREACHABLE);
+		Arrays.fill(steps, Direction.NONE);
+
+		// Every burn costs the same, so sectors are settled in the order they
+		// are reached and a queue of indices is enough for Dijkstra's algorithm
+		int[] queue = new int[costs.length];
+		int head = 0;
+		int tail = 0;
+		int start = getIndex(destination.x, destination.y);
+		costs[start] = 0;
+		queue[tail] = start;
+		tail++;
+
+		while (head < tail) {
+			int index = queue[head];
+			head++;
+			int x = index % width;
+			int y = index / width;
+
+			for (Direction direction : Direction.CARDINALS) {
+				int nextX = x + direction.deltaX;
+				int nextY = y + direction.deltaY;
+				if (!galaxy.contains(nextX, nextY)) {
+					continue;
+				}
+
+				int next = getIndex(nextX, nextY);
+				if (costs[next] != UNREACHABLE) {
+					continue;
+				}
+
+				costs[next] = costs[index] + Burn.COST;
+				steps[next] = direction.opposite();
+				queue[tail] = next;
+				tail++;
+			}
+		}
+	}
+
+	/**
+	 * Gets the coordinates of the sector that the field leads to.
+	 *
+	 * @return the coordinates of the destination
+	 */
+	public Coord getDestination()
+	{
+		return destination;
+	}
+
+	/**
+	 * Gets the fuel needed to burn to the destination from a sector.
+	 *
+	 * @param coord the coordinates of the sector
+	 * @return the fuel needed to reach the destination, or
+	 *         {@link #UNREACHABLE} if it cannot be reached
+	 */
+	public int getCost(Coord coord)
+	{
+		return costs[getIndex(coord.x, coord.y)];
+	}
+
+	/**
+	 * Gets the direction of the first burn toward the destination from a
+	 * sector.
+	 *
+	 * @param coord the coordinates of the sector
+	 * @return the direction to burn in, {@link Direction#NONE} if the sector
+	 *         is the destination or cannot reach it
+	 */
+	public Direction getStep(Coord coord)
+	{
+		return steps[getIndex(coord.x, coord.y)];
+	}
+
+	/**
+	 * Gets the index in the field of the given coordinates.
+	 *
+	 * @param x the x coordinate
+	 * @param y the y coordinate
+	 * @return the index of the coordinates
+	 */
+	private int getIndex(int x, int y)
+	{
+		return y * width + x;
+	}
+}
@@ -0,0 +1,130 @@
+package maugrift.eversector.ships;
+
+import java.util.LinkedList;
+import java.util.Queue;
+
+/**
+ * Limits how many ships may choose a new destination each turn, so that a
+ * turn in which many ships must plan at once does not stall the game. Ships
+ * that exceed the budget are queued, and are planned for first on the
+ * following turns in the order they were queued.
+ *
+ * @author Aaron Friesen
+ */
+public class PlanningBudget
+{
+	/**
+	 * The number of destination searches allowed each turn.
+	 */
+	public static final int SEARCHES_PER_TURN = 48;
+
+	/**
+	 * The AIs waiting to choose a destination, in the order they were queued.
+	 */
+	private final Queue<AI> queue;
+
+	/**
+	 * The number of searches left this turn.
+	 */
+	private int remaining;
+
+	/**
+	 * The number of times an AI was denied a search this turn.
+	 */
+	private int deferred;
+
+	/**
+	 * The number of times an AI was denied a search last turn.
+	 */
+	private int lastDeferred;
+
+	/**
+	 * The number of times an AI was denied a search over the whole game.
+	 */
+	private long totalDeferred;
+
+	/**
+	 * Creates a budget with no queued AIs.
+	 */
+	public PlanningBudget()
+	{
+		queue = new LinkedList<>();
+		remaining = SEARCHES_PER_TURN;
+		deferred = 0;
+		lastDeferred = 0;
+		totalDeferred = 0;
+	}
+
+	/**
+	 * Gets the number of times an AI was denied a search on the last turn.
+	 *
+	 * @return the number of deferred searches last turn
+	 */
+	public int getLastDeferred()
+	{
+		return lastDeferred;
+	}
+
+	/**
+	 * Gets the number of times an AI has been denied a search over the whole
+	 * game.
+	 *
+	 * @return the total number of deferred searches
+	 */
+	public long getTotalDeferred()
+	{
+		return totalDeferred;
+	}
+
+	/**
+	 * Gets the number of AIs waiting to choose a destination.
+	 *
+	 * @return the number of queued AIs
+	 */
+	public int getQueueLength()
+	{
+		return queue.size();
+	}
+
+	/**
+	 * Refills the budget for a new turn, then spends as much of it as needed
+	 * on the AIs that were queued on previous turns.
+	 */
+	public void startTurn()
+	{
+		lastDeferred = deferred;
+		deferred = 0;
+		remaining = SEARCHES_PER_TURN;
+
+		while (remaining > 0 && !queue.isEmpty()) {
+			AI ai = queue.poll();
+			if (ai.planDeferred()) {
+				remaining--;
+			}
+		}
+	}
+
+	/**
+	 * Requests a search for an AI, queueing the AI if there is no budget left
+	 * this turn. AIs that are already queued must wait their turn.
+	 *
+	 * @param ai      the AI requesting a search
+	 * @param waiting true if the AI is already queued
+	 * @return true if the AI may search now
+	 */
+	boolean request(AI ai, boolean waiting)
+	{
+		if (!waiting && remaining > 0) {
+			remaining--;
+			return true;
+		}
+
+		if (!waiting) {
+			queue.add(ai);
+		}
+
+		deferred++;
+		totalDeferred++;
+		return false;
+	}
+}
@@ -6,13 +6,17 @@ import maugrift.apwt.glyphs.ColorStringObject;
 import maugrift.eversector.Paths;
 import maugrift.eversector.Symbol;
 import maugrift.eversector.actions.Scan;
+import maugrift.eversector.actions.Validation;
 import maugrift.eversector.faction.Faction;
+import maugrift.eversector.faction.InfluenceMap;
+import maugrift.eversector.faction.Ledger;
 import maugrift.eversector.items.Expander;
 import maugrift.eversector.items.Module;
 import maugrift.eversector.items.Resource;
 import maugrift.eversector.items.Weapon;
 import maugrift.eversector.locations.*;
 import maugrift.eversector.map.Galaxy;
+import maugrift.eversector.map.NameRegistry;
 import maugrift.eversector.map.Planet;
 import maugrift.eversector.map.Station;
 import maugrift.apwt.util.Utility;
@@ -20,11 +24,13 @@ import maugrift.eversector.faction.Relationship;
 import maugrift.eversector.locations.*;
 import squidpony.squidgrid.FOV;
 import squidpony.squidmath.Coord;
+import squidpony.squidmath.RNG;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
+import java.util.function.Supplier;
 
 import static maugrift.eversector.Main.*;
 
@@ -65,6 +71,11 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		"wing",
 	};
 
+	/**
+	 * The number of different numbers that can end a ship's name.
+	 */
+	private static final int NAME_NUMBERS = 100;
+
 	/**
 	 * The amount of fuel all ships start with.
 	 */
@@ -142,11 +153,26 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 	 */
 	private AI ai;
 
+	/**
+	 * True if the ship is the player, cached so that it can be checked without
+	 * looking up the galaxy's player.
+	 *
+	 * @see Galaxy#setPlayer(Ship)
+	 */
+	private boolean player;
+
 	/**
 	 * The ship's location.
 	 */
 	private Location location;
 
+	/**
+	 * The ship's ID in the galaxy's ship table, -1 if it is not in the table.
+	 *
+	 * @see ShipTable
+	 */
+	private int id;
+
 	/**
 	 * All flags, as strings, possessed by the ship.
 	 */
@@ -182,6 +208,29 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 	 */
 	private final Resource[] resources;
 
+	/**
+	 * The faction that the ship's strength was last added to on the galaxy's
+	 * influence map.
+	 */
+	private Faction influenceFaction;
+
+	/**
+	 * The coordinates of the sector that the ship's strength was last added
+	 * to on the galaxy's influence map, null if it has not been added.
+	 */
+	private Coord influenceCoord;
+
+	/**
+	 * The strength last added to the galaxy's influence map for the ship.
+	 */
+	private float influence;
+
+	/**
+	 * The faction whose members the ship is listed among, null if it is not
+	 * listed in any.
+	 */
+	private Faction memberFaction;
+
 	/**
 	 * Creates a ship in the given faction at the given location.
 	 *
@@ -190,17 +239,7 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 	 */
 	public Ship(Location location, Faction faction)
 	{
-		String testName;
-		do {
-			testName = (
-				rng.getRandomElement(NAME_PREFIX)
-				+ rng.getRandomElement(NAME_SUFFIX)
-				+ "-"
-				+ String.format("%02d", rng.nextInt(100))
-			);
-		} while (location.getGalaxy().getShipNames().contains(testName));
-
-		this.name = testName;
+		this.name = generateName(location.getGalaxy().getShipNames());
 		this.ai = new AI(this);
 		this.location = location;
 		this.flags = new ArrayList<>();
@@ -209,9 +248,13 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		this.modules = new LinkedList<>();
 		this.cargo = new LinkedList<>();
 		this.resources = Station.copyResources();
+		this.id = -1;
 
 		createReputations();
 		setResourceDefaults();
+		name = location.getGalaxy().getShipNames().registerUnique(name, this);
+		updateInfluence();
+		updateMembership();
 	}
 
 	/**
@@ -229,6 +272,7 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		modules = new LinkedList<>();
 		cargo = new LinkedList<>();
 		resources = Station.copyResources();
+		id = -1;
 
 		setResourceDefaults();
 
@@ -281,6 +325,9 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 
 		// Must be done after location is set up
 		createReputations();
+		name = galaxy.getShipNames().registerUnique(name, this);
+		updateInfluence();
+		updateMembership();
 	}
 
 	/**
@@ -293,6 +340,48 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		this(location, null);
 	}
 
+	/**
+	 * Generates a ship name that is not yet taken in the galaxy.
+	 *
+	 * @param names the names already taken in the galaxy
+	 * @return a unique ship name
+	 */
+	private static String generateName(NameRegistry<Ship> names)
+	{
+		String name = names.draw(
+				NAME_PREFIX.length * NAME_SUFFIX.length * NAME_NUMBERS,
+				Ship::getNameAt
+			);
+		if (name != null) {
+			return name;
+		}
+
+		// Every name has been taken, so continue with higher numbers
+		int index = NAME_PREFIX.length * NAME_SUFFIX.length * NAME_NUMBERS;
+		while (names.contains(getNameAt(index))) {
+			index++;
+		}
+		return getNameAt(index);
+	}
+
+	/**
+	 * Gets the ship name at the given index of the space of possible names,
+	 * which are ordered by number, then suffix, then prefix.
+	 *
+	 * @param index the index of the name
+	 * @return the ship name at the index
+	 */
+	private static String getNameAt(int index)
+	{
+		int nCombinations = NAME_PREFIX.length * NAME_SUFFIX.length;
+		return (
+			NAME_PREFIX[index % NAME_PREFIX.length]
+			+ NAME_SUFFIX[(index / NAME_PREFIX.length) % NAME_SUFFIX.length]
+			+ "-"
+			+ String.format("%02d", index / nCombinations)
+		);
+	}
+
 	@Override
 	public String toString()
 	{
@@ -319,6 +408,27 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		return name;
 	}
 
+	/**
+	 * Gets the ship's ID in the galaxy's ship table.
+	 *
+	 * @return the ship's ID, -1 if it is not in the table
+	 */
+	public int getId()
+	{
+		return id;
+	}
+
+	/**
+	 * Sets the ship's ID in the galaxy's ship table. Should only be called by
+	 * the table.
+	 *
+	 * @param id the ship's new ID
+	 */
+	void setId(int id)
+	{
+		this.id = id;
+	}
+
 	/**
 	 * Gets the AI controlling the ship.
 	 *
@@ -552,7 +662,22 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 	 */
 	public boolean isPlayer()
 	{
-		return location.getGalaxy().getPlayer() == this;
+		return player;
+	}
+
+	/**
+	 * Marks whether the ship is the player. Should only be called by the
+	 * galaxy when its player changes.
+	 *
+	 * @param player true if the ship is now the player
+	 * @see Galaxy#setPlayer(Ship)
+	 */
+	public void setPlayer(boolean player)
+	{
+		if (this.player != player) {
+			this.player = player;
+			updateOrbit();
+		}
 	}
 
 	/**
@@ -639,12 +764,19 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 	}
 
 	/**
-	 * Sets the name of the ship to the given string.
+	 * Sets the name of the ship to the given string, followed by a number if
+	 * another ship already has the name.
 	 *
 	 * @param name the string to become the ship's name
 	 */
 	public void setName(String name)
 	{
+		if (location != null) {
+			NameRegistry<Ship> names = location.getGalaxy().getShipNames();
+			names.unregister(this.name, this);
+			name = names.registerUnique(name, this);
+		}
+
 		this.name = name;
 	}
 
@@ -666,6 +798,7 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 	public void setFaction(Faction faction)
 	{
 		this.faction = faction;
+		updateOrbit();
 	}
 
 	/**
@@ -679,35 +812,170 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 			return;
 		}
 
+		if (ai != null) {
+			ai.interrupt();
+		}
+
+		if (
+			location != null
+			&& location.getGalaxy() != destination.getGalaxy()
+		) {
+			leaveGalaxy();
+		}
+
 		if (
 			destination instanceof StationLocation
 			&& !(location instanceof StationLocation)
 		) {
 			getSectorLocation().getStation().getShips().add(this);
-			location.getSector().getShips().remove(this);
+			location.getSector().removeShip(this);
 		} else if (destination instanceof PlanetLocation) {
 			if (location instanceof PlanetLocation) {
 				((PlanetLocation) location).getRegion().getShips().remove(this);
 				((PlanetLocation) destination).getRegion().getShips().add(this);
 			} else {
 				((PlanetLocation) destination).getRegion().getShips().add(this);
-				location.getSector().getShips().remove(this);
+				location.getSector().removeShip(this);
 			}
+			((PlanetLocation) destination).getRegion().wakeHostiles(this);
 		} else if (destination instanceof SectorLocation) {
+			int orbit = ((SectorLocation) destination).getOrbit();
 			if (!(location instanceof SectorLocation)) {
-				location.getSector().getShips().add(this);
+				location.getSector().addShip(this, orbit);
 			} else if (location instanceof PlanetLocation) {
-				location.getSector().getShips().add(this);
+				location.getSector().addShip(this, orbit);
 				getPlanetLocation().getRegion().getShips().remove(this);
 			} else if (location instanceof StationLocation) {
-				location.getSector().getShips().add(this);
+				location.getSector().addShip(this, orbit);
 				getSectorLocation().getStation().getShips().remove(this);
+			} else {
+				location.getSector().moveShip(this, orbit);
 			}
 		} else if (location instanceof SectorLocation) {
-			location.getSector().getShips().remove(this);
+			location.getSector().removeShip(this);
 		}
 
 		location = destination;
+		updateInfluence();
+	}
+
+	/**
+	 * Notifies the ship's sector that the ship's level or faction may have
+	 * changed, if the ship is in orbit. Has no effect while the ship is in a
+	 * battle being fought in isolation, which updates it once its results are
+	 * merged.
+	 *
+	 * @see Battle#isIsolated()
+	 */
+	public void updateOrbit()
+	{
+		if (isInIsolatedBattle()) {
+			return;
+		}
+
+		updateInfluence();
+		updateMembership();
+		if (location instanceof SectorLocation && !isDocked() && !isLanded()) {
+			location.getSector().updateShipAt(getSectorLocation().getOrbit());
+		}
+	}
+
+	/**
+	 * Returns true if the ship is in a battle being fought in isolation, in
+	 * which it must not change anything shared with other battles.
+	 *
+	 * @return true if the ship's battle is isolated
+	 */
+	private boolean isInIsolatedBattle()
+	{
+		return isInBattle() && getBattleLocation().getBattle().isIsolated();
+	}
+
+	/**
+	 * Moves the ship's strength on the galaxy's influence map to its current
+	 * faction and sector, or removes it if the ship has been destroyed.
+	 */
+	private void updateInfluence()
+	{
+		if (location == null) {
+			return;
+		}
+
+		Coord coord = isDestroyed() ? null : location.getCoord();
+		float strength = coord == null ? 0.0f : InfluenceMap.getStrength(this);
+		boolean sameCoord = influenceCoord == null
+			? coord == null
+			: influenceCoord.equals(coord);
+		if (sameCoord && influenceFaction == faction && influence == strength) {
+			return;
+		}
+
+		InfluenceMap influenceMap = location.getGalaxy().getInfluenceMap();
+		if (influenceCoord != null) {
+			influenceMap.changeStrength(
+				influenceFaction,
+				influenceCoord,
+				-influence
+			);
+		}
+
+		if (coord != null) {
+			influenceMap.changeStrength(faction, coord, strength);
+		}
+
+		influenceFaction = faction;
+		influenceCoord = coord;
+		influence = strength;
+	}
+
+	/**
+	 * Removes the ship's strength from the influence map of its current
+	 * galaxy and the ship from its faction, so that it can be moved to
+	 * another galaxy. The ship is left unaligned, since its faction does not
+	 * exist in the other galaxy.
+	 */
+	private void leaveGalaxy()
+	{
+		if (influenceCoord != null) {
+			location.getGalaxy().getInfluenceMap().changeStrength(
+				influenceFaction,
+				influenceCoord,
+				-influence
+			);
+		}
+
+		if (memberFaction != null) {
+			memberFaction.removeMember(this);
+		}
+
+		influenceFaction = null;
+		influenceCoord = null;
+		influence = 0.0f;
+		memberFaction = null;
+		faction = null;
+	}
+
+	/**
+	 * Moves the ship into the members of its current faction, removing it from
+	 * those of the faction it was in. Destroyed ships are not members of any
+	 * faction.
+	 */
+	private void updateMembership()
+	{
+		Faction current = isDestroyed() ? null : faction;
+		if (memberFaction == current) {
+			return;
+		}
+
+		if (memberFaction != null) {
+			memberFaction.removeMember(this);
+		}
+
+		if (current != null) {
+			current.addMember(this);
+		}
+
+		memberFaction = current;
 	}
 
 	/**
@@ -790,10 +1058,29 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 	 * @return true if the ship had enough credits to make the change
 	 */
 	public boolean changeCredits(Faction faction, int change)
+	{
+		return changeCredits(faction, change, Ledger.Category.OTHER);
+	}
+
+	/**
+	 * Changes the number of credits possessed by the ship, taking or giving
+	 * the inverse to the specified faction's economy and recording it in the
+	 * faction's ledger.
+	 *
+	 * @param faction  the faction who will receive the inverse of the change
+	 * @param change   the change in credits
+	 * @param category the source of the change in the faction's economy
+	 * @return true if the ship had enough credits to make the change
+	 */
+	public boolean changeCredits(
+		Faction faction,
+		int change,
+		Ledger.Category category
+	)
 	{
 		if (changeCredits(change)) {
 			if (faction != null) {
-				faction.changeEconomy(-change);
+				faction.changeEconomy(-change, category);
 			}
 			return true;
 		}
@@ -879,7 +1166,7 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 
 		if (rep.get() < Reputation.REJECTION && rep.getFaction() == faction) {
 			// Print before faction is left so that null is not printed
-			addPlayerColorMessage(new ColorString("The ")
+			addPlayerColorMessage(() -> new ColorString("The ")
 				.add(faction)
 				.add(" has rejected you on account of your transgressions."));
 
@@ -887,6 +1174,7 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 
 			// Must directly leave faction so that this method does not recurse
 			faction = null;
+			updateOrbit();
 
 			if (isLeader()) {
 				oldFaction.holdElection();
@@ -1223,6 +1511,7 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 			cargo.add(module);
 		} else {
 			modules.add(module);
+			updateOrbit();
 		}
 	}
 
@@ -1237,10 +1526,13 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		if (isDocked()) {
 			Module module = getSectorLocation().getStation().getModule(name);
 			if (module != null) {
-				addModule(module);
+				addModule(module.copy());
 			}
 		} else {
-			addModule(Station.getBaseModule(name));
+			Module module = Station.getBaseModule(name);
+			if (module != null) {
+				addModule(module.copy());
+			}
 		}
 	}
 
@@ -1257,6 +1549,7 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		}
 
 		if (modules.remove(getModule(name))) {
+			updateOrbit();
 			return true;
 		}
 
@@ -1365,7 +1658,7 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 
 		if (isDocked()) {
 			return Math.min(
-					credits / getSectorLocation().getStation().getResource(resource.getName()).getPrice(),
+					credits / getSectorLocation().getStation().getPrice(resource),
 					resource.getCapacity() - resource.getAmount()
 				);
 		}
@@ -1392,7 +1685,7 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		if (isDocked()) {
 			return Math.min(
 					MAX_EXPANDERS - getResourceFromExpander(expander.getName()).getNExpanders(),
-					credits / getSectorLocation().getStation().getExpander(expander.getName()).getPrice()
+					credits / getSectorLocation().getStation().getPrice(expander)
 				);
 		}
 
@@ -1449,6 +1742,8 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		) {
 			getResource(Resource.HULL).setAmount(0);
 			destroy(print);
+		} else if (isInBattle()) {
+			getBattleLocation().getBattle().updateTarget(this);
 		}
 
 		// Damages a module if the damage is above a threshold that is
@@ -1457,11 +1752,14 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 			!modules.isEmpty()
 			&& damage >= getResource(Resource.HULL).getCapacity() / modules.size()
 		) {
-			Module damagedModule = modules.get(rng.nextInt(modules.size()));
+			RNG random = isInBattle()
+				? getBattleLocation().getBattle().getRNG()
+				: rng;
+			Module damagedModule = modules.get(random.nextInt(modules.size()));
 
 			if (damagedModule.damage()) {
 				addPlayerMessage(
-					"Your "
+					() -> "Your "
 					+ damagedModule.getName().toLowerCase()
 					+ " has been damaged by the impact."
 				);
@@ -1473,11 +1771,12 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 				}
 			} else {
 				addPlayerMessage(
-					"Your "
+					() -> "Your "
 					+ damagedModule.getName().toLowerCase()
 					+ " has been destroyed by the impact!"
 				);
 				modules.remove(damagedModule);
+				updateOrbit();
 			}
 		}
 	}
@@ -1495,6 +1794,7 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		}
 
 		this.faction = faction;
+		updateOrbit();
 		changeReputation(faction, Reputation.JOIN);
 	}
 
@@ -1512,6 +1812,7 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		boolean wasLeader = isLeader();
 
 		faction = null;
+		updateOrbit();
 		changeReputation(oldFaction, Reputation.LEAVE);
 
 		if (wasLeader) {
@@ -1573,9 +1874,12 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 	}
 
 	/**
-	 * Removes the ship from all collections and marks it as destroyed.
+	 * Removes the ship from all collections and marks it as destroyed. A ship
+	 * destroyed in a battle that is being fought in isolation is only marked,
+	 * and is removed from the galaxy when the battle's results are merged.
 	 *
 	 * @param print if true, will print a message about the ship's destruction
+	 * @see Battle#isIsolated()
 	 */
 	public void destroy(boolean print)
 	{
@@ -1583,7 +1887,26 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 			return;
 		}
 
-		location.getSector().getShips().remove(this);
+		addFlag(DESTROYED);
+		if (!isInIsolatedBattle()) {
+			completeDestruction(print);
+		}
+	}
+
+	/**
+	 * Removes a ship that has been marked as destroyed from all collections.
+	 *
+	 * @param print if true, will print a message about the ship's destruction
+	 * @see #destroy(boolean)
+	 */
+	public void completeDestruction(boolean print)
+	{
+		location.getSector().removeShip(this);
+		location.getGalaxy().getShipNames().unregister(name, this);
+
+		if (ai != null) {
+			ai.releaseReservation();
+		}
 
 		if (isDocked()) {
 			getSectorLocation().getStation().getShips().remove(this);
@@ -1591,7 +1914,8 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 			getPlanetLocation().getRegion().getShips().remove(this);
 		}
 
-		addFlag(DESTROYED);
+		updateInfluence();
+		updateMembership();
 
 		if (isPlayer()) {
 			playSoundEffect(Paths.DEATH);
@@ -1642,17 +1966,33 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 	public String validateFunds(int price)
 	{
 		return (
-			price > credits
-			? (
+			checkFunds(price).isValid()
+			? null
+			: (
 				"Insufficient funds; have "
 				+ credits
 				+ " credits, need "
 				+ price
 				+ "."
-		  ) : null
+			)
 		);
 	}
 
+	/**
+	 * Checks if the player's credits are sufficient for a purchase of a
+	 * specified price, without creating a message.
+	 *
+	 * @param price the price of the item to be purchased
+	 * @return {@link Validation#INSUFFICIENT_CREDITS} if the check fails,
+	 *         {@link Validation#VALID} if successful
+	 */
+	public Validation checkFunds(int price)
+	{
+		return price > credits
+			? Validation.INSUFFICIENT_CREDITS
+			: Validation.VALID;
+	}
+
 	/**
 	 * Checks if the ship is docked, and optionally prints a message if not.
 	 *
@@ -1679,14 +2019,39 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 	 */
 	public String validateModule(String module, String action)
 	{
-		// The ship can technically have this installed because it doesn't exist
-		if (module == null || !hasModule(module)) {
+		switch (checkModule(module)) {
+		case MODULE_MISSING:
 			return (
 				Utility.addCapitalizedArticle(module)
 				+ " is required"
 				+ (action == null ? "" : " to " + action)
 				+ "."
 			);
+		case MODULE_DAMAGED:
+			return (
+				"Your "
+				+ getModule(module).getName().toLowerCase()
+				+ " is too damaged to function."
+			);
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Checks if the ship is equipped with a specified module and that it is
+	 * undamaged, without creating a message.
+	 *
+	 * @param module the name of the module to validate
+	 * @return {@link Validation#MODULE_MISSING} or
+	 *         {@link Validation#MODULE_DAMAGED} if the check fails,
+	 *         {@link Validation#VALID} if successful
+	 */
+	public Validation checkModule(String module)
+	{
+		// The ship can technically have this installed because it doesn't exist
+		if (module == null || !hasModule(module)) {
+			return Validation.MODULE_MISSING;
 		}
 
 		Module moduleObj = getModule(module);
@@ -1699,19 +2064,15 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 						cargoModule.getName().equalsIgnoreCase(moduleObj.getName())
 						&& !cargoModule.isDamaged()
 					) {
-						return null;
+						return Validation.VALID;
 					}
 				}
 			}
 
-			return (
-				"Your "
-				+ moduleObj.getName().toLowerCase()
-				+ " is too damaged to function."
-			);
+			return Validation.MODULE_DAMAGED;
 		}
 
-		return null;
+		return Validation.VALID;
 	}
 
 	/**
@@ -1744,7 +2105,7 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		String actionString
 	)
 	{
-		if (resource != null && resource.getAmount() < cost) {
+		if (!checkResources(resource, cost).isValid()) {
 			return (
 				"Insufficient "
 				+ resource.getName().toLowerCase()
@@ -1782,6 +2143,36 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		return validateResources(getResource(resource), cost, actionString);
 	}
 
+	/**
+	 * Checks if the ship has enough of the specified resource, without
+	 * creating a message.
+	 *
+	 * @param resource the resource to validate
+	 * @param cost     the amount of the resource that the ship must possess
+	 * @return {@link Validation#INSUFFICIENT_RESOURCES} if the check fails,
+	 *         {@link Validation#VALID} if successful
+	 */
+	public Validation checkResources(Resource resource, int cost)
+	{
+		return resource != null && resource.getAmount() < cost
+			? Validation.INSUFFICIENT_RESOURCES
+			: Validation.VALID;
+	}
+
+	/**
+	 * Checks if the ship has enough of the specified resource, without
+	 * creating a message.
+	 *
+	 * @param resource the name of the resource to validate
+	 * @param cost     the amount of the resource that the ship must possess
+	 * @return {@link Validation#INSUFFICIENT_RESOURCES} if the check fails,
+	 *         {@link Validation#VALID} if successful
+	 */
+	public Validation checkResources(String resource, int cost)
+	{
+		return checkResources(getResource(resource), cost);
+	}
+
 	/**
 	 * Gets a list of ColorStrings describing the status of this ship.
 	 *
@@ -1841,6 +2232,21 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		}
 	}
 
+	/**
+	 * Adds the ColorString created by the given supplier as a message, only if
+	 * this ship is the player. The ColorString is not created otherwise, so
+	 * this should be used when the message must be built from several parts.
+	 *
+	 * @param message the supplier of the ColorString to add as a message if
+	 *                this ship is the player
+	 */
+	public void addPlayerColorMessage(Supplier<ColorString> message)
+	{
+		if (isPlayer()) {
+			addColorMessage(message.get());
+		}
+	}
+
 	/**
 	 * Adds the given String as a message, only if this ship is the player.
 	 * Intended for player-specific messages.
@@ -1854,6 +2260,21 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		}
 	}
 
+	/**
+	 * Adds the message created by the given supplier, only if this ship is the
+	 * player. The message is not created otherwise, so this should be used
+	 * when the message must be built from several parts.
+	 *
+	 * @param message the supplier of the message to add if this ship is the
+	 *                player
+	 */
+	public void addPlayerMessage(Supplier<String> message)
+	{
+		if (isPlayer()) {
+			addMessage(message.get());
+		}
+	}
+
 	/**
 	 * Adds the given String as an error, only if this ship is the player.
 	 * Intended for player-specific errors.
@@ -2015,20 +2436,16 @@ public class Ship implements ColorStringObject, Comparable<Ship>
 		Station station = getSectorLocation().getStation();
 
 		for (Module module : modules) {
-			if (module != null && station.hasModule(module.getName())) {
-				module.setPrice(station.getModule(module.getName()).getPrice());
+			if (module != null && station.sells(module)) {
+				module.setPrice(station.getPrice(module));
 			}
 		}
 
 		for (Resource resource : resources) {
-			if (resource != null && station.hasResource(resource.getName())) {
-				resource.setPrice(
-					station.getResource(resource.getName()).getPrice()
-				);
+			if (resource != null) {
+				resource.setPrice(station.getPrice(resource));
 				resource.getExpander().setPrice(
-					station.getExpander(
-						resource.getExpander().getName()
-					).getPrice()
+					station.getPrice(resource.getExpander())
 				);
 			}
 		}
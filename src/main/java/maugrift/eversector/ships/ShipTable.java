@@ -0,0 +1,315 @@
+package maugrift.eversector.ships;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An array-backed table of ships, in which each ship has an ID that does not
+ * change for as long as it is in the table. Removed ships leave tombstones
+ * until the table is compacted, after which their IDs may be reused. IDs are
+ * always less than {@link #getIdLimit()}, so they can be used as indices into
+ * other arrays. The table also tracks which ships are awake, so that ships
+ * that are asleep can be skipped without being visited.
+ *
+ * @author Aaron Friesen
+ */
+public class ShipTable implements Iterable<Ship>
+{
+	/**
+	 * The initial capacity of new tables.
+	 */
+	private static final int CAPACITY = 64;
+
+	/**
+	 * The fewest tombstones that will cause the table to be compacted.
+	 */
+	private static final int MIN_TOMBSTONES = 16;
+
+	/**
+	 * The ratio of live ships to tombstones above which the table will not be
+	 * compacted.
+	 */
+	private static final int LIVE_PER_TOMBSTONE = 4;
+
+	/**
+	 * The ships in the table, indexed by ID. Tombstones are null.
+	 */
+	private Ship[] ships;
+
+	/**
+	 * The IDs in the order that they were added, including tombstones until
+	 * the table is compacted.
+	 */
+	private int[] order;
+
+	/**
+	 * The number of IDs in the order.
+	 */
+	private int orderSize;
+
+	/**
+	 * The IDs that have been freed by compaction and can be reused.
+	 */
+	private int[] freeIds;
+
+	/**
+	 * The number of IDs that can be reused.
+	 */
+	private int nFreeIds;
+
+	/**
+	 * One greater than the highest ID ever given to a ship.
+	 */
+	private int idLimit;
+
+	/**
+	 * The number of ships in the table.
+	 */
+	private int size;
+
+	/**
+	 * The number of tombstones in the table.
+	 */
+	private int nTombstones;
+
+	/**
+	 * The IDs of the ships that are awake.
+	 */
+	private BitSet awake;
+
+	/**
+	 * Creates an empty ship table.
+	 */
+	public ShipTable()
+	{
+		ships = new Ship[CAPACITY];
+		order = new int[CAPACITY];
+		freeIds = new int[CAPACITY];
+		orderSize = 0;
+		nFreeIds = 0;
+		idLimit = 0;
+		size = 0;
+		nTombstones = 0;
+		awake = new BitSet(CAPACITY);
+	}
+
+	/**
+	 * Returns the number of ships in the table.
+	 *
+	 * @return the number of ships in the table
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns true if there are no ships in the table.
+	 *
+	 * @return true if there are no ships in the table
+	 */
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * Returns one greater than the highest ID currently possible, to be used
+	 * as the length of arrays indexed by ID.
+	 *
+	 * @return the upper bound of IDs in the table, exclusive
+	 */
+	public int getIdLimit()
+	{
+		return idLimit;
+	}
+
+	/**
+	 * Gets the ship with the given ID.
+	 *
+	 * @param id the ID of the ship
+	 * @return the ship with the ID, null if there is none
+	 */
+	public Ship get(int id)
+	{
+		return id < 0 || id >= idLimit ? null : ships[id];
+	}
+
+	/**
+	 * Returns true if the given ship is in the table.
+	 *
+	 * @param ship the ship to find
+	 * @return true if the ship is in the table
+	 */
+	public boolean contains(Ship ship)
+	{
+		return ship != null && get(ship.getId()) == ship;
+	}
+
+	/**
+	 * Adds a ship to the table and gives it an ID.
+	 *
+	 * @param ship the ship to add
+	 * @return the ID given to the ship
+	 */
+	public int add(Ship ship)
+	{
+		int id;
+		if (nFreeIds > 0) {
+			nFreeIds--;
+			id = freeIds[nFreeIds];
+		} else {
+			id = idLimit;
+			idLimit++;
+			if (idLimit > ships.length) {
+				ships = Arrays.copyOf(ships, ships.length * 2);
+			}
+		}
+
+		if (orderSize == order.length) {
+			order = Arrays.copyOf(order, order.length * 2);
+		}
+
+		ships[id] = ship;
+		order[orderSize] = id;
+		orderSize++;
+		size++;
+		awake.set(id);
+		ship.setId(id);
+		return id;
+	}
+
+	/**
+	 * Marks a ship in the table as awake or asleep. Has no effect if the ship
+	 * is not in the table.
+	 *
+	 * @param ship    the ship
+	 * @param isAwake true if the ship is awake
+	 */
+	public void setAwake(Ship ship, boolean isAwake)
+	{
+		if (contains(ship)) {
+			awake.set(ship.getId(), isAwake);
+		}
+	}
+
+	/**
+	 * Finds the lowest ID of an awake ship that is at least the given ID.
+	 *
+	 * @param id the ID to start at
+	 * @return the ID of the next awake ship, -1 if there are none
+	 */
+	public int nextAwakeId(int id)
+	{
+		return awake.nextSetBit(id);
+	}
+
+	/**
+	 * Removes every destroyed ship from the table, leaving tombstones in their
+	 * place, and compacts the table if there are enough tombstones.
+	 */
+	public void removeDestroyed()
+	{
+		for (int i = 0; i < orderSize; i++) {
+			Ship ship = ships[order[i]];
+			if (ship != null && ship.isDestroyed()) {
+				ships[order[i]] = null;
+				awake.clear(order[i]);
+				ship.setId(-1);
+				size--;
+				nTombstones++;
+			}
+		}
+
+		if (
+			nTombstones >= MIN_TOMBSTONES
+			&& nTombstones * LIVE_PER_TOMBSTONE >= size
+		) {
+			compact();
+		}
+	}
+
+	/**
+	 * Removes all tombstones from the order of the table, making their IDs
+	 * available for reuse.
+	 */
+	public void compact()
+	{
+		if (nFreeIds + nTombstones > freeIds.length) {
+			freeIds = Arrays.copyOf(
+				freeIds,
+				Math.max(freeIds.length * 2, nFreeIds + nTombstones)
+			);
+		}
+
+		int nKept = 0;
+		for (int i = 0; i < orderSize; i++) {
+			int id = order[i];
+			if (ships[id] == null) {
+				freeIds[nFreeIds] = id;
+				nFreeIds++;
+			} else {
+				order[nKept] = id;
+				nKept++;
+			}
+		}
+
+		orderSize = nKept;
+		nTombstones = 0;
+	}
+
+	/**
+	 * Iterates over the ships in the order they were added, skipping
+	 * tombstones. Ships added during iteration will be included.
+	 *
+	 * @return an iterator over the ships in the table
+	 */
+	@Override
+	public Iterator<Ship> iterator()
+	{
+		return new Iterator<Ship>()
+		{
+			/**
+			 * The index in the order of the next ship.
+			 */
+			private int index = skipTombstones(0);
+
+			@Override
+			public boolean hasNext()
+			{
+				index = skipTombstones(index);
+				return index < orderSize;
+			}
+
+			@Override
+			public Ship next()
+			{
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				Ship ship = ships[order[index]];
+				index++;
+				return ship;
+			}
+		};
+	}
+
+	/**
+	 * Finds the first index in the order, starting at the given index, that
+	 * is not a tombstone.
+	 *
+	 * @param index the index to start at
+	 * @return the first index of a ship in the order, or the size of the order
+	 *         if there are none
+	 */
+	private int skipTombstones(int index)
+	{
+		while (index < orderSize && ships[order[index]] == null) {
+			index++;
+		}
+		return index;
+	}
+}